@@ -0,0 +1,17 @@
+package com.weshare.api.v1.config;
+
+import com.weshare.api.v1.controller.schedule.query.ScheduleDetailResponseConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ScheduleDetailResponseConverter());
+    }
+}
@@ -0,0 +1,44 @@
+package com.weshare.api.v1.config.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("application.outbox")
+public class OutboxProperties {
+
+    // 한번에 잠그고 처리하는 이벤트 수, 핸들러 처리가 끝날 때까지 잠금이 유지되므로 작게 잡는다.
+    private final int batchSize;
+    // 한 주기에 이어서 처리하는 최대 묶음 수, 가져갈 이벤트가 없으면 바로 멈춘다.
+    private final int maxBatchesPerPoll;
+    // 이 횟수만큼 실패하면 outbox_dead_letter 로 옮긴다.
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    public OutboxProperties(
+            @DefaultValue("50") int batchSize,
+            @DefaultValue("40") int maxBatchesPerPoll,
+            @DefaultValue("10") int maxAttempts,
+            @DefaultValue("1000") long retryBackoffMs
+    ) {
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxBatchesPerPoll() {
+        return maxBatchesPerPoll;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+}
@@ -0,0 +1,45 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("application.schedule.detail-cache")
+public class ScheduleDetailCacheProperties {
+
+    // true 이면 여행일정 상세 조회 결과를 로컬 캐시와 Redis 에 둔다.
+    private final boolean enabled;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    // 무효화 메시지를 놓친 경우에도 이 시간이 지나면 다시 조회한다.
+    private final Duration redisTtl;
+
+    public ScheduleDetailCacheProperties(
+            boolean enabled,
+            @DefaultValue("10000") long localMaximumSize,
+            @DefaultValue("1m") Duration localTtl,
+            @DefaultValue("10m") Duration redisTtl
+    ) {
+        this.enabled = enabled;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.redisTtl = redisTtl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getLocalMaximumSize() {
+        return localMaximumSize;
+    }
+
+    public Duration getLocalTtl() {
+        return localTtl;
+    }
+
+    public Duration getRedisTtl() {
+        return redisTtl;
+    }
+}
@@ -0,0 +1,18 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        ScheduleDetailCacheProperties.class,
+        ScheduleFeedProperties.class,
+        ScheduleFilterCountProperties.class,
+        ScheduleSearchProperties.class,
+        ScheduleTrendingProperties.class,
+        ScheduleViewProperties.class,
+        StatisticsReconciliationProperties.class,
+        StatisticsTotalCountProperties.class
+})
+public class ScheduleFeedConfiguration {
+}
@@ -0,0 +1,47 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("application.schedule.feed")
+public class ScheduleFeedProperties {
+
+    // true 이면 피드 목록을 schedule_card 읽기 모델에서 조회한다.
+    private final boolean cardReadModel;
+    // true 이면 목록 조회 쿼리들을 scheduleFeedExecutor 에서 동시에 실행한다.
+    private final boolean concurrentFetch;
+    // 0 이면 커넥션 풀 크기의 절반으로 정한다.
+    private final int fetchPoolSize;
+    private final int fetchQueueCapacity;
+
+    public ScheduleFeedProperties(
+            boolean cardReadModel,
+            boolean concurrentFetch,
+            @DefaultValue("0") int fetchPoolSize,
+            @DefaultValue("100") int fetchQueueCapacity
+    ) {
+        if (fetchPoolSize < 0 || fetchQueueCapacity < 0) {
+            throw new IllegalArgumentException("피드 조회 풀 설정이 올바르지 않습니다.");
+        }
+        this.cardReadModel = cardReadModel;
+        this.concurrentFetch = concurrentFetch;
+        this.fetchPoolSize = fetchPoolSize;
+        this.fetchQueueCapacity = fetchQueueCapacity;
+    }
+
+    public boolean isCardReadModel() {
+        return cardReadModel;
+    }
+
+    public boolean isConcurrentFetch() {
+        return concurrentFetch;
+    }
+
+    public int getFetchPoolSize() {
+        return fetchPoolSize;
+    }
+
+    public int getFetchQueueCapacity() {
+        return fetchQueueCapacity;
+    }
+}
@@ -0,0 +1,40 @@
+package com.weshare.api.v1.config.schedule;
+
+import com.weshare.api.v1.domain.schedule.statistics.ExpenseBuckets;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties("application.schedule.statistics.filter-count")
+public class ScheduleFilterCountProperties {
+
+    // API 경비 조건에 쓰는 경계값 목록, 바꾸면 다음 재집계 전까지 개수가 맞지 않는다.
+    private final ExpenseBuckets expenseBuckets;
+    private final long refreshIntervalMs;
+    // 재집계할 때 한번에 읽는 통계 row 수
+    private final int recountChunkSize;
+
+    public ScheduleFilterCountProperties(
+            @DefaultValue({"0", "50000", "100000", "200000", "300000", "500000", "1000000", "2000000", "3000000", "5000000"})
+            List<Long> expenseBuckets,
+            @DefaultValue("1000") long refreshIntervalMs,
+            @DefaultValue("1000") int recountChunkSize
+    ) {
+        this.expenseBuckets = new ExpenseBuckets(expenseBuckets);
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.recountChunkSize = recountChunkSize;
+    }
+
+    public ExpenseBuckets getExpenseBuckets() {
+        return expenseBuckets;
+    }
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public int getRecountChunkSize() {
+        return recountChunkSize;
+    }
+}
@@ -0,0 +1,52 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("application.schedule.search")
+public class ScheduleSearchProperties {
+
+    // true 이면 제목 검색을 메모리 n-gram 색인으로 처리한다.
+    private final boolean titleIndex;
+    // true 이면 자동완성 색인을 적재하고 suggest API 에서 사용한다.
+    private final boolean suggest;
+    // true 이면 피드 필터 조건을 메모리 비트맵 색인으로 처리하고 필터 개수 API 에서 사용한다.
+    private final boolean facetIndex;
+    private final int indexLoadChunkSize;
+    // 작성일 외 정렬을 DB 에 맡길 때 IN 절로 넘기는 후보 id 수 상한, 넘으면 색인 대신 DB 조회로 처리한다.
+    private final int sortCandidateLimit;
+
+    public ScheduleSearchProperties(
+            boolean titleIndex,
+            boolean suggest,
+            boolean facetIndex,
+            @DefaultValue("1000") int indexLoadChunkSize,
+            @DefaultValue("1000") int sortCandidateLimit
+    ) {
+        this.titleIndex = titleIndex;
+        this.suggest = suggest;
+        this.facetIndex = facetIndex;
+        this.indexLoadChunkSize = indexLoadChunkSize;
+        this.sortCandidateLimit = sortCandidateLimit;
+    }
+
+    public boolean isTitleIndex() {
+        return titleIndex;
+    }
+
+    public boolean isSuggest() {
+        return suggest;
+    }
+
+    public boolean isFacetIndex() {
+        return facetIndex;
+    }
+
+    public int getIndexLoadChunkSize() {
+        return indexLoadChunkSize;
+    }
+
+    public int getSortCandidateLimit() {
+        return sortCandidateLimit;
+    }
+}
@@ -0,0 +1,52 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("application.schedule.trending")
+public class ScheduleTrendingProperties {
+
+    // 이 시간이 지나면 조회, 좋아요, 댓글 점수가 절반이 된다.
+    private final Duration halfLife;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    // 점수 상위 이 개수만 남기고 나머지는 지운다.
+    private final int maxSize;
+
+    public ScheduleTrendingProperties(
+            @DefaultValue("24h") Duration halfLife,
+            @DefaultValue("1") double viewWeight,
+            @DefaultValue("5") double likeWeight,
+            @DefaultValue("3") double commentWeight,
+            @DefaultValue("10000") int maxSize
+    ) {
+        this.halfLife = halfLife;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.maxSize = maxSize;
+    }
+
+    public Duration getHalfLife() {
+        return halfLife;
+    }
+
+    public double getViewWeight() {
+        return viewWeight;
+    }
+
+    public double getLikeWeight() {
+        return likeWeight;
+    }
+
+    public double getCommentWeight() {
+        return commentWeight;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,28 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("application.schedule.view")
+public class ScheduleViewProperties {
+
+    // 하루 Bloom filter 크기(비트), 기본값 2^24 비트(2MB)는 약 170만 조회에서 오탐률 1% 수준이다.
+    private final long dedupeBitSize;
+    private final int dedupeHashCount;
+
+    public ScheduleViewProperties(
+            @DefaultValue("16777216") long dedupeBitSize,
+            @DefaultValue("7") int dedupeHashCount
+    ) {
+        this.dedupeBitSize = dedupeBitSize;
+        this.dedupeHashCount = dedupeHashCount;
+    }
+
+    public long getDedupeBitSize() {
+        return dedupeBitSize;
+    }
+
+    public int getDedupeHashCount() {
+        return dedupeHashCount;
+    }
+}
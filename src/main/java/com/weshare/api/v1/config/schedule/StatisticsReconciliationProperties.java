@@ -0,0 +1,36 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("application.schedule.statistics.reconciliation")
+public class StatisticsReconciliationProperties {
+
+    private final int chunkSize;
+    // 묶음 사이에 쉬는 시간, 운영 DB 에 부하를 주지 않도록 처리 속도를 제한한다.
+    private final long chunkDelayMs;
+    // 로그로 남기는 어긋난 여행일정 수
+    private final int reportLimit;
+
+    public StatisticsReconciliationProperties(
+            @DefaultValue("500") int chunkSize,
+            @DefaultValue("100") long chunkDelayMs,
+            @DefaultValue("100") int reportLimit
+    ) {
+        this.chunkSize = chunkSize;
+        this.chunkDelayMs = chunkDelayMs;
+        this.reportLimit = reportLimit;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public long getChunkDelayMs() {
+        return chunkDelayMs;
+    }
+
+    public int getReportLimit() {
+        return reportLimit;
+    }
+}
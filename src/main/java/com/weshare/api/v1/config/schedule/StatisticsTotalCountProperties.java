@@ -0,0 +1,35 @@
+package com.weshare.api.v1.config.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("application.schedule.statistics.total-count")
+public class StatisticsTotalCountProperties {
+
+    // shard 수를 바꾸면 init 프로파일로 shard 별 개수를 다시 맞춰야 삭제가 올바른 shard 에서 빠진다.
+    private final int shards;
+    private final long refreshIntervalMs;
+
+    public StatisticsTotalCountProperties(
+            @DefaultValue("16") int shards,
+            @DefaultValue("1000") long refreshIntervalMs
+    ) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("shard 수는 1 이상이어야 합니다.");
+        }
+        this.shards = shards;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public int shardOf(Long scheduleId) {
+        return (int) Math.floorMod(scheduleId, (long) shards);
+    }
+}
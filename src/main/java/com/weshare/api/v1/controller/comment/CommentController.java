@@ -2,10 +2,11 @@ package com.weshare.api.v1.controller.comment;
 
 import com.weshare.api.v1.common.Response;
 import com.weshare.api.v1.controller.comment.dto.*;
-import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.service.comment.CommentService;
 import com.weshare.api.v1.controller.comment.dto.CreateParentCommentResponse;
 import com.weshare.api.v1.controller.comment.dto.FindAllParentCommentResponse;
+import com.weshare.api.v1.service.user.UserCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final UserCache userCache;
     private final Response response;
 
     @Operation(security = {@SecurityRequirement(name = "bearer-key")},
@@ -41,10 +43,10 @@ public class CommentController {
     @PostMapping("/{scheduleId}/comments")
     public ResponseEntity<CreateParentCommentResponse> saveParentScheduleComment(
             @PathVariable Long scheduleId,
-            @AuthenticationPrincipal User commenter,
+            @AuthenticationPrincipal LoginUser commenter,
             @Valid @RequestBody CreateCommentRequest createCommentRequest
     ) {
-        final CreateParentCommentDto createParentCommentDto = new CreateParentCommentDto(commenter, scheduleId, createCommentRequest.content());
+        final CreateParentCommentDto createParentCommentDto = new CreateParentCommentDto(userCache.getById(commenter.getId()), scheduleId, createCommentRequest.content());
         CreateParentCommentResponse createParentCommentResponse = commentService.saveScheduleParentComment(createParentCommentDto);
 
         return response.success(createParentCommentResponse, "댓글 등록 성공", HttpStatus.CREATED);
@@ -61,11 +63,11 @@ public class CommentController {
     public ResponseEntity<CreateChildCommentResponse> saveChildScheduleComment(
             @PathVariable Long scheduleId,
             @PathVariable Long parentCommentId,
-            @AuthenticationPrincipal User commenter,
+            @AuthenticationPrincipal LoginUser commenter,
             @Valid @RequestBody CreateCommentRequest createCommentRequest
     ) {
         final CreateChildCommentDto createChildCommentDto = new CreateChildCommentDto(
-                commenter, scheduleId, parentCommentId, createCommentRequest.content());
+                userCache.getById(commenter.getId()), scheduleId, parentCommentId, createCommentRequest.content());
         CreateChildCommentResponse createParentCommentResponse = commentService.saveScheduleChildComment(createChildCommentDto);
 
         return response.success(createParentCommentResponse, "댓글 등록 성공", HttpStatus.CREATED);
@@ -77,13 +79,13 @@ public class CommentController {
     })
     @GetMapping("/{scheduleId}/comments")
     public Slice<FindAllParentCommentResponse> findAllScheduleParentComment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal LoginUser user,
             @PathVariable Long scheduleId,
             @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         return commentService.findAllScheduleParentComment(createFindAllParentCommentDto(user, scheduleId, pageable));
     }
-    private FindAllParentCommentDto createFindAllParentCommentDto(User user, Long scheduleId, Pageable pageable) {
+    private FindAllParentCommentDto createFindAllParentCommentDto(LoginUser user, Long scheduleId, Pageable pageable) {
         return new FindAllParentCommentDto(
                 user == null ? null : user.getId(),
                 scheduleId,
@@ -97,7 +99,7 @@ public class CommentController {
     })
     @GetMapping("/{scheduleId}/comments/{parentCommentId}")
     public Slice<FindAllChildCommentResponse> findAllScheduleChildComment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal LoginUser user,
             @PathVariable Long scheduleId,
             @PathVariable Long parentCommentId,
             @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable
@@ -106,7 +108,7 @@ public class CommentController {
     }
 
     private FindAllChildCommentDto createFindAllChildCommentDto(
-            User user,
+            LoginUser user,
             Long scheduleId,
             Long parentCommentId,
             Pageable pageable
@@ -129,12 +131,12 @@ public class CommentController {
     })
     @PutMapping("/{scheduleId}/comments/{commentId}")
     public ResponseEntity updateScheduleComment(
-            @AuthenticationPrincipal User commenter,
+            @AuthenticationPrincipal LoginUser commenter,
             @Valid @RequestBody UpdateCommentRequest updateCommentRequest,
             @PathVariable Long scheduleId,
             @PathVariable Long commentId
     ) {
-        final UpdateCommentDto updateCommentDto = new UpdateCommentDto(commenter, updateCommentRequest.content(), scheduleId, commentId);
+        final UpdateCommentDto updateCommentDto = new UpdateCommentDto(userCache.getById(commenter.getId()), updateCommentRequest.content(), scheduleId, commentId);
         commentService.updateComment(updateCommentDto);
 
         return response.success("댓글 수정 성공");
@@ -149,11 +151,11 @@ public class CommentController {
     })
     @DeleteMapping("/{scheduleId}/comments/{commentId}")
     public ResponseEntity deleteScheduleComment(
-            @AuthenticationPrincipal User commenter,
+            @AuthenticationPrincipal LoginUser commenter,
             @PathVariable Long scheduleId,
             @PathVariable Long commentId
     ) {
-        final DeleteCommentDto deleteCommentDto = new DeleteCommentDto(commenter, scheduleId, commentId);
+        final DeleteCommentDto deleteCommentDto = new DeleteCommentDto(userCache.getById(commenter.getId()), scheduleId, commentId);
         commentService.deleteScheduleComment(deleteCommentDto);
 
         return response.success("댓글 삭제 성공");
@@ -2,8 +2,9 @@ package com.weshare.api.v1.controller.like;
 
 import com.weshare.api.v1.common.Response;
 import com.weshare.api.v1.controller.like.dto.*;
-import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.service.like.LikeService;
+import com.weshare.api.v1.service.user.UserCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -26,6 +27,7 @@ public class LikeController {
 
     private final Response response;
     private final LikeService likeService;
+    private final UserCache userCache;
 
     @Operation(summary = "여행 일정 좋아요 조회 API", description = "사용자는 특정 여행일정에 좋아요 정보를 확인할 수 있다.")
     @ApiResponses({
@@ -48,8 +50,8 @@ public class LikeController {
     })
     @PostMapping("/schedules/{scheduleId}/likes")
     public ResponseEntity<CreateScheduleLikeResponse> saveScheduleLike(@PathVariable Long scheduleId,
-                                                                       @AuthenticationPrincipal User liker) {
-        final CreateScheduleLikeDto createScheduleLikeDto = new CreateScheduleLikeDto(scheduleId, liker);
+                                                                       @AuthenticationPrincipal LoginUser liker) {
+        final CreateScheduleLikeDto createScheduleLikeDto = new CreateScheduleLikeDto(scheduleId, userCache.getById(liker.getId()));
         CreateScheduleLikeResponse createScheduleLikeResponse = likeService.saveScheduleLike(createScheduleLikeDto);
 
         return response.success(createScheduleLikeResponse, "여행 일정 좋아요 등록 성공", HttpStatus.CREATED);
@@ -66,9 +68,9 @@ public class LikeController {
     public void deleteScheduleLike(
             @PathVariable Long scheduleId,
             @PathVariable Long likeId,
-            @AuthenticationPrincipal User liker
+            @AuthenticationPrincipal LoginUser liker
     ) {
-        final DeleteScheduleLikeDto deleteScheduleLikeDto = new DeleteScheduleLikeDto(scheduleId, likeId, liker);
+        final DeleteScheduleLikeDto deleteScheduleLikeDto = new DeleteScheduleLikeDto(scheduleId, likeId, userCache.getById(liker.getId()));
         likeService.deleteScheduleLike(deleteScheduleLikeDto);
     }
 
@@ -83,9 +85,9 @@ public class LikeController {
     @PostMapping("/comments/{commentId}/likes")
     public ResponseEntity<CreateCommentLikeResponse> saveCommentLike(
             @PathVariable Long commentId,
-            @AuthenticationPrincipal User liker
+            @AuthenticationPrincipal LoginUser liker
     ) {
-        final CreateCommentLikeDto createCommentLikeDto = new CreateCommentLikeDto(commentId, liker);
+        final CreateCommentLikeDto createCommentLikeDto = new CreateCommentLikeDto(commentId, userCache.getById(liker.getId()));
         CreateCommentLikeResponse createScheduleLikeResponse = likeService.saveCommentLike(createCommentLikeDto);
 
         return response.success(createScheduleLikeResponse,"댓글 좋아요 등록 성공", HttpStatus.CREATED);
@@ -102,9 +104,9 @@ public class LikeController {
     public void deleteCommentLike(
             @PathVariable Long commentId,
             @PathVariable Long likeId,
-            @AuthenticationPrincipal User liker
+            @AuthenticationPrincipal LoginUser liker
     ) {
-        DeleteCommentLikeDto deleteCommentLikeDto = new DeleteCommentLikeDto(commentId, likeId, liker);
+        DeleteCommentLikeDto deleteCommentLikeDto = new DeleteCommentLikeDto(commentId, likeId, userCache.getById(liker.getId()));
         likeService.deleteCommentLike(deleteCommentLikeDto);
     }
 }
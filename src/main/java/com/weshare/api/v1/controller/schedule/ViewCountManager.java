@@ -1,73 +1,39 @@
 package com.weshare.api.v1.controller.schedule;
 
-import com.weshare.api.v1.service.schedule.command.ScheduleService;
-import jakarta.servlet.http.Cookie;
+import com.weshare.api.v1.domain.user.LoginUser;
+import com.weshare.api.v1.service.schedule.view.ViewCountBuffer;
+import com.weshare.api.v1.service.schedule.view.ViewDeduplicator;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
 
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
 
 @Component
 @RequiredArgsConstructor
 public final class ViewCountManager {
-    private static final String KEY = "View-Count";
-    private static final int EXPIRE_TIME = 24 * 60 * 60;
-    public static final String CookieFormat = "%s:%s";
+    private static final String USER_VIEWER_FORMAT = "user:%d";
+    private static final String ANONYMOUS_VIEWER_FORMAT = "anon:%s";
+    private static final String USER_AGENT_HEADER = "User-Agent";
 
-    private final ScheduleService scheduleService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewDeduplicator viewDeduplicator;
 
-    /* 암호화 로직 작성하거나 레디스로 처리하기*/
-    public void viewCountUp(Long id, HttpServletRequest request, HttpServletResponse response) {
-        final Cookie[] cookies = request.getCookies();
-        if (cookies == null) {
-            scheduleService.viewCount(id);
-            setResponseCookie(id, response, Optional.empty());
-            return;
-        }
-
-        final Optional<Cookie> cookie = Arrays.stream(cookies)
-                .filter(c -> KEY.equals(c.getName()))
-                .findAny();
-
-        if (cookie.isPresent()) {
-            Cookie oldCookie = cookie.get();
-            updateCookieAndViewCount(id, response, oldCookie);
-            return;
-        }
-
-        scheduleService.viewCount(id);
-        setResponseCookie(id, response, Optional.empty());
-    }
-
-    private void updateCookieAndViewCount(Long id, HttpServletResponse response, Cookie oldCookie) {
-        String value = oldCookie.getValue();
-        // 중복제거 + contains 사용을 위해서 set 사용
-        final Set<String> scheduleIds = Arrays.stream(value.split(":"))
-                .collect(Collectors.toUnmodifiableSet());
-
-        if (!scheduleIds.contains(String.valueOf(id))) {
-            scheduleService.viewCount(id);
-            setResponseCookie(id, response, Optional.of(value));
+    // 로그인 사용자는 user_id, 비로그인 사용자는 ip + User-Agent 해시로 하루 한번만 조회수를 올린다.
+    public void viewCountUp(Long id, LoginUser user, HttpServletRequest request) {
+        if (viewDeduplicator.isFirstView(getViewerKey(user, request), id)) {
+            viewCountBuffer.increment(id);
         }
     }
 
-    private void setResponseCookie(Long id, HttpServletResponse response, Optional<String> value) {
-        String cookieValue = String.valueOf(id);
-        if (value.isPresent()) {
-            cookieValue = String.format(CookieFormat, value.get(), cookieValue);
+    private String getViewerKey(LoginUser user, HttpServletRequest request) {
+        if (user != null) {
+            return String.format(USER_VIEWER_FORMAT, user.getId());
         }
-        response.addCookie(createCookie(cookieValue));
-    }
-
-    private Cookie createCookie(String value) {
-        final Cookie newCookie = new Cookie(KEY, value);
-        newCookie.setMaxAge(EXPIRE_TIME);
-        newCookie.setPath("/");
-        return newCookie;
+        // X-Forwarded-For 의 첫 값은 클라이언트가 바꿀 수 있으므로, 신뢰하는 프록시가 붙인 값으로 서버가 정한 remoteAddr 를 쓴다.
+        final String fingerprint = request.getRemoteAddr() + "|" + request.getHeader(USER_AGENT_HEADER);
+        return String.format(ANONYMOUS_VIEWER_FORMAT,
+                DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8)));
     }
 }
@@ -2,9 +2,10 @@ package com.weshare.api.v1.controller.schedule.command;
 
 import com.weshare.api.v1.service.schedule.command.CreateScheduleDto;
 import com.weshare.api.v1.service.schedule.command.UpdateScheduleDto;
-import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.service.schedule.command.DeleteScheduleDto;
 import com.weshare.api.v1.service.schedule.command.ScheduleService;
+import com.weshare.api.v1.service.user.UserCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final UserCache userCache;
 
     @Operation(security = @SecurityRequirement(name = "bearer-key"),
             summary = "여행일정 등록 API", description = "기본값으로 12개 기준으로 pagination이 적용되며 최신글으로 정렬됩니다.")
@@ -33,8 +35,8 @@ public class ScheduleController {
     })
     @PostMapping("/schedules")
     public ResponseEntity<?> saveSchedule(@Valid @RequestBody CreateScheduleRequest createScheduleRequest,
-                                       @AuthenticationPrincipal User user) {
-        CreateScheduleDto createScheduleDto = CreateScheduleDto.of(createScheduleRequest, user);
+                                       @AuthenticationPrincipal LoginUser user) {
+        CreateScheduleDto createScheduleDto = CreateScheduleDto.of(createScheduleRequest, userCache.getById(user.getId()));
         scheduleService.saveSchedule(createScheduleDto);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
@@ -49,7 +51,7 @@ public class ScheduleController {
     })
     @PatchMapping("/schedules")
     public ResponseEntity<?> updateSchedule(@Valid @RequestBody UpdateScheduleRequest updateScheduleRequest,
-                                            @AuthenticationPrincipal User user) {
+                                            @AuthenticationPrincipal LoginUser user) {
         UpdateScheduleDto updateScheduleDto = UpdateScheduleDto.of(updateScheduleRequest, user.getId());
         scheduleService.updateSchedule(updateScheduleDto);
 
@@ -65,7 +67,7 @@ public class ScheduleController {
             @ApiResponse(responseCode = "404", description = "수정하는 여행일정이 존재하지 않습니다.")
     })
     @DeleteMapping("/schedules/{scheduleId}")
-    public ResponseEntity<?> deleteSchedule(@AuthenticationPrincipal User user,
+    public ResponseEntity<?> deleteSchedule(@AuthenticationPrincipal LoginUser user,
                                             @PathVariable Long scheduleId) {
         DeleteScheduleDto deleteScheduleDto = new DeleteScheduleDto(user.getId(), scheduleId);
         scheduleService.deleteSchedule(deleteScheduleDto);
@@ -76,6 +76,8 @@ public class UpdateScheduleRequest {
         @Getter
         @NoArgsConstructor(access = AccessLevel.PROTECTED)
         public static class UpdatePlace {
+            // 기존 장소를 수정하면 상세 조회의 placeId 를 보내고, 새로 추가하는 장소는 비워 둔다.
+            private Long placeId;
             @NotBlank
             private String title;
             @NotNull
@@ -92,7 +94,8 @@ public class UpdateScheduleRequest {
             @NotNull
             private Double longitude;
             @Builder
-            private UpdatePlace(String title, LocalTime time, String memo, long expense, Double latitude, Double longitude) {
+            private UpdatePlace(Long placeId, String title, LocalTime time, String memo, long expense, Double latitude, Double longitude) {
+                this.placeId = placeId;
                 this.title = title;
                 this.time = time;
                 this.memo = memo;
@@ -0,0 +1,45 @@
+package com.weshare.api.v1.controller.schedule.query;
+
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * 미리 직렬화된 여행일정 상세 응답을 Jackson 을 거치지 않고 그대로 쓴다.
+ */
+public class ScheduleDetailResponseConverter extends AbstractHttpMessageConverter<ScheduleDetailResponse> {
+
+    public ScheduleDetailResponseConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ScheduleDetailResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ScheduleDetailResponse readInternal(Class<? extends ScheduleDetailResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("여행일정 상세 응답은 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ScheduleDetailResponse scheduleDetailResponse, MediaType contentType) {
+        return scheduleDetailResponse.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(ScheduleDetailResponse scheduleDetailResponse, HttpOutputMessage outputMessage) throws IOException {
+        scheduleDetailResponse.writeTo(outputMessage.getBody());
+    }
+}
@@ -1,29 +1,37 @@
 package com.weshare.api.v1.controller.schedule.query;
 
 import com.weshare.api.v1.common.Response;
+import com.weshare.api.v1.config.schedule.ScheduleDetailCacheProperties;
 import com.weshare.api.v1.controller.schedule.ViewCountManager;
-import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.service.schedule.query.FindScheduleDetailDto;
 import com.weshare.api.v1.service.schedule.query.ScheduleQueryService;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetCounts;
 import com.weshare.api.v1.service.schedule.query.ScheduleSearchCondition;
+import com.weshare.api.v1.service.schedule.query.dto.CursorPageDto;
 import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailResponse;
 import com.weshare.api.v1.service.schedule.query.dto.ScheduleFilterPageDto;
 import com.weshare.api.v1.service.schedule.query.dto.SchedulePageDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleSuggestionDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -37,37 +45,109 @@ public class ScheduleQueryController {
     private final ScheduleQueryValidator validator;
     private final ScheduleQueryService scheduleQueryService;
     private final Response response;
+    private final ScheduleDetailCacheProperties scheduleDetailCacheProperties;
 
-    @Operation(summary = "여행일정 전체 조회 API", description = "기본값으로 12개 기준으로 pagination이 적용되며 최신글으로 정렬됩니다.")
+    @Operation(summary = "여행일정 전체 조회 API", description = "기본값으로 12개 기준으로 pagination이 적용되며 최신글으로 정렬됩니다. sort 로 like-count, comment-count, expense 를 지정하면 좋아요, 댓글, 경비 순서로 정렬됩니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "여행일정 조회 성공"),
             @ApiResponse(responseCode = "400", description = "쿼리 파라미터 요청을 확인해주세요")
     })
     @GetMapping("/schedules")
     public Page<SchedulePageDto> getSchedule(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal LoginUser user,
             @RequestParam(required = false) String expense,
             @RequestParam(name = "destination", required = false) Set<String> destinations,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            @RequestParam(required = false) String duration,
             @PageableDefault(size = 12, sort = "created-date", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        validator.validateExpenseCondition(expense);
+        validateFilter(expense, startDateFrom, startDateTo, duration);
 
-        ScheduleFilterPageDto scheduleFilterPageDto = createScheduleFilterPageDto(user, expense, destinations, pageable);
+        ScheduleFilterPageDto scheduleFilterPageDto = ScheduleFilterPageDto.builder()
+                .userId(user == null ? null : user.getId())
+                .expenseCondition(expense)
+                .destinations(destinations)
+                .startDateFrom(startDateFrom)
+                .startDateTo(startDateTo)
+                .durationCondition(duration)
+                .pageable(pageable)
+                .build();
         return scheduleQueryService.getSchedulePage(scheduleFilterPageDto);
     }
 
-    private ScheduleFilterPageDto createScheduleFilterPageDto(
-            User user,
-            String expense,
-            Set<String> destinations,
-            Pageable pageable
+    @Operation(summary = "인기 여행일정 조회 API", description = "최근 조회수, 좋아요, 댓글에 시간 감쇠를 적용한 점수 순서로 조회합니다. 기본값으로 12개 기준으로 pagination이 적용됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "인기 여행일정 조회 성공")
+    })
+    @GetMapping("/schedules/trending")
+    public Page<SchedulePageDto> getTrendingSchedule(
+            @AuthenticationPrincipal LoginUser user,
+            @PageableDefault(size = 12) Pageable pageable
+    ) {
+        return scheduleQueryService.getTrendingSchedulePage(user == null ? null : user.getId(), pageable);
+    }
+
+    @Operation(summary = "여행일정 필터 개수 API", description = "현재 필터 조건에서 목적지, 금액 구간, 여행 기간을 하나씩 바꿨을 때의 여행일정 수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "필터 개수 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "쿼리 파라미터 요청을 확인해주세요")
+    })
+    @GetMapping("/schedules/facets")
+    public ScheduleFacetCounts getScheduleFacets(
+            @RequestParam(required = false) String expense,
+            @RequestParam(name = "destination", required = false) Set<String> destinations,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            @RequestParam(required = false) String duration
     ) {
-        return ScheduleFilterPageDto.builder()
+        validateFilter(expense, startDateFrom, startDateTo, duration);
+
+        ScheduleFilterPageDto scheduleFilterPageDto = ScheduleFilterPageDto.builder()
+                .expenseCondition(expense)
+                .destinations(destinations)
+                .startDateFrom(startDateFrom)
+                .startDateTo(startDateTo)
+                .durationCondition(duration)
+                .build();
+        return scheduleQueryService.getScheduleFacets(scheduleFilterPageDto);
+    }
+
+    private void validateFilter(String expense, LocalDate startDateFrom, LocalDate startDateTo, String duration) {
+        validator.validateExpenseCondition(expense);
+        validator.validateStartDateCondition(startDateFrom, startDateTo);
+        validator.validateDurationCondition(duration);
+    }
+
+    @Operation(summary = "여행일정 커서 기반 조회 API", description = "응답의 next 커서를 전달하면 다음 페이지를 조회합니다. 페이지가 깊어져도 조회 비용이 일정합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "여행일정 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "쿼리 파라미터 또는 커서를 확인해주세요")
+    })
+    @GetMapping("/schedules/cursor")
+    public CursorPageDto<SchedulePageDto> getScheduleByCursor(
+            @AuthenticationPrincipal LoginUser user,
+            @RequestParam(required = false) String expense,
+            @RequestParam(name = "destination", required = false) Set<String> destinations,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            @RequestParam(required = false) String duration,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 12, sort = "created-date", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        validateFilter(expense, startDateFrom, startDateTo, duration);
+
+        ScheduleFilterPageDto scheduleFilterPageDto = ScheduleFilterPageDto.builder()
                 .userId(user == null ? null : user.getId())
                 .expenseCondition(expense)
                 .destinations(destinations)
+                .startDateFrom(startDateFrom)
+                .startDateTo(startDateTo)
+                .durationCondition(duration)
                 .pageable(pageable)
+                .cursor(cursor)
                 .build();
+        return scheduleQueryService.getScheduleCursorPage(scheduleFilterPageDto);
     }
 
     @Operation(summary = "여행일정 검색 조회 API", description = "특정 키워드를 통해서 제목과 일치한 글을 조회할 수 있습니다.")
@@ -76,13 +156,27 @@ public class ScheduleQueryController {
     public Page<SearchScheduleDto> searchSchedule(
             @PageableDefault(size = 12, sort = "created-date", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam("q") String search,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal LoginUser user
     ) {
         ScheduleSearchCondition scheduleSearchCondition = createScheduleSearchCondition(pageable, search, user);
         return scheduleQueryService.searchSchedule(scheduleSearchCondition);
     }
 
-    private static ScheduleSearchCondition createScheduleSearchCondition(Pageable pageable, String search, User user) {
+    @Operation(summary = "여행일정 자동완성 API", description = "입력 중인 검색어로 시작하는 제목, 여행지를 인기순으로 조회합니다. 완성되지 않은 한글도 자모 단위로 일치시킵니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 개수를 확인해주세요")
+    })
+    @GetMapping("/schedules/suggest")
+    public List<ScheduleSuggestionDto> suggestSchedule(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        validator.validateSuggestSize(size);
+        return scheduleQueryService.suggestSchedule(query, size);
+    }
+
+    private static ScheduleSearchCondition createScheduleSearchCondition(Pageable pageable, String search, LoginUser user) {
         final Long userId = user == null ? null : user.getId();
         return new ScheduleSearchCondition(userId, search, pageable);
     }
@@ -90,23 +184,47 @@ public class ScheduleQueryController {
     @Operation(summary = "여행일정 상세보기 API", description = "특정 여행 일정을 상세조회할 수 있으며 조회 수를 기록합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "여행일정 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 여행일정 내용이 같습니다."),
             @ApiResponse(responseCode = "400", description = "조회하는 여행일정이 올바르지 않습니다."),
             @ApiResponse(responseCode = "404", description = "여행일정이 존재하지 않습니다.")
     })
     @GetMapping("/schedules/{scheduleId}")
-    public ResponseEntity<ScheduleDetailDto> getScheduleDetails(
-            @AuthenticationPrincipal User user,
+    public ResponseEntity<?> getScheduleDetails(
+            @AuthenticationPrincipal LoginUser user,
             @PathVariable Long scheduleId,
             HttpServletRequest request,
-            HttpServletResponse servletResponse
+            WebRequest webRequest
     ) {
         final FindScheduleDetailDto findScheduleDetailDto =
-                new FindScheduleDetailDto(scheduleId, Optional.ofNullable(user).map(User::getId));
+                new FindScheduleDetailDto(scheduleId, Optional.ofNullable(user).map(LoginUser::getId));
+        if (scheduleDetailCacheProperties.isEnabled()) {
+            return getCachedScheduleDetails(findScheduleDetailDto, user, request, webRequest);
+        }
         final ScheduleDetailDto scheduleDetails = scheduleQueryService.getScheduleDetails(findScheduleDetailDto);
 
-        /* ip + mac address로 redis로 조회수 중복을 관리할 수 있지만 간단하게 쿠키로 해결 */
-        viewCountManager.viewCountUp(scheduleId, request, servletResponse);
+        viewCountManager.viewCountUp(scheduleId, user, request);
         return response.success(scheduleDetails);
     }
 
+    // 캐시된 본문 해시로 만든 ETag 가 같으면 DB 를 조회하지 않고 304 를 반환한다. 조회수, 좋아요 여부는 ETag 에 포함하지 않는다.
+    private ResponseEntity<?> getCachedScheduleDetails(
+            FindScheduleDetailDto findScheduleDetailDto,
+            LoginUser user,
+            HttpServletRequest request,
+            WebRequest webRequest
+    ) {
+        final Long scheduleId = findScheduleDetailDto.getScheduleId();
+        final Optional<String> cachedETag = scheduleQueryService.findScheduleDetailETag(findScheduleDetailDto);
+        if (cachedETag.isPresent() && webRequest.checkNotModified(cachedETag.get())) {
+            viewCountManager.viewCountUp(scheduleId, user, request);
+            return null;
+        }
+
+        final ScheduleDetailResponse scheduleDetailResponse = scheduleQueryService.getScheduleDetailResponse(findScheduleDetailDto);
+        viewCountManager.viewCountUp(scheduleId, user, request);
+        return ResponseEntity.ok()
+                .eTag(scheduleDetailResponse.getETag())
+                .body(scheduleDetailResponse);
+    }
+
 }
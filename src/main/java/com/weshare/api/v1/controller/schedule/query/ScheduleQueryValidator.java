@@ -2,11 +2,14 @@ package com.weshare.api.v1.controller.schedule.query;
 
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.regex.Pattern;
 
 @Component
 public class ScheduleQueryValidator {
     private static final Pattern EXPENSE_PATTERN = Pattern.compile("^\\d*~\\d*$");
+    private static final Pattern DURATION_PATTERN = Pattern.compile("^\\d{0,3}~\\d{0,3}$");
+    private static final int MAX_SUGGEST_SIZE = 20;
 
     public void validateExpenseCondition(String expenseCondition) {
         if (expenseCondition != null && !EXPENSE_PATTERN.matcher(expenseCondition).matches()) {
@@ -14,4 +17,21 @@ public class ScheduleQueryValidator {
         }
     }
 
+    public void validateDurationCondition(String durationCondition) {
+        if (durationCondition != null && !DURATION_PATTERN.matcher(durationCondition).matches()) {
+            throw new IllegalArgumentException("여행 기간 검색 조건이 올바르지 않습니다.");
+        }
+    }
+
+    public void validateStartDateCondition(LocalDate startDateFrom, LocalDate startDateTo) {
+        if (startDateFrom != null && startDateTo != null && startDateFrom.isAfter(startDateTo)) {
+            throw new IllegalArgumentException("여행 시작일 검색 조건이 올바르지 않습니다.");
+        }
+    }
+
+    public void validateSuggestSize(int size) {
+        if (size < 1 || size > MAX_SUGGEST_SIZE) {
+            throw new IllegalArgumentException("자동완성 조회 개수는 1개 이상 " + MAX_SUGGEST_SIZE + "개 이하여야 합니다.");
+        }
+    }
 }
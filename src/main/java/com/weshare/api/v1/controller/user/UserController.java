@@ -4,7 +4,7 @@ import com.weshare.api.v1.common.Response;
 import com.weshare.api.v1.controller.user.dto.DeleteUserRequest;
 import com.weshare.api.v1.controller.user.dto.PasswordUpdateRequest;
 import com.weshare.api.v1.controller.user.dto.UserUpdateRequest;
-import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.service.schedule.query.dto.UserScheduleDto;
 import com.weshare.api.v1.service.user.UserService;
 import com.weshare.api.v1.service.user.dto.PasswordUpdateDto;
@@ -40,7 +40,7 @@ public class UserController {
     })
     @PatchMapping
     public ResponseEntity updateUser(@Valid @RequestBody(required = false) UserUpdateRequest userUpdateRequest,
-                                     @AuthenticationPrincipal User user) {
+                                     @AuthenticationPrincipal LoginUser user) {
         UserUpdateDto updateDto = createUserUpdateDto(userUpdateRequest, user);
         userService.updateUser(updateDto);
         return response.success();
@@ -54,7 +54,7 @@ public class UserController {
     })
     @PatchMapping("/password")
     public ResponseEntity checkPassword(@Valid @RequestBody PasswordUpdateRequest passwordUpdateRequest,
-                                        @AuthenticationPrincipal User user) {
+                                        @AuthenticationPrincipal LoginUser user) {
         PasswordUpdateDto passwordUpdateDto = createPasswordUpdateDto(passwordUpdateRequest, user);
         userService.updatePassword(passwordUpdateDto);
         return response.success();
@@ -66,14 +66,14 @@ public class UserController {
     })
     @DeleteMapping
     public ResponseEntity deleteUser(@Valid @RequestBody DeleteUserRequest deleteUserRequest,
-                                     @AuthenticationPrincipal User user) {
+                                     @AuthenticationPrincipal LoginUser user) {
         UserDeleteDto userDeleteDto = new UserDeleteDto(user.getId(), deleteUserRequest.password(), LocalDateTime.now());
         userService.deleteUser(userDeleteDto);
         // 200번이랑 202번이랑 고민됨
         return response.success();
     }
 
-    private UserUpdateDto createUserUpdateDto(UserUpdateRequest userUpdateRequest, User user) {
+    private UserUpdateDto createUserUpdateDto(UserUpdateRequest userUpdateRequest, LoginUser user) {
         return UserUpdateDto.builder()
                 .userEmail(user.getEmail())
                 .profileImg(userUpdateRequest.profileImg())
@@ -82,7 +82,7 @@ public class UserController {
                 .build();
     }
 
-    private PasswordUpdateDto createPasswordUpdateDto(PasswordUpdateRequest passwordUpdateRequest, User user) {
+    private PasswordUpdateDto createPasswordUpdateDto(PasswordUpdateRequest passwordUpdateRequest, LoginUser user) {
         return PasswordUpdateDto.builder()
                 .userEmail(user.getEmail())
                 .oldPassword(passwordUpdateRequest.oldPassword())
@@ -96,7 +96,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "여행일정 조회 성공")
     })
     @GetMapping("/schedules")
-    public ResponseEntity<UserScheduleResponse> getSchedule(@AuthenticationPrincipal User user) {
+    public ResponseEntity<UserScheduleResponse> getSchedule(@AuthenticationPrincipal LoginUser user) {
         final List<UserScheduleDto> scheduleByUserId = userService.getScheduleByUserId(user.getId());
         UserScheduleResponse userScheduleResponse = new UserScheduleResponse(scheduleByUserId, scheduleByUserId.size());
         return response.success(userScheduleResponse);
@@ -0,0 +1,6 @@
+package com.weshare.api.v1.domain.outbox;
+
+public enum AggregateType {
+    SCHEDULE,
+    COMMENT
+}
@@ -0,0 +1,40 @@
+package com.weshare.api.v1.domain.outbox;
+
+import com.weshare.api.v1.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 횟수를 넘긴 outbox 이벤트, 원인을 확인한 뒤 outbox_event 로 다시 넣어 처리한다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_dead_letter")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxDeadLetter extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+}
@@ -0,0 +1,57 @@
+package com.weshare.api.v1.domain.outbox;
+
+import com.weshare.api.v1.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 기록되고 OutboxRelay 가 처리한 뒤 삭제하는 이벤트.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, outbox_event_id"),
+        @Index(name = "idx_outbox_event_next_attempt_at", columnList = "next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(columnDefinition = "integer default 0", nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public OutboxEvent(AggregateType aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
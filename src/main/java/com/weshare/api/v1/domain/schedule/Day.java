@@ -4,24 +4,40 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Day {
 
+    // IDENTITY 는 insert 를 묶어서 보낼 수 없으므로 id_sequence 테이블에서 id 를 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "day_id_generator")
+    @TableGenerator(
+            name = "day_id_generator",
+            table = "id_sequence",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "day",
+            allocationSize = 100
+    )
     @Column(name = "day_id")
     private Long id;
 
-    @ElementCollection
-    @CollectionTable(name = "places", joinColumns = @JoinColumn(name = "day_id"))
-    private List<Place> places;
+    @OneToMany(mappedBy = "day", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("placeOrder")
+    private List<Place> places = new ArrayList<>();
     @Column(name = "travel_date", nullable = false)
     private LocalDate travelDate;
+    // 장소 경비 합계, 장소를 추가, 수정, 삭제할 때마다 같이 바꾼다.
+    @Column(name = "total_expense", columnDefinition = "bigint default 0", nullable = false)
+    private long totalExpense;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "schedule_id")
@@ -29,8 +45,16 @@ public class Day {
     @Builder
     private Day(Long id, List<Place> places, LocalDate travelDate) {
         this.id = id;
-        this.places = places;
         this.travelDate = travelDate;
+        if (places != null) {
+            places.forEach(this::addPlace);
+        }
+    }
+
+    private void addPlace(Place place) {
+        place.initDay(this, places.size());
+        places.add(place);
+        totalExpense += place.getExpense().getExpense();
     }
 
     public void initSchedule(Schedule schedule) {
@@ -68,10 +92,48 @@ public class Day {
         return Objects.hash(id, places, travelDate);
     }
 
-    public void updatePlaces(Day updateDay) {
+    // 바뀐 경비 합계 차이를 반환한다. 장소를 이미 읽었으므로 저장된 합계 대신 장소 경비로 다시 계산해서 합계가 어긋나 있어도 맞춘다.
+    public long updatePlaces(Day updateDay) {
         if (!travelDate.equals(updateDay.travelDate)) {
             throw new IllegalStateException("여행일정이 올바르지 않습니다.");
         }
-        this.places = updateDay.places;
+        final long beforeTotalExpense = sumPlaceExpense();
+        updatePlaces(updateDay.places);
+        totalExpense = sumPlaceExpense();
+        return totalExpense - beforeTotalExpense;
+    }
+
+    private long sumPlaceExpense() {
+        return places.stream()
+                .mapToLong(place -> place.getExpense().getExpense())
+                .sum();
+    }
+
+    /*
+     * 목록을 통째로 바꾸지 않고 place_id 로 기존 장소를 찾아서 바뀐 내용만 수정한다.
+     * id 가 없는 장소는 추가하고, 요청에 없는 장소는 orphanRemoval 로 삭제한 뒤 요청 순서대로 place_order 를 다시 매긴다.
+     */
+    private void updatePlaces(List<Place> updatePlaces) {
+        final Map<Long, Place> currentPlaces = places.stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+        final List<Place> updatedPlaces = new ArrayList<>(updatePlaces.size());
+        for (Place updatePlace : updatePlaces) {
+            if (updatePlace.getId() == null) {
+                updatedPlaces.add(updatePlace);
+                continue;
+            }
+            final Place place = currentPlaces.remove(updatePlace.getId());
+            if (place == null) {
+                throw new IllegalArgumentException("장소 정보가 올바르지 않습니다.");
+            }
+            place.updateContent(updatePlace);
+            updatedPlaces.add(place);
+        }
+
+        places.clear();
+        for (Place place : updatedPlaces) {
+            place.initDay(this, places.size());
+            places.add(place);
+        }
     }
 }
@@ -52,11 +52,12 @@ public class Days {
     }
 
     public long getTotalDaysExpense() {
+        if (days.isEmpty()) {
+            throw new IllegalStateException("금액을 반환할 수 없습니다.");
+        }
         return days.stream()
-                .map(Day::getTotalDayExpense)
-                .reduce(Expense::sum)
-                .orElseThrow(() -> new IllegalStateException("금액을 반환할 수 없습니다."))
-                .getExpense();
+                .mapToLong(Day::getTotalExpense)
+                .sum();
     }
 
     public void initDays(Schedule schedule) {
@@ -1,19 +1,34 @@
 package com.weshare.api.v1.domain.schedule;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.Embedded;
+import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalTime;
 import java.util.Objects;
 
-@Embeddable
-@ToString
+@Entity
+@Table(name = "places", indexes = {
+        @Index(name = "idx_places_day_order", columnList = "day_id, place_order")
+})
+@ToString(exclude = "day")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Place {
 
+    // IDENTITY 는 insert 를 묶어서 보낼 수 없으므로 id_sequence 테이블에서 id 를 미리 할당받는다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "place_id_generator")
+    @TableGenerator(
+            name = "place_id_generator",
+            table = "id_sequence",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "place",
+            allocationSize = 100
+    )
+    @Column(name = "place_id")
+    private Long id;
+
     @Column(name = "title", nullable = false)
     private String title;
     @Column(name = "time", nullable = false)
@@ -29,8 +44,17 @@ public class Place {
     @Column(name = "location", nullable = false)
     private Location location;
 
+    @Column(name = "place_order", nullable = false)
+    private int placeOrder;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "day_id", nullable = false)
+    private Day day;
+
+    // 수정 요청의 장소는 기존 장소를 찾을 수 있도록 id 를 가지고, 새로 추가하는 장소는 id 가 없다.
     @Builder
-    private Place(String title, LocalTime time, String memo, Expense expense, Location location) {
+    private Place(Long id, String title, LocalTime time, String memo, Expense expense, Location location) {
+        this.id = id;
         this.title = title;
         this.time = time;
         this.memo = memo;
@@ -38,6 +62,23 @@ public class Place {
         this.location = location;
     }
 
+    public void initDay(Day day, int placeOrder) {
+        this.day = day;
+        this.placeOrder = placeOrder;
+    }
+
+    // 내용이 같은 값은 다시 넣지 않아서 바뀐 장소만 UPDATE 된다.
+    public void updateContent(Place updatePlace) {
+        if (equals(updatePlace)) {
+            return;
+        }
+        this.title = updatePlace.title;
+        this.time = updatePlace.time;
+        this.memo = updatePlace.memo;
+        this.expense = updatePlace.expense;
+        this.location = updatePlace.location;
+    }
+
     public Double getLatitude() {
         return location.getLatitude();
     }
@@ -11,6 +11,12 @@ import java.util.List;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_schedule_created_date", columnList = "created_date, schedule_id"),
+        @Index(name = "idx_schedule_view_count", columnList = "view_count, schedule_id"),
+        @Index(name = "idx_schedule_title", columnList = "title, schedule_id"),
+        @Index(name = "idx_schedule_destination", columnList = "destination, schedule_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Schedule extends BaseTimeEntity {
 
@@ -0,0 +1,122 @@
+package com.weshare.api.v1.domain.schedule.card;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 피드 목록 조회용 읽기 모델, 여행일정 하나당 한 행을 유지하며 이벤트로 갱신된다.
+ */
+// 카운터 컬럼은 update x = x + ? 로 따로 갱신되므로 엔티티 수정시 바뀐 컬럼만 update 한다.
+@Entity
+@DynamicUpdate
+@Getter
+@Table(name = "schedule_card", indexes = {
+        @Index(name = "idx_schedule_card_created_date", columnList = "created_date, schedule_id"),
+        @Index(name = "idx_schedule_card_view_count", columnList = "view_count, schedule_id"),
+        @Index(name = "idx_schedule_card_destination", columnList = "destination, created_date, schedule_id"),
+        @Index(name = "idx_schedule_card_total_expense", columnList = "total_expense, schedule_id"),
+        @Index(name = "idx_schedule_card_like_count", columnList = "like_count, schedule_id"),
+        @Index(name = "idx_schedule_card_comment_count", columnList = "comment_count, schedule_id"),
+        @Index(name = "idx_schedule_card_user", columnList = "user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleCard {
+
+    @Id
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "destination")
+    private Destination destination;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "user_name", nullable = false)
+    private String userName;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "total_expense", columnDefinition = "bigint default 0", nullable = false)
+    private long totalExpense;
+
+    @Column(name = "view_count", columnDefinition = "integer default 0", nullable = false)
+    private int viewCount;
+
+    @Column(name = "like_count", columnDefinition = "integer default 0", nullable = false)
+    private int likeCount;
+
+    @Column(name = "comment_count", columnDefinition = "integer default 0", nullable = false)
+    private int commentCount;
+
+    // 여행일정의 작성일, 정렬 조건 이름을 맞추기 위해 createdDate 로 둔다.
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Builder
+    private ScheduleCard(
+            Long scheduleId,
+            String title,
+            Destination destination,
+            Long userId,
+            String userName,
+            LocalDate startDate,
+            LocalDate endDate,
+            long totalExpense,
+            int viewCount,
+            int likeCount,
+            int commentCount,
+            LocalDateTime createdDate
+    ) {
+        this.scheduleId = scheduleId;
+        this.title = title;
+        this.destination = destination;
+        this.userId = userId;
+        this.userName = userName;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalExpense = totalExpense;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.createdDate = createdDate;
+    }
+
+    public static ScheduleCard of(Schedule schedule, long totalExpense) {
+        return ScheduleCard.builder()
+                .scheduleId(schedule.getId())
+                .title(schedule.getTitle())
+                .destination(schedule.getDestination())
+                .userId(schedule.getUser().getId())
+                .userName(schedule.getUser().getName())
+                .startDate(schedule.getStartDate())
+                .endDate(schedule.getEndDate())
+                .totalExpense(totalExpense)
+                .viewCount(schedule.getViewCount())
+                .createdDate(schedule.getCreatedDate())
+                .build();
+    }
+
+    public void updateSummary(Schedule schedule, long totalExpense) {
+        this.title = schedule.getTitle();
+        this.destination = schedule.getDestination();
+        this.totalExpense = totalExpense;
+    }
+}
@@ -0,0 +1,61 @@
+package com.weshare.api.v1.domain.schedule.statistics;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 여행 경비 구간, 경계값은 API 경비 조건(예: "~100000", "100000~200000")에 쓰는 값과 맞춘다.
+ * 경비 조건은 양 끝을 모두 포함하므로 경계값 b[i] 하나만 담는 칸(2i)과 그 사이 (b[i], b[i + 1]) 을 담는 칸(2i + 1)으로 나눈다.
+ * 이렇게 나누면 경계값으로 만든 조건은 어느 쪽 끝이든 칸을 통째로 덮어서 따로 셀 범위가 남지 않는다.
+ */
+public final class ExpenseBuckets {
+    private final long[] boundaries;
+
+    public ExpenseBuckets(List<Long> boundaries) {
+        if (boundaries.isEmpty() || boundaries.get(0) != 0) {
+            throw new IllegalArgumentException("경비 구간은 0 부터 시작해야 합니다.");
+        }
+        this.boundaries = boundaries.stream().mapToLong(Long::longValue).toArray();
+        for (int i = 1; i < this.boundaries.length; i++) {
+            if (this.boundaries[i] <= this.boundaries[i - 1]) {
+                throw new IllegalArgumentException("경비 구간은 오름차순이어야 합니다.");
+            }
+        }
+    }
+
+    public int size() {
+        return boundaries.length * 2;
+    }
+
+    public int bucketOf(long expense) {
+        final int index = Arrays.binarySearch(boundaries, Math.max(expense, 0));
+        return index >= 0 ? index * 2 : (-index - 2) * 2 + 1;
+    }
+
+    public long lowerBound(int bucket) {
+        final long boundary = boundaries[bucket / 2];
+        return bucket % 2 == 0 ? boundary : boundary + 1;
+    }
+
+    // 칸에 포함되는 가장 큰 값, 경계값이 1 차이면 사이 칸은 비어서 하한보다 작다.
+    public long upperBound(int bucket) {
+        final int index = bucket / 2;
+        if (bucket % 2 == 0) {
+            return boundaries[index];
+        }
+        return index + 1 < boundaries.length ? boundaries[index + 1] - 1 : Long.MAX_VALUE;
+    }
+
+    // 필터 개수로 보여주는 구간 [b[i], b[i + 1]) 의 수, 구간 i 는 칸 2i, 2i + 1 로 이루어진다.
+    public int rangeSize() {
+        return boundaries.length;
+    }
+
+    public long rangeLowerBound(int range) {
+        return boundaries[range];
+    }
+
+    public long rangeUpperBound(int range) {
+        return range + 1 < boundaries.length ? boundaries[range + 1] - 1 : Long.MAX_VALUE;
+    }
+}
@@ -8,6 +8,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_like_total_count_comment_id", columnNames = "comment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StatisticsCommentLikeTotalCount extends BaseTimeEntity {
 
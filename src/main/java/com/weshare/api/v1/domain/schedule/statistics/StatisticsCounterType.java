@@ -0,0 +1,8 @@
+package com.weshare.api.v1.domain.schedule.statistics;
+
+public enum StatisticsCounterType {
+    SCHEDULE_LIKE,
+    SCHEDULE_COMMENT,
+    COMMENT_LIKE,
+    COMMENT_REPLY
+}
@@ -8,6 +8,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_parent_comment_total_count_parent_comment_id", columnNames = "parent_comment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StatisticsParentCommentTotalCount extends BaseTimeEntity {
 
@@ -0,0 +1,24 @@
+package com.weshare.api.v1.domain.schedule.statistics;
+
+import com.weshare.api.v1.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통계 보정 작업이 마지막으로 처리한 schedule_id, 중단된 작업은 여기서부터 이어서 진행한다.
+ */
+@Entity
+@Getter
+@Table(name = "statistics_reconciliation_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatisticsReconciliationCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(columnDefinition = "bigint default 0", nullable = false)
+    private long lastScheduleId;
+}
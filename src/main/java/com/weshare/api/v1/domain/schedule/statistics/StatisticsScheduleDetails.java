@@ -1,11 +1,20 @@
 package com.weshare.api.v1.domain.schedule.statistics;
 
 import com.weshare.api.v1.domain.BaseTimeEntity;
+import com.weshare.api.v1.domain.schedule.Destination;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
+// 카운터 컬럼은 update x = x + ? 로 따로 갱신되므로 엔티티 수정시 바뀐 컬럼만 update 한다.
 @Entity
+@DynamicUpdate
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_statistics_schedule_details_schedule_id", columnNames = "schedule_id")
+}, indexes = {
+        @Index(name = "idx_statistics_schedule_details_total_expense", columnList = "total_expense, schedule_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StatisticsScheduleDetails extends BaseTimeEntity {
     @Id
@@ -21,10 +30,14 @@ public class StatisticsScheduleDetails extends BaseTimeEntity {
     private int totalLikeCount;
     @Column(columnDefinition = "bigint default 0", nullable = false)
     private long totalExpense;
+    // 목적지, 경비 구간 개수에서 이 여행일정이 세어진 목적지
+    @Enumerated(EnumType.STRING)
+    private Destination destination;
 
     @Builder
-    private StatisticsScheduleDetails(Long scheduleId, int totalViewCount, int totalCommentCount, int totalLikeCount, long totalExpense) {
+    private StatisticsScheduleDetails(Long scheduleId, int totalViewCount, int totalCommentCount, int totalLikeCount, long totalExpense, Destination destination) {
         this.scheduleId = scheduleId;
+        this.destination = destination;
         this.totalViewCount = totalViewCount;
         this.totalCommentCount = totalCommentCount;
         this.totalLikeCount = totalLikeCount;
@@ -49,6 +62,15 @@ public class StatisticsScheduleDetails extends BaseTimeEntity {
         this.totalExpense = totalExpense;
     }
 
+    // 음수가 되어도 0 으로 자르지 않는다. 어긋난 값은 통계 보정 작업이 찾아서 맞추고 보고한다.
+    public void addTotalExpense(long expenseDelta) {
+        this.totalExpense += expenseDelta;
+    }
+
+    public void updateDestination(Destination destination) {
+        this.destination = destination;
+    }
+
     public void incrementTotalCommentCount() {
         this.totalCommentCount += 1;
     }
@@ -65,9 +87,9 @@ public class StatisticsScheduleDetails extends BaseTimeEntity {
     }
 
     public void decrementTotalLikeCount() {
-        if (totalCommentCount - 1 <= 0) {
+        if (totalLikeCount <= 0) {
             throw new IllegalStateException("총 카운트 수는 음수일 수 없습니다.");
         }
-        totalCommentCount -= 1;
+        totalLikeCount -= 1;
     }
 }
@@ -0,0 +1,30 @@
+package com.weshare.api.v1.domain.schedule.statistics;
+
+import com.weshare.api.v1.domain.BaseTimeEntity;
+import com.weshare.api.v1.domain.schedule.Destination;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 목적지, 경비 구간 별 여행일정 수, 필터가 걸린 피드의 전체 개수를 count 쿼리 없이 계산하는데 쓴다.
+@Entity
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_statistics_schedule_filter_count_cell",
+        columnNames = {"destination", "expense_bucket"}
+))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatisticsScheduleFilterCount extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Destination destination;
+    @Column(nullable = false)
+    private int expenseBucket;
+    @Column(columnDefinition = "bigint default 0", nullable = false)
+    private long totalCount;
+}
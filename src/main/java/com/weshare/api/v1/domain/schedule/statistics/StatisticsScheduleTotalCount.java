@@ -4,32 +4,25 @@ import com.weshare.api.v1.domain.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 
+// 여행일정 생성이 한 row 잠금에 몰리지 않도록 schedule_id 로 고른 shard 에 나눠서 센다. 총 개수는 모든 shard 의 합이다.
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_statistics_schedule_total_count_shard", columnNames = "shard"))
 public class StatisticsScheduleTotalCount extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @Column(columnDefinition = "int default 0", nullable = false)
+    private int shard;
     @Column(columnDefinition = "bigint default 0", nullable = false)
     private long totalCount;
 
-    public StatisticsScheduleTotalCount() {
+    protected StatisticsScheduleTotalCount() {
     }
 
-    public void incrementTotalCount() {
-        totalCount += 1;
-    }
-
-    public void decrementTotalCount() {
-        if (totalCount <= 0) {
-            throw new IllegalStateException("총 카운트 수는 음수일 수 없습니다.");
-        }
-        totalCount -= 1;
-    }
-
-    public void syncScheduleTotalCount(long totalCount) {
+    public StatisticsScheduleTotalCount(int shard, long totalCount) {
+        this.shard = shard;
         this.totalCount = totalCount;
     }
-
 }
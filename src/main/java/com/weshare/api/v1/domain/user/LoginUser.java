@@ -0,0 +1,30 @@
+package com.weshare.api.v1.domain.user;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 검증된 access token 의 claim 으로 만든 인증 사용자.
+ * 요청마다 users 테이블을 조회하지 않도록 id, email, role 만 가진다.
+ */
+@Getter
+@ToString
+public final class LoginUser {
+    private final Long id;
+    private final String email;
+    private final Role role;
+
+    public LoginUser(Long id, String email, Role role) {
+        this.id = Objects.requireNonNull(id);
+        this.email = Objects.requireNonNull(email);
+        this.role = Objects.requireNonNull(role);
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+}
@@ -0,0 +1,14 @@
+package com.weshare.api.v1.event.outbox;
+
+import com.weshare.api.v1.domain.outbox.AggregateType;
+
+/**
+ * outbox 에 기록되어 커밋 이후 반드시 처리되어야 하는 이벤트.
+ * 같은 aggregate 의 이벤트는 발행된 순서대로 처리된다.
+ */
+public interface AggregateEvent {
+
+    AggregateType aggregateType();
+
+    Long aggregateId();
+}
@@ -0,0 +1,28 @@
+package com.weshare.api.v1.event.outbox;
+
+import com.weshare.api.v1.domain.outbox.OutboxEvent;
+import com.weshare.api.v1.repository.outbox.OutboxEventRepository;
+import com.weshare.api.v1.service.outbox.OutboxEventDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventDispatcher outboxEventDispatcher;
+
+    // 이벤트를 발행한 서비스의 트랜잭션 안에서 저장해서 도메인 변경과 같이 커밋되도록 한다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(AggregateEvent event) {
+        outboxEventRepository.save(new OutboxEvent(
+                event.aggregateType(),
+                event.aggregateId(),
+                outboxEventDispatcher.getEventType(event),
+                outboxEventDispatcher.serialize(event)
+        ));
+    }
+}
@@ -1,12 +1,25 @@
 package com.weshare.api.v1.event.schedule;
 
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.event.outbox.AggregateEvent;
+
 import java.util.Objects;
 
 public record CommentCreatedEvent (
         Long scheduleId,
         Long parentCommentId
-){
+) implements AggregateEvent {
     public CommentCreatedEvent {
         Objects.requireNonNull(scheduleId);
     }
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.SCHEDULE;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return scheduleId;
+    }
 }
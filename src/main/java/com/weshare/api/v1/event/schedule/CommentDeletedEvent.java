@@ -1,5 +1,8 @@
 package com.weshare.api.v1.event.schedule;
 
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.event.outbox.AggregateEvent;
+
 import java.util.Objects;
 
 public record CommentDeletedEvent(
@@ -7,9 +10,19 @@ public record CommentDeletedEvent(
         Long commentId,
         Long parentCommentId,
         int deletedCommentCount
-) {
+) implements AggregateEvent {
     public CommentDeletedEvent {
         Objects.requireNonNull(scheduleId);
         Objects.requireNonNull(commentId);
     }
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.SCHEDULE;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return scheduleId;
+    }
 }
@@ -1,11 +1,24 @@
 package com.weshare.api.v1.event.schedule;
 
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.event.outbox.AggregateEvent;
+
 import java.util.Objects;
 
 public record CommentLikedEvent(
     Long commentId
-) {
+) implements AggregateEvent {
     public CommentLikedEvent {
         Objects.requireNonNull(commentId);
     }
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.COMMENT;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return commentId;
+    }
 }
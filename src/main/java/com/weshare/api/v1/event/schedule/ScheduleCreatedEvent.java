@@ -1,9 +1,12 @@
 package com.weshare.api.v1.event.schedule;
 
+import com.weshare.api.v1.domain.schedule.Destination;
+
 import java.util.Objects;
 
 public record ScheduleCreatedEvent(
         Long scheduleId,
+        Destination destination,
         long totalExpense
 ) {
     public ScheduleCreatedEvent {
@@ -1,4 +1,17 @@
 package com.weshare.api.v1.event.schedule;
 
-public record ScheduleDeletedEvent(Long scheduleId) {
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.event.outbox.AggregateEvent;
+
+public record ScheduleDeletedEvent(Long scheduleId) implements AggregateEvent {
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.SCHEDULE;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return scheduleId;
+    }
 }
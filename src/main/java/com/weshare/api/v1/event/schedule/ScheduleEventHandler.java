@@ -7,13 +7,13 @@ import com.weshare.api.v1.event.user.UserDeletedEvent;
 import com.weshare.api.v1.repository.comment.CommentRepository;
 import com.weshare.api.v1.repository.like.ScheduleLikeRepository;
 import com.weshare.api.v1.repository.schedule.ScheduleRepository;
+import com.weshare.api.v1.service.outbox.OutboxEventHandler;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -22,13 +22,14 @@ import java.util.List;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ScheduleEventHandler {
+public class ScheduleEventHandler implements OutboxEventHandler {
 
     private final ScheduleRepository scheduleRepository;
     private final CommentRepository commentRepository;
     private final ScheduleLikeRepository scheduleLikeRepository;
 
-    @Order(Ordered.HIGHEST_PRECEDENCE)
+    // ScheduleDetailCacheEventHandler 가 지워질 여행일정 id 를 먼저 모을 수 있도록 그 다음에 실행한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void userDeletedEvent(UserDeletedEvent deletedEvent) {
         log.info("schedule event 진입");
@@ -56,10 +57,13 @@ public class ScheduleEventHandler {
     }
 
 
+    @Override
+    public void register(OutboxHandlerRegistry registry) {
+        registry.on(ScheduleDeletedEvent.class, events -> events.forEach(this::scheduleDeletedEvent));
+    }
+
     // 이것도 데이터 많을 때 생각해서 처리해야함
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void scheduleDeletedEvent(ScheduleDeletedEvent scheduleDeletedEvent) {
+    private void scheduleDeletedEvent(ScheduleDeletedEvent scheduleDeletedEvent) {
         final Long scheduleId = scheduleDeletedEvent.scheduleId();
         commentRepository.deleteByScheduleId(scheduleId);
         scheduleLikeRepository.deleteByScheduleId(scheduleId);
@@ -1,11 +1,24 @@
 package com.weshare.api.v1.event.schedule;
 
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.event.outbox.AggregateEvent;
+
 import java.util.Objects;
 
 public record ScheduleUnlikedEvent(
     Long scheduleId
-) {
+) implements AggregateEvent {
     public ScheduleUnlikedEvent {
         Objects.requireNonNull(scheduleId);
     }
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.SCHEDULE;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return scheduleId;
+    }
 }
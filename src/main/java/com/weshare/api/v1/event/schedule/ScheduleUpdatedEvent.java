@@ -1,4 +1,21 @@
 package com.weshare.api.v1.event.schedule;
 
-public record ScheduleUpdatedEvent(Long scheduleId) {
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.event.outbox.AggregateEvent;
+
+/**
+ * expenseDelta 는 수정 전후 총 경비 차이다. 통계 테이블은 여행일정을 다시 읽지 않고 이 값만 더한다.
+ */
+public record ScheduleUpdatedEvent(Long scheduleId, Destination destination, long expenseDelta) implements AggregateEvent {
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.SCHEDULE;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return scheduleId;
+    }
 }
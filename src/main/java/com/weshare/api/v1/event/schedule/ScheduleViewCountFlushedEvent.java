@@ -0,0 +1,11 @@
+package com.weshare.api.v1.event.schedule;
+
+import java.util.Map;
+import java.util.Objects;
+
+public record ScheduleViewCountFlushedEvent(Map<Long, Long> viewCounts) {
+    public ScheduleViewCountFlushedEvent {
+        Objects.requireNonNull(viewCounts);
+        viewCounts = Map.copyOf(viewCounts);
+    }
+}
@@ -0,0 +1,93 @@
+package com.weshare.api.v1.event.schedule.card;
+
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
+import com.weshare.api.v1.domain.schedule.exception.ScheduleNotFoundException;
+import com.weshare.api.v1.event.schedule.CommentCreatedEvent;
+import com.weshare.api.v1.event.schedule.CommentDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleCreatedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleLikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUnlikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUpdatedEvent;
+import com.weshare.api.v1.event.user.UserDeletedEvent;
+import com.weshare.api.v1.repository.schedule.ScheduleRepository;
+import com.weshare.api.v1.repository.schedule.card.ScheduleCardRepository;
+import com.weshare.api.v1.repository.schedule.query.ScheduleQueryRepository;
+import com.weshare.api.v1.service.outbox.EventCounts;
+import com.weshare.api.v1.service.outbox.OutboxEventHandler;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCardEventHandler implements OutboxEventHandler {
+
+    private final ScheduleCardRepository scheduleCardRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleQueryRepository queryRepository;
+
+    // 여행일정 저장과 같은 트랜잭션에서 카드를 만들어 피드에 바로 노출되도록 한다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void scheduleCreated(ScheduleCreatedEvent createdEvent) {
+        final Schedule schedule = scheduleRepository.findById(createdEvent.scheduleId())
+                .orElseThrow(() -> new ScheduleNotFoundException("저장한 여행일정을 찾지 못해 카드를 만들 수 없습니다."));
+
+        scheduleCardRepository.save(ScheduleCard.of(schedule, createdEvent.totalExpense()));
+    }
+
+    @Override
+    public void register(OutboxHandlerRegistry registry) {
+        registry.on(ScheduleUpdatedEvent.class, events -> events.forEach(this::scheduleUpdated));
+        registry.on(ScheduleDeletedEvent.class, events -> events.forEach(this::scheduleDeleted));
+        registry.on(ScheduleLikedEvent.class, events ->
+                addLikeCounts(EventCounts.sum(events, ScheduleLikedEvent::scheduleId, event -> 1)));
+        registry.on(ScheduleUnlikedEvent.class, events ->
+                addLikeCounts(EventCounts.sum(events, ScheduleUnlikedEvent::scheduleId, event -> -1)));
+        registry.on(CommentCreatedEvent.class, events ->
+                addCommentCounts(EventCounts.sum(events, CommentCreatedEvent::scheduleId, event -> 1)));
+        registry.on(CommentDeletedEvent.class, events ->
+                addCommentCounts(EventCounts.sum(events, CommentDeletedEvent::scheduleId, event -> -event.deletedCommentCount())));
+    }
+
+    private void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
+        final Long scheduleId = updatedEvent.scheduleId();
+        final Optional<Schedule> schedule = queryRepository.findScheduleDetailById(scheduleId);
+        if (schedule.isEmpty()) {
+            log.warn("수정한 여행일정이 삭제되어 카드를 업데이트하지 않습니다. scheduleId = {}", scheduleId);
+            return;
+        }
+
+        scheduleCardRepository.findById(scheduleId)
+                .ifPresentOrElse(
+                        card -> card.updateSummary(schedule.get(), schedule.get().getTotalScheduleExpense()),
+                        () -> log.warn("카드가 없는 여행일정이 수정되었습니다. scheduleId = {}", scheduleId)
+                );
+    }
+
+    private void scheduleDeleted(ScheduleDeletedEvent deletedEvent) {
+        scheduleCardRepository.deleteById(deletedEvent.scheduleId());
+    }
+
+    // 회원 탈퇴시 여행일정은 삭제 이벤트 없이 한번에 지워지므로 카드도 같이 지운다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void userDeleted(UserDeletedEvent deletedEvent) {
+        scheduleCardRepository.deleteAllByUserId(deletedEvent.userId());
+    }
+
+    private void addLikeCounts(Map<Long, Long> deltas) {
+        deltas.forEach((scheduleId, delta) -> scheduleCardRepository.addLikeCount(scheduleId, delta.intValue()));
+    }
+
+    private void addCommentCounts(Map<Long, Long> deltas) {
+        deltas.forEach((scheduleId, delta) -> scheduleCardRepository.addCommentCount(scheduleId, delta.intValue()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.weshare.api.v1.event.schedule.detail;
+
+import com.weshare.api.v1.config.schedule.ScheduleDetailCacheProperties;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUpdatedEvent;
+import com.weshare.api.v1.event.user.UserDeletedEvent;
+import com.weshare.api.v1.repository.schedule.ScheduleRepository;
+import com.weshare.api.v1.service.schedule.query.ScheduleDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleDetailCacheEventHandler {
+
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ScheduleDetailCacheProperties cacheProperties;
+    private final ScheduleRepository scheduleRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
+        evict(updatedEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void scheduleDeleted(ScheduleDeletedEvent deletedEvent) {
+        evict(deletedEvent.scheduleId());
+    }
+
+    /*
+     * 회원 탈퇴는 여행일정마다 삭제 이벤트를 남기지 않으므로 ScheduleEventHandler 가 지우기 전에 id 를 모아 두고 커밋 뒤에 무효화한다.
+     * 캐시된 본문만으로 304 를 판단하므로 지워진 여행일정의 캐시가 남으면 안 된다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void userDeleted(UserDeletedEvent deletedEvent) {
+        if (!cacheProperties.isEnabled()) {
+            return;
+        }
+        final List<Long> scheduleIds = scheduleRepository.findByUserId(deletedEvent.userId())
+                .stream()
+                .map(Schedule::getId)
+                .toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleIds.forEach(scheduleDetailCache::evict);
+            }
+        });
+    }
+
+    private void evict(Long scheduleId) {
+        if (!cacheProperties.isEnabled()) {
+            return;
+        }
+        scheduleDetailCache.evict(scheduleId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.weshare.api.v1.event.schedule.search;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.event.schedule.ScheduleCreatedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUpdatedEvent;
+import com.weshare.api.v1.event.user.UserDeletedEvent;
+import com.weshare.api.v1.repository.schedule.query.ScheduleQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleFacetDto;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleFacetIndexEventHandler {
+
+    private final ScheduleFacetIndex scheduleFacetIndex;
+    private final ScheduleQueryRepository scheduleQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void scheduleCreated(ScheduleCreatedEvent createdEvent) {
+        reindex(createdEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
+        reindex(updatedEvent.scheduleId());
+    }
+
+    private void reindex(Long scheduleId) {
+        if (!scheduleSearchProperties.isFacetIndex()) {
+            return;
+        }
+        scheduleQueryRepository.findScheduleDetailById(scheduleId)
+                .map(ScheduleFacetDto::from)
+                .ifPresentOrElse(scheduleFacetIndex::upsert, () -> scheduleFacetIndex.remove(scheduleId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void scheduleDeleted(ScheduleDeletedEvent deletedEvent) {
+        scheduleFacetIndex.remove(deletedEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void userDeleted(UserDeletedEvent deletedEvent) {
+        scheduleFacetIndex.removeByUserId(deletedEvent.userId());
+    }
+}
@@ -0,0 +1,74 @@
+package com.weshare.api.v1.event.schedule.search;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.event.schedule.ScheduleCreatedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleLikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUnlikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUpdatedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleViewCountFlushedEvent;
+import com.weshare.api.v1.event.user.UserDeletedEvent;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.service.schedule.search.ScheduleSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleSuggestIndexEventHandler {
+
+    private final ScheduleSuggestIndex scheduleSuggestIndex;
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void scheduleCreated(ScheduleCreatedEvent createdEvent) {
+        reindex(createdEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
+        reindex(updatedEvent.scheduleId());
+    }
+
+    private void reindex(Long scheduleId) {
+        if (!scheduleSearchProperties.isSuggest()) {
+            return;
+        }
+        pageQueryRepository.findScheduleTitle(scheduleId)
+                .ifPresentOrElse(scheduleSuggestIndex::upsert, () -> scheduleSuggestIndex.remove(scheduleId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void scheduleDeleted(ScheduleDeletedEvent deletedEvent) {
+        scheduleSuggestIndex.remove(deletedEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void userDeleted(UserDeletedEvent deletedEvent) {
+        scheduleSuggestIndex.removeByUserId(deletedEvent.userId());
+    }
+
+    @EventListener
+    public void scheduleLiked(ScheduleLikedEvent likedEvent) {
+        scheduleSuggestIndex.addPopularity(likedEvent.scheduleId(), ScheduleSuggestIndex.LIKE_WEIGHT);
+    }
+
+    @EventListener
+    public void scheduleUnliked(ScheduleUnlikedEvent unlikedEvent) {
+        scheduleSuggestIndex.addPopularity(unlikedEvent.scheduleId(), -ScheduleSuggestIndex.LIKE_WEIGHT);
+    }
+
+    @EventListener
+    public void scheduleViewCountFlushed(ScheduleViewCountFlushedEvent flushedEvent) {
+        flushedEvent.viewCounts()
+                .forEach((id, count) -> scheduleSuggestIndex.addPopularity(id, count * ScheduleSuggestIndex.VIEW_WEIGHT));
+    }
+}
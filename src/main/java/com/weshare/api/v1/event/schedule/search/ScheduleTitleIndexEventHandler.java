@@ -0,0 +1,54 @@
+package com.weshare.api.v1.event.schedule.search;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.event.schedule.ScheduleCreatedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUpdatedEvent;
+import com.weshare.api.v1.event.user.UserDeletedEvent;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.service.schedule.search.ScheduleTitleIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleTitleIndexEventHandler {
+
+    private final ScheduleTitleIndex scheduleTitleIndex;
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void scheduleCreated(ScheduleCreatedEvent createdEvent) {
+        reindex(createdEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
+        reindex(updatedEvent.scheduleId());
+    }
+
+    private void reindex(Long scheduleId) {
+        if (!scheduleSearchProperties.isTitleIndex()) {
+            return;
+        }
+        pageQueryRepository.findScheduleTitle(scheduleId)
+                .ifPresentOrElse(scheduleTitleIndex::upsert, () -> scheduleTitleIndex.remove(scheduleId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void scheduleDeleted(ScheduleDeletedEvent deletedEvent) {
+        scheduleTitleIndex.remove(deletedEvent.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void userDeleted(UserDeletedEvent deletedEvent) {
+        scheduleTitleIndex.removeByUserId(deletedEvent.userId());
+    }
+}
@@ -1,78 +1,55 @@
 package com.weshare.api.v1.event.schedule.statistics;
 
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsParentCommentTotalCount;
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
 import com.weshare.api.v1.event.schedule.CommentCreatedEvent;
 import com.weshare.api.v1.event.schedule.CommentDeletedEvent;
 import com.weshare.api.v1.repository.comment.CommentTotalCountRepository;
-import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleDetailsRepository;
+import com.weshare.api.v1.service.outbox.EventCounts;
+import com.weshare.api.v1.service.outbox.OutboxEventHandler;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry;
+import com.weshare.api.v1.service.schedule.statistics.StatisticsCounterFlusher;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
+import java.util.List;
+import java.util.Map;
+
+import static com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType.COMMENT_REPLY;
+import static com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType.SCHEDULE_COMMENT;
+
+/**
+ * 댓글 통계는 outbox 로 전달받고, 한 묶음 안의 증감을 버퍼에 합쳐서 커밋 직전에 반영한다.
+ */
 @Component
 @RequiredArgsConstructor
-public class StatisticsCommentEventHandler {
-    private static final long DEFAULT_TOTAL_COUNT = 0L;
+public class StatisticsCommentEventHandler implements OutboxEventHandler {
     private final CommentTotalCountRepository commentTotalCountRepository;
-    private final StatisticsScheduleDetailsRepository scheduleDetailsRepository;
-
-    @EventListener
-    @Transactional
-    @Async
-    public void incrementCommentTotalCount(CommentCreatedEvent createdEvent) {
-        if (createdEvent.parentCommentId() == null) {
-            return;
-        }
-
-        final Long parentCommentId = createdEvent.parentCommentId();
-        final StatisticsParentCommentTotalCount statisticsParentCommentTotalCount = commentTotalCountRepository.findByParentCommentId(parentCommentId)
-                .orElse(new StatisticsParentCommentTotalCount(parentCommentId, DEFAULT_TOTAL_COUNT));
+    private final StatisticsCounterFlusher counterFlusher;
 
-        statisticsParentCommentTotalCount.incrementTotalCount();
-        commentTotalCountRepository.save(statisticsParentCommentTotalCount);
+    @Override
+    public void register(OutboxHandlerRegistry registry) {
+        registry.on(CommentCreatedEvent.class, this::commentCreated);
+        registry.on(CommentDeletedEvent.class, this::commentDeleted);
     }
 
-    @EventListener
-    @Transactional
-    @Async
-    public void incrementScheduleTotalCommentCount(CommentCreatedEvent createdEvent) {
-        StatisticsScheduleDetails statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(createdEvent.scheduleId())
-                .orElseThrow(StatisticsScheduleNotFound::new);
-
-        statisticsScheduleDetails.incrementTotalCommentCount();
+    private void commentCreated(List<CommentCreatedEvent> createdEvents) {
+        final List<CommentCreatedEvent> childCreatedEvents = createdEvents.stream()
+                .filter(event -> event.parentCommentId() != null)
+                .toList();
+        counterFlusher.add(COMMENT_REPLY, EventCounts.sum(childCreatedEvents, CommentCreatedEvent::parentCommentId, event -> 1));
+        counterFlusher.add(SCHEDULE_COMMENT, EventCounts.sum(createdEvents, CommentCreatedEvent::scheduleId, event -> 1));
     }
 
-    @EventListener
-    @Transactional
-    @Async
-    public void decrementCommentTotalCount(CommentDeletedEvent deletedEvent) {
-        if (deletedEvent.parentCommentId() == null && deletedEvent.deletedCommentCount() > 1) {
-            StatisticsParentCommentTotalCount statisticsParentCommentTotalCount = commentTotalCountRepository.findByParentCommentId(deletedEvent.commentId())
-                    .orElseThrow(StatisticsCommentTotalCountNotFound::new);
-
-            commentTotalCountRepository.delete(statisticsParentCommentTotalCount);
-            return;
-        }
-        if (deletedEvent.parentCommentId() != null) {
-            final StatisticsParentCommentTotalCount statisticsParentCommentTotalCount = commentTotalCountRepository.findByParentCommentId(deletedEvent.parentCommentId())
-                    .orElseThrow(StatisticsCommentTotalCountNotFound::new);
-            statisticsParentCommentTotalCount.decrementTotalCount();
+    // 대댓글이 있는 부모 댓글이 삭제되면 통계 row 를 지우고, 아직 반영되지 않은 증감도 버린다.
+    private void commentDeleted(List<CommentDeletedEvent> deletedEvents) {
+        for (CommentDeletedEvent deletedEvent : deletedEvents) {
+            if (deletedEvent.parentCommentId() == null && deletedEvent.deletedCommentCount() > 1) {
+                counterFlusher.discard(COMMENT_REPLY, deletedEvent.commentId());
+                commentTotalCountRepository.deleteAllByParentCommentId(deletedEvent.commentId());
+            } else if (deletedEvent.parentCommentId() != null) {
+                counterFlusher.add(COMMENT_REPLY, Map.of(deletedEvent.parentCommentId(), -1L));
+            }
         }
+        counterFlusher.add(SCHEDULE_COMMENT,
+                EventCounts.sum(deletedEvents, CommentDeletedEvent::scheduleId, event -> -event.deletedCommentCount()));
     }
-
-    @EventListener
-    @Transactional
-    @Async
-    public void decrementScheduleTotalCommentCount(CommentDeletedEvent deletedEvent) {
-        final StatisticsScheduleDetails statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(deletedEvent.scheduleId())
-                .orElseThrow(StatisticsScheduleNotFound::new);
-
-        statisticsScheduleDetails.decrementTotalCount(deletedEvent.deletedCommentCount());
-    }
-
-}
\ No newline at end of file
+}
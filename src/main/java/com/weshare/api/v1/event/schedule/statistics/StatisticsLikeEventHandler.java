@@ -1,69 +1,37 @@
 package com.weshare.api.v1.event.schedule.statistics;
 
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsCommentLikeTotalCount;
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
 import com.weshare.api.v1.event.schedule.CommentLikedEvent;
 import com.weshare.api.v1.event.schedule.CommentUnlikedEvent;
 import com.weshare.api.v1.event.schedule.ScheduleLikedEvent;
 import com.weshare.api.v1.event.schedule.ScheduleUnlikedEvent;
-import com.weshare.api.v1.repository.like.CommentLikeTotalCountRepository;
-import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleDetailsRepository;
+import com.weshare.api.v1.service.outbox.EventCounts;
+import com.weshare.api.v1.service.outbox.OutboxEventHandler;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry;
+import com.weshare.api.v1.service.schedule.statistics.StatisticsCounterFlusher;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
+import static com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType.COMMENT_LIKE;
+import static com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType.SCHEDULE_LIKE;
+
+/**
+ * 좋아요 통계는 outbox 로 전달받고, 한 묶음 안의 증감을 버퍼에 합쳐서 커밋 직전에 반영한다.
+ */
 @Component
 @RequiredArgsConstructor
-public class StatisticsLikeEventHandler {
-
-    public static final int DEFAULT_TOTAL_COUNT = 0;
-    private final StatisticsScheduleDetailsRepository scheduleDetailsRepository;
-    private final CommentLikeTotalCountRepository commentLikeTotalCountRepository;
-
-    @EventListener
-    @Transactional
-    @Async
-    public void incrementScheduleLikeTotalCount(ScheduleLikedEvent likedEvent) {
-        final StatisticsScheduleDetails statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(likedEvent.scheduleId())
-                .orElseThrow(StatisticsScheduleNotFound::new);
-
-        statisticsScheduleDetails.incrementTotalLikeCount();
-    }
-
-    @EventListener
-    @Transactional
-    @Async
-    public void decrementScheduleLikeTotalCount(ScheduleUnlikedEvent unlikedEvent) {
-        final StatisticsScheduleDetails statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(unlikedEvent.scheduleId())
-                .orElseThrow(StatisticsScheduleNotFound::new);
-
-        statisticsScheduleDetails.decrementTotalLikeCount();
-    }
-
-    @EventListener
-    @Transactional
-    @Async
-    public void incrementCommentLikeTotalCount(CommentLikedEvent likedEvent) {
-        final Long commentId = likedEvent.commentId();
-        StatisticsCommentLikeTotalCount statisticsCommentLikeTotalCount = commentLikeTotalCountRepository.findByCommentId(commentId)
-                .orElse(new StatisticsCommentLikeTotalCount(commentId, DEFAULT_TOTAL_COUNT));
-
-        statisticsCommentLikeTotalCount.incrementTotalCount();
-        commentLikeTotalCountRepository.save(statisticsCommentLikeTotalCount);
-    }
-
-    @EventListener
-    @Transactional
-    @Async
-    public void decrementCommentLikeTotalCount(CommentUnlikedEvent unlikedEvent) {
-        final Long commentId = unlikedEvent.commentId();
-        final StatisticsCommentLikeTotalCount statisticsCommentLikeTotalCount = commentLikeTotalCountRepository.findByCommentId(commentId)
-                .orElseThrow(StatisticsCommentTotalCountNotFound::new);
-
-        statisticsCommentLikeTotalCount.decrementTotalCount();
+public class StatisticsLikeEventHandler implements OutboxEventHandler {
+
+    private final StatisticsCounterFlusher counterFlusher;
+
+    @Override
+    public void register(OutboxHandlerRegistry registry) {
+        registry.on(ScheduleLikedEvent.class, events ->
+                counterFlusher.add(SCHEDULE_LIKE, EventCounts.sum(events, ScheduleLikedEvent::scheduleId, event -> 1)));
+        registry.on(ScheduleUnlikedEvent.class, events ->
+                counterFlusher.add(SCHEDULE_LIKE, EventCounts.sum(events, ScheduleUnlikedEvent::scheduleId, event -> -1)));
+        registry.on(CommentLikedEvent.class, events ->
+                counterFlusher.add(COMMENT_LIKE, EventCounts.sum(events, CommentLikedEvent::commentId, event -> 1)));
+        registry.on(CommentUnlikedEvent.class, events ->
+                counterFlusher.add(COMMENT_LIKE, EventCounts.sum(events, CommentUnlikedEvent::commentId, event -> -1)));
     }
-}
\ No newline at end of file
+}
@@ -1,74 +1,115 @@
 package com.weshare.api.v1.event.schedule.statistics;
 
-import com.weshare.api.v1.domain.schedule.Schedule;
-import com.weshare.api.v1.domain.schedule.exception.ScheduleNotFoundException;
+import com.weshare.api.v1.config.schedule.ScheduleFilterCountProperties;
+import com.weshare.api.v1.config.schedule.StatisticsTotalCountProperties;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.statistics.ExpenseBuckets;
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleTotalCount;
 import com.weshare.api.v1.event.schedule.ScheduleCreatedEvent;
 import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
 import com.weshare.api.v1.event.schedule.ScheduleUpdatedEvent;
-import com.weshare.api.v1.repository.schedule.query.ScheduleQueryRepository;
 import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleDetailsRepository;
+import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleFilterCountRepository;
 import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleTotalCountRepository;
+import com.weshare.api.v1.service.outbox.OutboxEventHandler;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Objects;
+import java.util.Optional;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class StatisticsScheduleEventHandler {
+public class StatisticsScheduleEventHandler implements OutboxEventHandler {
 
     private final StatisticsScheduleDetailsRepository scheduleDetailsRepository;
     private final StatisticsScheduleTotalCountRepository scheduleTotalCountRepository;
-    private final ScheduleQueryRepository queryRepository;
+    private final StatisticsTotalCountProperties totalCountProperties;
+    private final StatisticsScheduleFilterCountRepository filterCountRepository;
+    private final ScheduleFilterCountProperties filterCountProperties;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void scheduleCreated(ScheduleCreatedEvent createdEvent) {
         StatisticsScheduleDetails statisticsScheduleDetails = createStatisticsScheduleDetails(createdEvent);
         scheduleDetailsRepository.save(statisticsScheduleDetails);
 
-        StatisticsScheduleTotalCount statisticsScheduleTotalCount = scheduleTotalCountRepository.findFirstByOrderByModifiedDate()
-                .orElseGet(this::saveScheduleTotalCount);
-        statisticsScheduleTotalCount.incrementTotalCount();
+        // 동시에 생성되는 여행일정은 schedule_id 가 달라서 서로 다른 shard row 를 잠근다.
+        final Long scheduleId = createdEvent.scheduleId();
+        scheduleTotalCountRepository.addTotalCount(totalCountProperties.shardOf(scheduleId), 1);
+        addFilterCount(statisticsScheduleDetails.getDestination(), statisticsScheduleDetails.getTotalExpense(), 1);
     }
 
     private StatisticsScheduleDetails createStatisticsScheduleDetails(ScheduleCreatedEvent createdEvent) {
         return StatisticsScheduleDetails.builder()
                 .scheduleId(createdEvent.scheduleId())
                 .totalExpense(createdEvent.totalExpense())
+                .destination(Objects.requireNonNullElse(createdEvent.destination(), Destination.EMPTY))
                 .build();
     }
 
-    private StatisticsScheduleTotalCount saveScheduleTotalCount() {
-        return scheduleTotalCountRepository.save(new StatisticsScheduleTotalCount());
+    @Override
+    public void register(OutboxHandlerRegistry registry) {
+        registry.on(ScheduleUpdatedEvent.class, events -> events.forEach(this::scheduleUpdated));
+        registry.on(ScheduleDeletedEvent.class, events -> events.forEach(this::scheduleDeleted));
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
+    // 수정 이후 삭제까지 커밋된 경우 수정 이벤트는 반영할 대상이 없으므로 건너뛴다.
+    // 여행일정을 다시 읽지 않고 이벤트의 목적지, 경비 차이로 통계 row 만 고친다.
+    private void scheduleUpdated(ScheduleUpdatedEvent updatedEvent) {
         final Long scheduleId = updatedEvent.scheduleId();
-        final StatisticsScheduleDetails statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(scheduleId)
-                .orElseThrow(() -> new ScheduleNotFoundException("통계테이블에서 수정한 여행일정이 없습니다."));
+        final Optional<StatisticsScheduleDetails> statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(scheduleId);
+        if (statisticsScheduleDetails.isEmpty()) {
+            log.warn("통계테이블을 업데이트할 여행일정이 없습니다. scheduleId = {}", scheduleId);
+            return;
+        }
 
-        final Schedule schedule = queryRepository.findScheduleDetailById(scheduleId)
-                .orElseThrow(() -> new ScheduleNotFoundException("수정한 여행일정을 찾지 못해 통계테이블을 업데이트할 수 없습니다."));
+        final StatisticsScheduleDetails details = statisticsScheduleDetails.get();
+        final Destination destination = Objects.requireNonNullElse(updatedEvent.destination(),
+                Objects.requireNonNullElse(details.getDestination(), Destination.EMPTY));
+        final long totalExpense = details.getTotalExpense() + updatedEvent.expenseDelta();
+        if (totalExpense < 0) {
+            log.warn("통계테이블의 경비 합계가 음수가 되었습니다. 통계 보정 작업에서 맞춥니다. scheduleId = {}, totalExpense = {}", scheduleId, totalExpense);
+        }
+        // 통계 row 에 기록된 칸에서 빼고 새 칸에 더한다. 목적지가 비어 있으면 아직 세어지지 않은 row 다.
+        if (!isSameFilterCell(details, destination, totalExpense)) {
+            if (details.getDestination() != null) {
+                addFilterCount(details.getDestination(), details.getTotalExpense(), -1);
+            }
+            addFilterCount(destination, totalExpense, 1);
+        }
 
-        statisticsScheduleDetails.updateScheduleTotalExpense(schedule.getTotalScheduleExpense());
+        details.updateDestination(destination);
+        if (updatedEvent.expenseDelta() != 0) {
+            details.addTotalExpense(updatedEvent.expenseDelta());
+        }
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void scheduleDeleted(ScheduleDeletedEvent scheduleDeletedEvent) {
+    private void scheduleDeleted(ScheduleDeletedEvent scheduleDeletedEvent) {
         final Long scheduleId = scheduleDeletedEvent.scheduleId();
-        scheduleDetailsRepository.deleteByScheduleId(scheduleId);
+        scheduleDetailsRepository.findByScheduleId(scheduleId)
+                .ifPresent(details -> {
+                    if (details.getDestination() != null) {
+                        addFilterCount(details.getDestination(), details.getTotalExpense(), -1);
+                    }
+                    scheduleDetailsRepository.delete(details);
+                });
+        // 생성할 때와 같은 shard 에서 빼야 shard 값이 음수로 잘리지 않는다.
+        scheduleTotalCountRepository.addTotalCount(totalCountProperties.shardOf(scheduleId), -1);
+    }
 
-        final StatisticsScheduleTotalCount statisticsScheduleTotalCount =
-                scheduleTotalCountRepository.findFirstByOrderByModifiedDate()
-                .orElseThrow(() -> new StatisticsScheduleNotFound("통계 테이블이 존재하지 않습니다."));
+    private boolean isSameFilterCell(StatisticsScheduleDetails details, Destination destination, long totalExpense) {
+        final ExpenseBuckets expenseBuckets = filterCountProperties.getExpenseBuckets();
+        return details.getDestination() == destination
+                && expenseBuckets.bucketOf(details.getTotalExpense()) == expenseBuckets.bucketOf(totalExpense);
+    }
 
-        statisticsScheduleTotalCount.decrementTotalCount();
+    private void addFilterCount(Destination destination, long totalExpense, long delta) {
+        final int expenseBucket = filterCountProperties.getExpenseBuckets().bucketOf(totalExpense);
+        filterCountRepository.addCount(destination, expenseBucket, delta);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.weshare.api.v1.event.schedule.trending;
+
+import com.weshare.api.v1.config.schedule.ScheduleTrendingProperties;
+import com.weshare.api.v1.event.schedule.CommentCreatedEvent;
+import com.weshare.api.v1.event.schedule.CommentDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleDeletedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleLikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUnlikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleViewCountFlushedEvent;
+import com.weshare.api.v1.repository.schedule.trending.ScheduleTrendingRepository;
+import com.weshare.api.v1.service.outbox.EventCounts;
+import com.weshare.api.v1.service.outbox.OutboxEventHandler;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 좋아요, 댓글은 outbox 로 전달받고 조회수는 DB 반영이 끝난 묶음을 받아서 인기 점수에 더한다.
+ * 취소된 좋아요, 삭제된 댓글은 현재 시점의 가중치로 빼므로 점수가 실제보다 조금 낮아질 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleTrendingEventHandler implements OutboxEventHandler {
+
+    private final ScheduleTrendingRepository trendingRepository;
+    private final ScheduleTrendingProperties trendingProperties;
+
+    @Override
+    public void register(OutboxHandlerRegistry registry) {
+        registry.on(ScheduleLikedEvent.class, events ->
+                addScores(EventCounts.sum(events, ScheduleLikedEvent::scheduleId, event -> 1), trendingProperties.getLikeWeight()));
+        registry.on(ScheduleUnlikedEvent.class, events ->
+                addScores(EventCounts.sum(events, ScheduleUnlikedEvent::scheduleId, event -> -1), trendingProperties.getLikeWeight()));
+        registry.on(CommentCreatedEvent.class, events ->
+                addScores(EventCounts.sum(events, CommentCreatedEvent::scheduleId, event -> 1), trendingProperties.getCommentWeight()));
+        registry.on(CommentDeletedEvent.class, events ->
+                addScores(EventCounts.sum(events, CommentDeletedEvent::scheduleId, event -> -event.deletedCommentCount()), trendingProperties.getCommentWeight()));
+        registry.on(ScheduleDeletedEvent.class, events ->
+                trendingRepository.remove(events.stream().map(ScheduleDeletedEvent::scheduleId).toList()));
+    }
+
+    @EventListener
+    public void scheduleViewCountFlushed(ScheduleViewCountFlushedEvent flushedEvent) {
+        addScores(flushedEvent.viewCounts(), trendingProperties.getViewWeight());
+    }
+
+    private void addScores(Map<Long, Long> counts, double weight) {
+        final Map<Long, Double> scores = new HashMap<>(counts.size());
+        counts.forEach((scheduleId, count) -> scores.put(scheduleId, count * weight));
+        trendingRepository.addScores(scores);
+    }
+}
@@ -1,8 +1,7 @@
 package com.weshare.api.v1.event.token;
 
 import com.weshare.api.v1.event.user.UserDeletedEvent;
-import com.weshare.api.v1.token.RefreshToken;
-import com.weshare.api.v1.token.RefreshTokenRepository;
+import com.weshare.api.v1.token.refresh.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
@@ -10,20 +9,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.Optional;
-
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class TokenEventHandler {
-    private final RefreshTokenRepository tokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
+    // refresh token 은 Redis 에 있으므로 탈퇴가 커밋된 뒤에 폐기한다.
     @Order(2)
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void deletedEvent(UserDeletedEvent deletedEvent) {
         log.info("token event 진입");
-        Optional<RefreshToken> findToken = tokenRepository.findByUserId(deletedEvent.userId());
-        findToken.ifPresent(tokenRepository::delete);
+        refreshTokenStore.revoke(deletedEvent.userId());
     }
 
 }
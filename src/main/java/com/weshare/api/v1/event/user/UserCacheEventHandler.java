@@ -0,0 +1,24 @@
+package com.weshare.api.v1.event.user;
+
+import com.weshare.api.v1.service.user.UserCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheEventHandler {
+
+    private final UserCache userCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void userUpdated(UserUpdatedEvent updatedEvent) {
+        userCache.evict(updatedEvent.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void userDeleted(UserDeletedEvent deletedEvent) {
+        userCache.evict(deletedEvent.userId());
+    }
+}
@@ -0,0 +1,9 @@
+package com.weshare.api.v1.event.user;
+
+import java.util.Objects;
+
+public record UserUpdatedEvent(Long userId) {
+    public UserUpdatedEvent {
+        Objects.requireNonNull(userId);
+    }
+}
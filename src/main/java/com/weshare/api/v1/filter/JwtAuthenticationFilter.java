@@ -1,10 +1,12 @@
 package com.weshare.api.v1.filter;
 
+import com.weshare.api.v1.domain.user.LoginUser;
+import com.weshare.api.v1.service.user.UserCache;
 import com.weshare.api.v1.token.TokenType;
 import com.weshare.api.v1.token.exception.InvalidTokenException;
 import com.weshare.api.v1.token.exception.TokenTimeOutException;
 import com.weshare.api.v1.token.jwt.JwtService;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenRedisRepository;
+import com.weshare.api.v1.token.logout.LogoutTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,8 +18,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -31,8 +31,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService customUserDetailsService;
-    private final LogoutAccessTokenRedisRepository logoutTokenRedisRepository;
+    private final UserCache userCache;
+    private final LogoutTokenCache logoutTokenCache;
     private final FilterExceptionHandler filterExceptionHandler;
 
     @Override
@@ -55,29 +55,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        if (logoutTokenRedisRepository.existsById(jwt)) {
+        if (logoutTokenCache.isRevoked(jwt)) {
             //로그아웃 된 토큰이라고 예외던지기
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            final String userEmail = jwtService.extractEmail(jwt);
+            // 토큰 claim 으로 인증 사용자를 만들고 탈퇴 여부만 로컬 캐시로 확인한다.
+            final LoginUser loginUser = jwtService.extractLoginUser(jwt);
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(userEmail);
-
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                if (userCache.findById(loginUser.getId()).isEmpty()) {
+                    throw new UsernameNotFoundException("사용자가 존재하지 않습니다.");
                 }
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        loginUser,
+                        null,
+                        loginUser.getAuthorities()
+                );
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
             filterChain.doFilter(request, response);
         } catch (TokenTimeOutException e) {
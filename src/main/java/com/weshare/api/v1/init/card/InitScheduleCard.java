@@ -0,0 +1,19 @@
+package com.weshare.api.v1.init.card;
+
+import com.weshare.api.v1.service.schedule.card.ScheduleCardRebuildService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Profile("init")
+@Component
+@RequiredArgsConstructor
+public class InitScheduleCard {
+    private final ScheduleCardRebuildService scheduleCardRebuildService;
+
+    @PostConstruct
+    public void init() {
+        scheduleCardRebuildService.rebuild();
+    }
+}
@@ -0,0 +1,22 @@
+package com.weshare.api.v1.init.statistics;
+
+import com.weshare.api.v1.service.schedule.statistics.ScheduleFilterCountRecountJob;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 통계 row 를 기준으로 세므로 통계 보정이 끝난 뒤에 실행한다.
+@Profile("init")
+@Component
+@DependsOn({"entityManagerFactory", "initStatisticsScheduleDetails"})
+@RequiredArgsConstructor
+public class InitStatisticsScheduleFilterCount {
+    private final ScheduleFilterCountRecountJob filterCountRecountJob;
+
+    @PostConstruct
+    public void init() {
+        filterCountRecountJob.recount();
+    }
+}
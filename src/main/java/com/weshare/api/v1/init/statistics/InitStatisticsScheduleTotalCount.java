@@ -1,7 +1,7 @@
 package com.weshare.api.v1.init.statistics;
 
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleTotalCount;
-import com.weshare.api.v1.repository.schedule.ScheduleRepository;
+import com.weshare.api.v1.config.schedule.StatisticsTotalCountProperties;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleTotalCountCache;
 import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleTotalCountRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -14,10 +14,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class InitStatisticsScheduleTotalCount {
     private final InitStatisticsScheduleTotalCountService initStatisticsScheduleTotalCountService;
+    private final ScheduleTotalCountCache scheduleTotalCountCache;
 
     @PostConstruct
     public void init() {
         initStatisticsScheduleTotalCountService.initTotalCount();
+        scheduleTotalCountCache.refresh();
     }
 
     @Component
@@ -25,18 +27,13 @@ public class InitStatisticsScheduleTotalCount {
     static class InitStatisticsScheduleTotalCountService {
 
         private final StatisticsScheduleTotalCountRepository scheduleTotalCountRepository;
-        private final ScheduleRepository scheduleRepository;
+        private final StatisticsTotalCountProperties totalCountProperties;
 
+        // shard 수가 바뀌었을 수 있으므로 모든 shard 를 비우고 현재 shard 규칙으로 다시 센다.
         @Transactional
         public void initTotalCount() {
-            final long count = scheduleRepository.count();
-            final StatisticsScheduleTotalCount statisticsScheduleTotalCount = scheduleTotalCountRepository.findFirstByOrderByModifiedDate()
-                    .orElseGet(this::saveScheduleTotalCount);
-            statisticsScheduleTotalCount.syncScheduleTotalCount(count);
-        }
-
-        private StatisticsScheduleTotalCount saveScheduleTotalCount() {
-            return scheduleTotalCountRepository.save(new StatisticsScheduleTotalCount());
+            scheduleTotalCountRepository.resetTotalCounts();
+            scheduleTotalCountRepository.syncTotalCounts(totalCountProperties.getShards());
         }
     }
 }
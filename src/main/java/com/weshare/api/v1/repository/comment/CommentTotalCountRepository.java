@@ -2,6 +2,9 @@ package com.weshare.api.v1.repository.comment;
 
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsParentCommentTotalCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +14,8 @@ public interface CommentTotalCountRepository extends JpaRepository<StatisticsPar
     List<StatisticsParentCommentTotalCount> findTotalCountByParentCommentIdIn(List<Long> parentCommentIds);
 
     Optional<StatisticsParentCommentTotalCount> findByParentCommentId(Long parentCommentId);
+
+    @Modifying
+    @Query("delete from StatisticsParentCommentTotalCount s where s.parentCommentId = :parentCommentId")
+    int deleteAllByParentCommentId(@Param("parentCommentId") Long parentCommentId);
 }
@@ -0,0 +1,16 @@
+package com.weshare.api.v1.repository.outbox;
+
+import com.weshare.api.v1.domain.outbox.AggregateType;
+
+import java.time.LocalDateTime;
+
+public record ClaimedOutboxEvent(
+        Long id,
+        AggregateType aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        int attempts,
+        LocalDateTime createdDate
+) {
+}
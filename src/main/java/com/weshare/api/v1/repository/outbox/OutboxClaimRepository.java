@@ -0,0 +1,159 @@
+package com.weshare.api.v1.repository.outbox;
+
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * outbox 이벤트를 aggregate 단위로 여러 relay 가 나눠서 가져간다.
+ * 먼저 aggregate 마다 가장 앞선 이벤트(head)를 FOR UPDATE SKIP LOCKED 로 잠그고, 잠근 aggregate 의 남은 이벤트를 순서대로 함께 가져온다.
+ * head 를 잠근 relay 만 그 aggregate 를 처리하므로 같은 aggregate 의 이벤트는 순서대로 한 묶음에 담긴다.
+ * head 조회의 서브쿼리는 잠금 없는 일관된 읽기라서 다른 relay 가 잠근 이벤트도 보인다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxClaimRepository {
+    private static final String HEAD_SQL = """
+            select o.outbox_event_id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.attempts, o.created_date
+            from outbox_event o
+            where o.next_attempt_at <= :now
+              %s
+              and not exists (
+                  select 1 from outbox_event p
+                  where p.aggregate_type = o.aggregate_type
+                    and p.aggregate_id = o.aggregate_id
+                    and p.outbox_event_id < o.outbox_event_id
+              )
+            order by o.outbox_event_id
+            limit :limit
+            for update skip locked
+            """;
+    // head 를 잠근 aggregate 의 이벤트라 다른 relay 와 겹치지 않는다.
+    private static final String RUN_SQL = """
+            select o.outbox_event_id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.attempts, o.created_date,
+                   o.next_attempt_at
+            from outbox_event o
+            where (o.aggregate_type, o.aggregate_id) in (:aggregates)
+            order by o.outbox_event_id
+            limit :limit
+            for update
+            """;
+    private static final String DELETE_SQL = "delete from outbox_event where outbox_event_id in (:ids)";
+    private static final String RETRY_SQL = """
+            update outbox_event
+            set attempts = attempts + 1, next_attempt_at = :nextAttemptAt, last_error = :lastError, modified_date = :now
+            where outbox_event_id = :id
+            """;
+    private static final String DEAD_LETTER_SQL = """
+            insert into outbox_dead_letter
+                (outbox_event_id, aggregate_type, aggregate_id, event_type, payload, attempts, last_error, created_date, modified_date)
+            select outbox_event_id, aggregate_type, aggregate_id, event_type, payload, attempts + 1, :lastError, :now, :now
+            from outbox_event
+            where outbox_event_id = :id
+            """;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final RowMapper<ClaimedOutboxEvent> ROW_MAPPER = (rs, rowNum) -> new ClaimedOutboxEvent(
+            rs.getLong("outbox_event_id"),
+            AggregateType.valueOf(rs.getString("aggregate_type")),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getObject("created_date", LocalDateTime.class)
+    );
+
+    private static final RowMapper<RunRow> RUN_ROW_MAPPER = (rs, rowNum) -> new RunRow(
+            ROW_MAPPER.mapRow(rs, rowNum),
+            rs.getObject("next_attempt_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 최대 limit 개의 aggregate 를 잠그고, 그 aggregate 들의 이벤트를 id 순서로 최대 limit 개 가져온다.
+     * aggregate 마다 앞에서부터 이어진 구간만 담기므로 재시도를 기다리는 이벤트 뒤의 이벤트는 가져가지 않는다.
+     */
+    public List<ClaimedOutboxEvent> claim(LocalDateTime now, int limit) {
+        final List<ClaimedOutboxEvent> heads = jdbcTemplate.query(HEAD_SQL.formatted(""), new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", limit), ROW_MAPPER);
+        if (heads.isEmpty()) {
+            return heads;
+        }
+        final List<Object[]> aggregates = heads.stream()
+                .map(head -> new Object[]{head.aggregateType().name(), head.aggregateId()})
+                .toList();
+        final List<RunRow> rows = jdbcTemplate.query(RUN_SQL, new MapSqlParameterSource()
+                .addValue("aggregates", aggregates)
+                .addValue("limit", limit), RUN_ROW_MAPPER);
+
+        final Set<AggregateKey> stopped = new HashSet<>();
+        final List<ClaimedOutboxEvent> claimed = new ArrayList<>();
+        for (RunRow row : rows) {
+            final AggregateKey key = new AggregateKey(row.event().aggregateType(), row.event().aggregateId());
+            if (stopped.contains(key) || row.nextAttemptAt().isAfter(now)) {
+                stopped.add(key);
+                continue;
+            }
+            claimed.add(row.event());
+        }
+        return claimed;
+    }
+
+    public Optional<ClaimedOutboxEvent> claimById(Long id, LocalDateTime now) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("id", id)
+                .addValue("limit", 1);
+        return jdbcTemplate.query(HEAD_SQL.formatted("and o.outbox_event_id = :id"), params, ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", ids));
+    }
+
+    public void retryLater(Long id, LocalDateTime now, LocalDateTime nextAttemptAt, String lastError) {
+        jdbcTemplate.update(RETRY_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("now", now)
+                .addValue("nextAttemptAt", nextAttemptAt)
+                .addValue("lastError", truncate(lastError)));
+    }
+
+    public void moveToDeadLetter(Long id, LocalDateTime now, String lastError) {
+        jdbcTemplate.update(DEAD_LETTER_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("now", now)
+                .addValue("lastError", truncate(lastError)));
+        delete(List.of(id));
+    }
+
+    private String truncate(String lastError) {
+        if (lastError == null || lastError.length() <= MAX_ERROR_LENGTH) {
+            return lastError;
+        }
+        return lastError.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record RunRow(ClaimedOutboxEvent event, LocalDateTime nextAttemptAt) {
+    }
+
+    private record AggregateKey(AggregateType aggregateType, Long aggregateId) {
+    }
+}
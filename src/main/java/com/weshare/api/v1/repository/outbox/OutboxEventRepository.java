@@ -0,0 +1,7 @@
+package com.weshare.api.v1.repository.outbox;
+
+import com.weshare.api.v1.domain.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
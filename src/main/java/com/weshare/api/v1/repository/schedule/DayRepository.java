@@ -8,9 +8,11 @@ import java.util.List;
 
 public interface DayRepository extends JpaRepository<Day, Long> {
 
+    // 장소를 비교해서 수정하므로 날짜마다 장소를 따로 읽지 않게 같이 가져온다.
     @Query("""
             select d 
             from Day d 
+            left join fetch d.places
             where d.id in :dayIds
             """)
     List<Day> findDayByIds(List<Long> dayIds);
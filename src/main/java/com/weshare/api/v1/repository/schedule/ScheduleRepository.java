@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
@@ -15,4 +16,10 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     where s.user.id = :userId
     """)
     List<Schedule> findByUserId(Long userId);
+
+    @Query("""
+    select s.viewCount from Schedule s
+    where s.id = :scheduleId
+    """)
+    Optional<Integer> findViewCountById(Long scheduleId);
 }
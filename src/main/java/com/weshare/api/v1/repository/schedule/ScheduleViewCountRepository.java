@@ -0,0 +1,46 @@
+package com.weshare.api.v1.repository.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleViewCountRepository {
+    private static final String UPDATE_VIEW_COUNT_SQL = """
+            update schedule s
+                join (%s) v on v.schedule_id = s.schedule_id
+                left join statistics_schedule_details d on d.schedule_id = s.schedule_id
+                left join schedule_card c on c.schedule_id = s.schedule_id
+            set s.view_count = s.view_count + v.view_count,
+                d.total_view_count = d.total_view_count + v.view_count,
+                c.view_count = c.view_count + v.view_count
+            """;
+    private static final String FIRST_ROW = "select ? as schedule_id, ? as view_count";
+    private static final String NEXT_ROW = " union all select ?, ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 여행일정의 조회수를 한번의 update 로 schedule, 통계, 카드 테이블에 함께 더한다.
+     */
+    public int addViewCounts(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return 0;
+        }
+        final StringBuilder rows = new StringBuilder(FIRST_ROW);
+        final List<Object> params = new ArrayList<>(viewCounts.size() * 2);
+        viewCounts.forEach((id, count) -> {
+            if (!params.isEmpty()) {
+                rows.append(NEXT_ROW);
+            }
+            params.add(id);
+            params.add(count);
+        });
+        return jdbcTemplate.update(UPDATE_VIEW_COUNT_SQL.formatted(rows), params.toArray());
+    }
+}
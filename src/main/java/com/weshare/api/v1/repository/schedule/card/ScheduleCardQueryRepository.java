@@ -0,0 +1,11 @@
+package com.weshare.api.v1.repository.schedule.card;
+
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+public interface ScheduleCardQueryRepository {
+    Page<ScheduleCard> findScheduleCardPage(ScheduleConditionPageDto scheduleConditionPageDto);
+    Slice<ScheduleCard> findScheduleCardCursorPage(ScheduleConditionPageDto scheduleConditionPageDto);
+}
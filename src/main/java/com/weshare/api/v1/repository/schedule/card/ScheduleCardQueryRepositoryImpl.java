@@ -0,0 +1,158 @@
+package com.weshare.api.v1.repository.schedule.card;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
+import com.weshare.api.v1.repository.schedule.query.DurationCondition;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.ScheduleOrderSpecifierHelper;
+import com.weshare.api.v1.repository.schedule.query.TripDateCondition;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleCursor;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountCache;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountMatrix.FilterCount;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleTotalCountCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.weshare.api.v1.domain.schedule.card.QScheduleCard.scheduleCard;
+
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ScheduleCardQueryRepositoryImpl implements ScheduleCardQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final ScheduleOrderSpecifierHelper orderSpecifierHelper;
+    private final ScheduleTotalCountCache scheduleTotalCountCache;
+    private final ScheduleFilterCountCache filterCountCache;
+
+    @Override
+    public Page<ScheduleCard> findScheduleCardPage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final List<ScheduleCard> content = getContent(scheduleConditionPageDto);
+        return PageableExecutionUtils.getPage(content, scheduleConditionPageDto.getPageable(), () -> getCount(scheduleConditionPageDto));
+    }
+
+    // 전체 개수와 필터별 개수는 백그라운드에서 갱신된 값을 읽고, 경비 조건이 구간 중간에 걸친 범위만 직접 센다.
+    private long getCount(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final List<Destination> destinations = scheduleConditionPageDto.getDestinations();
+        final ExpenseCondition expenseCondition = scheduleConditionPageDto.getExpenseCondition();
+        // 여행 날짜, 기간 조건은 미리 센 값이 없으므로 조건 전체로 센다.
+        if (scheduleConditionPageDto.hasTripCondition()) {
+            return countCardByFilter(scheduleConditionPageDto, expenseCondition);
+        }
+        if (destinations.contains(Destination.EMPTY) && expenseCondition.isNotCondition()) {
+            return scheduleTotalCountCache.get();
+        }
+
+        final FilterCount filterCount = filterCountCache.count(destinations, expenseCondition);
+        return filterCount.count() + filterCount.partialRanges()
+                .stream()
+                .mapToLong(range -> countCardByFilter(scheduleConditionPageDto, range))
+                .sum();
+    }
+
+    private long countCardByFilter(ScheduleConditionPageDto scheduleConditionPageDto, ExpenseCondition expenseCondition) {
+        final Long count = queryFactory.select(scheduleCard.count())
+                .from(scheduleCard)
+                .where(
+                        destinationIn(scheduleConditionPageDto.getDestinations()),
+                        totalExpenseBetween(expenseCondition),
+                        startDateBetween(scheduleConditionPageDto.getTripDateCondition()),
+                        durationBetween(scheduleConditionPageDto.getDurationCondition())
+                )
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    // 카드 한 행에 목록 화면에 필요한 값이 모두 있어서 join, 통계 조회 없이 한번에 읽는다.
+    private List<ScheduleCard> getContent(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final Pageable pageable = scheduleConditionPageDto.getPageable();
+        final List<OrderSpecifier> orders = orderSpecifierHelper.getOrderSpecifiers(pageable, scheduleCard);
+
+        return queryFactory.selectFrom(scheduleCard)
+                .where(
+                        destinationIn(scheduleConditionPageDto.getDestinations()),
+                        totalExpenseBetween(scheduleConditionPageDto.getExpenseCondition()),
+                        startDateBetween(scheduleConditionPageDto.getTripDateCondition()),
+                        durationBetween(scheduleConditionPageDto.getDurationCondition())
+                )
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    // (정렬 값, schedule_id) 인덱스를 커서 위치부터 읽으므로 뒤쪽 페이지도 앞쪽 페이지와 같은 비용으로 조회한다.
+    @Override
+    public Slice<ScheduleCard> findScheduleCardCursorPage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final Pageable pageable = scheduleConditionPageDto.getPageable();
+        final Sort.Order order = scheduleConditionPageDto.getCursorOrder();
+        final ScheduleCursor cursor = scheduleConditionPageDto.getCursor();
+        if (cursor != null && !cursor.isSameOrder(order)) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+        }
+        final List<OrderSpecifier> orders = orderSpecifierHelper.getCardCursorOrderSpecifiers(order);
+
+        final List<ScheduleCard> content = queryFactory.selectFrom(scheduleCard)
+                .where(
+                        orderSpecifierHelper.getCardCursorCondition(cursor),
+                        destinationIn(scheduleConditionPageDto.getDestinations()),
+                        totalExpenseBetween(scheduleConditionPageDto.getExpenseCondition()),
+                        startDateBetween(scheduleConditionPageDto.getTripDateCondition()),
+                        durationBetween(scheduleConditionPageDto.getDurationCondition())
+                )
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        final boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            return new SliceImpl<>(content.subList(0, pageable.getPageSize()), pageable, true);
+        }
+        return new SliceImpl<>(content, pageable, false);
+    }
+
+    private BooleanExpression totalExpenseBetween(ExpenseCondition expenseCondition) {
+        if (expenseCondition.isNotCondition()) {
+            return null;
+        }
+        return scheduleCard.totalExpense.between(expenseCondition.minExpense(), expenseCondition.maxExpense());
+    }
+
+    private BooleanExpression destinationIn(List<Destination> destinations) {
+        if (destinations.contains(Destination.EMPTY)) {
+            return null;
+        }
+        return scheduleCard.destination.in(destinations);
+    }
+
+    private BooleanExpression startDateBetween(TripDateCondition tripDateCondition) {
+        if (tripDateCondition.isNotCondition()) {
+            return null;
+        }
+        return scheduleCard.startDate.between(tripDateCondition.startDateFrom(), tripDateCondition.startDateTo());
+    }
+
+    // 여행 기간은 시작일, 종료일을 포함한 일 수다.
+    private BooleanExpression durationBetween(DurationCondition durationCondition) {
+        if (durationCondition.isNotCondition()) {
+            return null;
+        }
+        return Expressions.numberTemplate(Integer.class, "function('datediff', {0}, {1})", scheduleCard.endDate, scheduleCard.startDate)
+                .add(1)
+                .between(durationCondition.minDays(), durationCondition.maxDays());
+    }
+}
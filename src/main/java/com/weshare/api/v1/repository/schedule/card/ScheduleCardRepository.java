@@ -0,0 +1,59 @@
+package com.weshare.api.v1.repository.schedule.card;
+
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ScheduleCardRepository extends JpaRepository<ScheduleCard, Long>, ScheduleCardQueryRepository {
+
+    @Modifying
+    @Query("""
+            update ScheduleCard c
+            set c.likeCount = c.likeCount + :delta
+            where c.scheduleId = :scheduleId
+            """)
+    int addLikeCount(Long scheduleId, int delta);
+
+    @Modifying
+    @Query("""
+            update ScheduleCard c
+            set c.commentCount = c.commentCount + :delta
+            where c.scheduleId = :scheduleId
+            """)
+    int addCommentCount(Long scheduleId, int delta);
+
+    @Modifying
+    @Query("""
+            delete from ScheduleCard c
+            where c.userId = :userId
+            """)
+    int deleteAllByUserId(Long userId);
+
+    @Modifying
+    @Query("""
+            delete from ScheduleCard c
+            """)
+    int deleteAllCards();
+
+    // 원본 테이블로부터 카드 테이블을 다시 만든다.
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into schedule_card (
+                schedule_id, title, destination, user_id, user_name, start_date, end_date,
+                total_expense, view_count, like_count, comment_count, created_date
+            )
+            select s.schedule_id, s.title, s.destination, u.user_id, u.name, s.start_date, s.end_date,
+                   coalesce((select sum(p.expense)
+                             from day d
+                                  join places p on p.day_id = d.day_id
+                             where d.schedule_id = s.schedule_id), 0),
+                   s.view_count,
+                   (select count(*) from schedule_like l where l.schedule_id = s.schedule_id),
+                   (select count(*) from schedule_comment c where c.schedule_id = s.schedule_id),
+                   s.created_date
+            from schedule s
+                 join users u on u.user_id = s.user_id
+            """)
+    int insertAllFromSchedules();
+}
@@ -0,0 +1,32 @@
+package com.weshare.api.v1.repository.schedule.query;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 여행 기간(일) 조건, "2~4" 처럼 금액 조건과 같은 형식으로 받는다. 당일 여행은 1일이다.
+ */
+public record DurationCondition(
+        Integer minDays,
+        Integer maxDays
+) {
+    public static DurationCondition convert(String condition) {
+        if (!StringUtils.hasText(condition)) {
+            return none();
+        }
+        final int delimiter = condition.indexOf('~');
+        final String min = condition.substring(0, delimiter);
+        final String max = condition.substring(delimiter + 1);
+        return new DurationCondition(
+                min.isEmpty() ? null : Integer.valueOf(min),
+                max.isEmpty() ? null : Integer.valueOf(max)
+        );
+    }
+
+    public static DurationCondition none() {
+        return new DurationCondition(null, null);
+    }
+
+    public boolean isNotCondition() {
+        return minDays == null && maxDays == null;
+    }
+}
@@ -2,41 +2,181 @@ package com.weshare.api.v1.repository.schedule.query;
 
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleCursor;
 import com.weshare.api.v1.utils.QueryDslUtil;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
 
 import static com.weshare.api.v1.domain.schedule.QSchedule.schedule;
+import static com.weshare.api.v1.domain.schedule.card.QScheduleCard.scheduleCard;
+import static com.weshare.api.v1.domain.schedule.statistics.QStatisticsScheduleDetails.statisticsScheduleDetails;
 
 @Component
 public class ScheduleOrderSpecifierHelper {
+    private static final Set<String> STATISTICS_PROPERTIES = Set.of("like-count", "comment-count", "expense");
 
     public List<OrderSpecifier> getOrderSpecifiers(Pageable pageable) {
+        return getOrderSpecifiers(pageable, schedule);
+    }
+
+    // 정렬 필드 이름이 같은 다른 엔티티(schedule_card 등)에도 같은 정렬 조건을 적용한다.
+    public List<OrderSpecifier> getOrderSpecifiers(Pageable pageable, Path<?> parent) {
         return pageable.getSort()
                 .stream()
-                .map(this::getOrderSpecifier)
+                .map(order -> getOrderSpecifier(order, parent))
                 .toList();
     }
 
-    private OrderSpecifier getOrderSpecifier(Sort.Order order) {
+    // 정렬 값이 같은 경우에도 순서가 보장되도록 schedule_id를 같은 방향으로 추가한다.
+    public List<OrderSpecifier> getCursorOrderSpecifiers(Sort.Order order) {
+        Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
+        return List.of(getOrderSpecifier(order, schedule), new OrderSpecifier<>(direction, schedule.id));
+    }
+
+    // 좋아요, 댓글, 경비 정렬은 schedule_card 의 (정렬 값, schedule_id) 인덱스로 처리한다.
+    public static boolean isStatisticsSort(Sort sort) {
+        return sort.stream().anyMatch(order -> STATISTICS_PROPERTIES.contains(order.getProperty()));
+    }
+
+    public List<OrderSpecifier> getCardCursorOrderSpecifiers(Sort.Order order) {
+        Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
+        return List.of(getOrderSpecifier(order, scheduleCard), new OrderSpecifier<>(direction, scheduleCard.scheduleId));
+    }
+
+    private OrderSpecifier getOrderSpecifier(Sort.Order order, Path<?> parent) {
         Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
         switch (order.getProperty()) {
             case "title" -> {
-                return QueryDslUtil.getSortedColumn(direction, schedule, "title");
+                return QueryDslUtil.getSortedColumn(direction, parent, "title");
+            }
+            case "destination" -> {
+                return QueryDslUtil.getSortedColumn(direction, parent, "destination");
+            }
+            case "created-date" -> {
+                return QueryDslUtil.getSortedColumn(direction, parent, "createdDate");
+            }
+            case "view-count" -> {
+                return QueryDslUtil.getSortedColumn(direction, parent, "viewCount");
+            }
+            case "like-count" -> {
+                return getStatisticsColumn(direction, parent, "likeCount", statisticsScheduleDetails.totalLikeCount);
+            }
+            case "comment-count" -> {
+                return getStatisticsColumn(direction, parent, "commentCount", statisticsScheduleDetails.totalCommentCount);
+            }
+            case "expense" -> {
+                return getStatisticsColumn(direction, parent, "totalExpense", statisticsScheduleDetails.totalExpense);
+            }
+            default -> throw new IllegalStateException("정렬 조건이 올바르지 않습니다.");
+        }
+    }
+
+    // schedule 에는 통계 컬럼이 없어서 statistics_schedule_details 값을 서브쿼리로 정렬한다. 피드 정렬은 schedule_card 에서 처리한다.
+    private OrderSpecifier getStatisticsColumn(Order direction, Path<?> parent, String fieldName, NumberPath<?> statisticsColumn) {
+        if (!schedule.equals(parent)) {
+            return QueryDslUtil.getSortedColumn(direction, parent, fieldName);
+        }
+        return new OrderSpecifier(direction, JPAExpressions.select(statisticsColumn)
+                .from(statisticsScheduleDetails)
+                .where(statisticsScheduleDetails.scheduleId.eq(schedule.id)));
+    }
+
+    public BooleanExpression getCursorCondition(ScheduleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        switch (cursor.property()) {
+            case "title" -> {
+                return seek(schedule.title, cursor.value(), schedule.id, cursor);
             }
             case "destination" -> {
-                return QueryDslUtil.getSortedColumn(direction, schedule, "destination");
+                return seek(schedule.destination, Destination.valueOf(cursor.value()), schedule.id, cursor);
             }
             case "created-date" -> {
-                return QueryDslUtil.getSortedColumn(direction, schedule, "createdDate");
+                return seek(schedule.createdDate, parseDateTime(cursor.value()), schedule.id, cursor);
             }
             case "view-count" -> {
-                return QueryDslUtil.getSortedColumn(direction, schedule, "viewCount");
+                return seek(Expressions.asComparable(schedule.viewCount), parseInteger(cursor.value()), schedule.id, cursor);
             }
             default -> throw new IllegalStateException("정렬 조건이 올바르지 않습니다.");
         }
     }
-}
\ No newline at end of file
+
+    public BooleanExpression getCardCursorCondition(ScheduleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        final NumberPath<Long> id = scheduleCard.scheduleId;
+        switch (cursor.property()) {
+            case "title" -> {
+                return seek(scheduleCard.title, cursor.value(), id, cursor);
+            }
+            case "destination" -> {
+                return seek(scheduleCard.destination, Destination.valueOf(cursor.value()), id, cursor);
+            }
+            case "created-date" -> {
+                return seek(scheduleCard.createdDate, parseDateTime(cursor.value()), id, cursor);
+            }
+            case "view-count" -> {
+                return seek(Expressions.asComparable(scheduleCard.viewCount), parseInteger(cursor.value()), id, cursor);
+            }
+            case "like-count" -> {
+                return seek(Expressions.asComparable(scheduleCard.likeCount), parseInteger(cursor.value()), id, cursor);
+            }
+            case "comment-count" -> {
+                return seek(Expressions.asComparable(scheduleCard.commentCount), parseInteger(cursor.value()), id, cursor);
+            }
+            case "expense" -> {
+                return seek(Expressions.asComparable(scheduleCard.totalExpense), parseLong(cursor.value()), id, cursor);
+            }
+            default -> throw new IllegalStateException("정렬 조건이 올바르지 않습니다.");
+        }
+    }
+
+    private Integer parseInteger(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서가 올바르지 않습니다.", e);
+        }
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서가 올바르지 않습니다.", e);
+        }
+    }
+
+    private LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("커서가 올바르지 않습니다.", e);
+        }
+    }
+
+    // (정렬 값, schedule_id) 튜플 비교로 이전 페이지의 마지막 행 다음부터 읽는다.
+    private <T extends Comparable> BooleanExpression seek(ComparableExpression<T> path, T value, NumberPath<Long> id, ScheduleCursor cursor) {
+        if (cursor.isAscending()) {
+            return path.gt(value)
+                    .or(path.eq(value).and(id.gt(cursor.scheduleId())));
+        }
+        return path.lt(value)
+                .or(path.eq(value).and(id.lt(cursor.scheduleId())));
+    }
+}
@@ -4,17 +4,32 @@ package com.weshare.api.v1.repository.schedule.query;
 import com.weshare.api.v1.domain.schedule.Schedule;
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
 import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleFacetDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
 import com.weshare.api.v1.service.schedule.query.ScheduleSearchCondition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface SchedulePageQueryRepository {
     Page<Schedule> findSchedulePage(ScheduleConditionPageDto scheduleConditionPageDto);
+    List<Schedule> findScheduleContent(ScheduleConditionPageDto scheduleConditionPageDto);
+    Long findScheduleTotalCount(ScheduleConditionPageDto scheduleConditionPageDto);
+    Slice<Schedule> findScheduleCursorPage(ScheduleConditionPageDto scheduleConditionPageDto);
     Map<Long, StatisticsScheduleDetails> findStatisticsDetailsScheduleIdMap(List<Long> scheduleIds);
     Map<Long, Boolean> findLikedSchedulesMap(List<Long> scheduleIds, Long userId);
     Page<Schedule> searchSchedulePage(ScheduleSearchCondition searchCondition);
+    List<Schedule> searchScheduleContent(ScheduleSearchCondition searchCondition);
+    Long countSearchSchedule(String search);
+    List<Schedule> findSchedulesByIds(List<Long> scheduleIds);
+    List<Schedule> findSchedulePageByIds(List<Long> scheduleIds, Pageable pageable);
+    List<ScheduleTitleDto> findScheduleTitles(Long lastScheduleId, int size);
+    Optional<ScheduleTitleDto> findScheduleTitle(Long scheduleId);
+    List<ScheduleFacetDto> findScheduleFacets(Long lastScheduleId, int size);
 
     boolean existsLikeByUserAndScheduleId(Long scheduleId, Long userId);
 }
@@ -1,7 +1,10 @@
 package com.weshare.api.v1.repository.schedule.query;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,22 +13,32 @@ import com.weshare.api.v1.domain.schedule.Schedule;
 import com.weshare.api.v1.domain.schedule.like.ScheduleLike;
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
 import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleCursor;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleFacetDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountCache;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountMatrix.FilterCount;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleTotalCountCache;
 import com.weshare.api.v1.service.schedule.query.ScheduleSearchCondition;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static com.weshare.api.v1.domain.schedule.QSchedule.schedule;
 import static com.weshare.api.v1.domain.schedule.like.QScheduleLike.scheduleLike;
 import static com.weshare.api.v1.domain.schedule.statistics.QStatisticsScheduleDetails.statisticsScheduleDetails;
-import static com.weshare.api.v1.domain.schedule.statistics.QStatisticsScheduleTotalCount.statisticsScheduleTotalCount;
 import static java.util.stream.Collectors.toMap;
 
 @Repository
@@ -35,6 +48,8 @@ public class SchedulePageQueryRepositoryImpl implements SchedulePageQueryReposit
 
     private final JPAQueryFactory queryFactory;
     private final ScheduleOrderSpecifierHelper orderSpecifierHelper;
+    private final ScheduleTotalCountCache scheduleTotalCountCache;
+    private final ScheduleFilterCountCache filterCountCache;
 
     @Override
     public boolean existsLikeByUserAndScheduleId(Long scheduleId, Long userId) {
@@ -90,21 +105,50 @@ public class SchedulePageQueryRepositoryImpl implements SchedulePageQueryReposit
 
     @Override
     public Page<Schedule> findSchedulePage(ScheduleConditionPageDto scheduleConditionPageDto) {
-        // count query
-        final JPAQuery<Long> countQuery = getCountQuery();
         // content query
-        final List<Schedule> content = getContent(scheduleConditionPageDto);
-        return PageableExecutionUtils.getPage(content, scheduleConditionPageDto.getPageable(), countQuery::fetchOne);
+        final List<Schedule> content = findScheduleContent(scheduleConditionPageDto);
+        return PageableExecutionUtils.getPage(content, scheduleConditionPageDto.getPageable(), () -> getCount(scheduleConditionPageDto));
     }
 
-    private JPAQuery<Long> getCountQuery() {
-        return queryFactory.select(statisticsScheduleTotalCount.totalCount)
-                .from(statisticsScheduleTotalCount)
-                .orderBy(statisticsScheduleTotalCount.modifiedDate.asc())
-                .limit(1);
+    @Override
+    public Long findScheduleTotalCount(ScheduleConditionPageDto scheduleConditionPageDto) {
+        return getCount(scheduleConditionPageDto);
+    }
+
+    // 전체 개수와 필터별 개수는 백그라운드에서 갱신된 값을 읽고, 경비 조건이 구간 중간에 걸친 범위만 직접 센다.
+    private long getCount(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final List<Destination> destinations = scheduleConditionPageDto.getDestinations();
+        final ExpenseCondition expenseCondition = scheduleConditionPageDto.getExpenseCondition();
+        // 여행 날짜, 기간 조건은 미리 센 값이 없으므로 조건 전체로 센다.
+        if (scheduleConditionPageDto.hasTripCondition()) {
+            return countScheduleByFilter(scheduleConditionPageDto, expenseCondition);
+        }
+        if (destinations.contains(Destination.EMPTY) && expenseCondition.isNotCondition()) {
+            return scheduleTotalCountCache.get();
+        }
+
+        final FilterCount filterCount = filterCountCache.count(destinations, expenseCondition);
+        return filterCount.count() + filterCount.partialRanges()
+                .stream()
+                .mapToLong(range -> countScheduleByFilter(scheduleConditionPageDto, range))
+                .sum();
+    }
+
+    private long countScheduleByFilter(ScheduleConditionPageDto scheduleConditionPageDto, ExpenseCondition expenseCondition) {
+        final Long count = queryFactory.select(schedule.count())
+                .from(schedule)
+                .where(
+                        destinationIn(scheduleConditionPageDto.getDestinations()),
+                        totalExpenseBetween(expenseCondition),
+                        startDateBetween(scheduleConditionPageDto.getTripDateCondition()),
+                        durationBetween(scheduleConditionPageDto.getDurationCondition())
+                )
+                .fetchOne();
+        return count == null ? 0 : count;
     }
 
-    private List<Schedule> getContent(ScheduleConditionPageDto scheduleConditionPageDto) {
+    @Override
+    public List<Schedule> findScheduleContent(ScheduleConditionPageDto scheduleConditionPageDto) {
         final Pageable pageable = scheduleConditionPageDto.getPageable();
         final List<OrderSpecifier> orders = orderSpecifierHelper.getOrderSpecifiers(pageable);
 
@@ -112,7 +156,9 @@ public class SchedulePageQueryRepositoryImpl implements SchedulePageQueryReposit
                 .join(schedule.user).fetchJoin()
                 .where(
                         destinationIn(scheduleConditionPageDto.getDestinations()),
-                        totalExpenseBetween(scheduleConditionPageDto.getExpenseCondition())
+                        totalExpenseBetween(scheduleConditionPageDto.getExpenseCondition()),
+                        startDateBetween(scheduleConditionPageDto.getTripDateCondition()),
+                        durationBetween(scheduleConditionPageDto.getDurationCondition())
                 )
                 .orderBy(orders.toArray(OrderSpecifier[]::new))
                 .offset(pageable.getOffset())
@@ -120,6 +166,41 @@ public class SchedulePageQueryRepositoryImpl implements SchedulePageQueryReposit
                 .fetch();
     }
 
+    @Override
+    public Slice<Schedule> findScheduleCursorPage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final Pageable pageable = scheduleConditionPageDto.getPageable();
+        final Sort.Order order = scheduleConditionPageDto.getCursorOrder();
+        final ScheduleCursor cursor = scheduleConditionPageDto.getCursor();
+        if (cursor != null && !cursor.isSameOrder(order)) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+        }
+        final List<OrderSpecifier> orders = orderSpecifierHelper.getCursorOrderSpecifiers(order);
+
+        // offset 없이 커서 이후의 행만 읽고, 다음 페이지 여부 확인을 위해 1개 더 조회
+        final List<Schedule> content = queryFactory.selectFrom(schedule)
+                .join(schedule.user).fetchJoin()
+                .where(
+                        orderSpecifierHelper.getCursorCondition(cursor),
+                        destinationIn(scheduleConditionPageDto.getDestinations()),
+                        totalExpenseBetween(scheduleConditionPageDto.getExpenseCondition()),
+                        startDateBetween(scheduleConditionPageDto.getTripDateCondition()),
+                        durationBetween(scheduleConditionPageDto.getDurationCondition())
+                )
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return toSlice(content, pageable);
+    }
+
+    private Slice<Schedule> toSlice(List<Schedule> content, Pageable pageable) {
+        final boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            return new SliceImpl<>(content.subList(0, pageable.getPageSize()), pageable, true);
+        }
+        return new SliceImpl<>(content, pageable, false);
+    }
+
     private BooleanExpression totalExpenseBetween(ExpenseCondition expenseCondition) {
         if (expenseCondition.isNotCondition()) {
             return null;
@@ -140,22 +221,45 @@ public class SchedulePageQueryRepositoryImpl implements SchedulePageQueryReposit
         return schedule.destination.in(destinations);
     }
 
+    private BooleanExpression startDateBetween(TripDateCondition tripDateCondition) {
+        if (tripDateCondition.isNotCondition()) {
+            return null;
+        }
+        return schedule.days.startDate.between(tripDateCondition.startDateFrom(), tripDateCondition.startDateTo());
+    }
+
+    // 여행 기간은 시작일, 종료일을 포함한 일 수다.
+    private BooleanExpression durationBetween(DurationCondition durationCondition) {
+        if (durationCondition.isNotCondition()) {
+            return null;
+        }
+        return Expressions.numberTemplate(Integer.class, "function('datediff', {0}, {1})", schedule.days.endDate, schedule.days.startDate)
+                .add(1)
+                .between(durationCondition.minDays(), durationCondition.maxDays());
+    }
+
     @Override
     public Page<Schedule> searchSchedulePage(ScheduleSearchCondition searchCondition) {
         // count query 다음에 최적화 해보기
         final JPAQuery<Long> countQuery = getSearchCountQuery(searchCondition.search());
         // content query
-        final List<Schedule> searchContent = searchContent(searchCondition);
+        final List<Schedule> searchContent = searchScheduleContent(searchCondition);
         return PageableExecutionUtils.getPage(searchContent, searchCondition.pageable(), countQuery::fetchOne);
     }
 
+    @Override
+    public Long countSearchSchedule(String search) {
+        return getSearchCountQuery(search).fetchOne();
+    }
+
     private JPAQuery<Long> getSearchCountQuery(String search) {
         return queryFactory.select(schedule.count())
                 .from(schedule)
                 .where(schedule.title.like("%" + search + "%"));
     }
 
-    private List<Schedule> searchContent(ScheduleSearchCondition searchCondition) {
+    @Override
+    public List<Schedule> searchScheduleContent(ScheduleSearchCondition searchCondition) {
         final Pageable pageable = searchCondition.pageable();
         final List<OrderSpecifier> orders = orderSpecifierHelper.getOrderSpecifiers(pageable);
 
@@ -167,4 +271,85 @@ public class SchedulePageQueryRepositoryImpl implements SchedulePageQueryReposit
                 .limit(pageable.getPageSize())
                 .fetch();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Schedule> findSchedulesByIds(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        final List<Schedule> schedules = queryFactory.selectFrom(schedule)
+                .join(schedule.user).fetchJoin()
+                .where(schedule.id.in(scheduleIds))
+                .fetch();
+
+        // 요청한 id 순서를 유지한다.
+        final Map<Long, Schedule> scheduleMap = schedules.stream()
+                .collect(toMap(Schedule::getId, Function.identity()));
+        return scheduleIds.stream()
+                .map(scheduleMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Schedule> findSchedulePageByIds(List<Long> scheduleIds, Pageable pageable) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        final List<OrderSpecifier> orders = orderSpecifierHelper.getOrderSpecifiers(pageable);
+
+        return queryFactory.selectFrom(schedule)
+                .join(schedule.user).fetchJoin()
+                .where(schedule.id.in(scheduleIds))
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public List<ScheduleTitleDto> findScheduleTitles(Long lastScheduleId, int size) {
+        return queryFactory.select(scheduleTitleProjection())
+                .from(schedule)
+                .where(lastScheduleId == null ? null : schedule.id.gt(lastScheduleId))
+                .orderBy(schedule.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public Optional<ScheduleTitleDto> findScheduleTitle(Long scheduleId) {
+        final ScheduleTitleDto scheduleTitle = queryFactory.select(scheduleTitleProjection())
+                .from(schedule)
+                .where(schedule.id.eq(scheduleId))
+                .fetchOne();
+        return Optional.ofNullable(scheduleTitle);
+    }
+
+    @Override
+    public List<ScheduleFacetDto> findScheduleFacets(Long lastScheduleId, int size) {
+        return queryFactory.select(Projections.constructor(ScheduleFacetDto.class,
+                        schedule.id,
+                        schedule.user.id,
+                        schedule.destination,
+                        statisticsScheduleDetails.totalExpense.coalesce(0L),
+                        schedule.days.startDate,
+                        schedule.days.endDate
+                ))
+                .from(schedule)
+                .leftJoin(statisticsScheduleDetails).on(statisticsScheduleDetails.scheduleId.eq(schedule.id))
+                .where(lastScheduleId == null ? null : schedule.id.gt(lastScheduleId))
+                .orderBy(schedule.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private ConstructorExpression<ScheduleTitleDto> scheduleTitleProjection() {
+        return Projections.constructor(ScheduleTitleDto.class,
+                schedule.id,
+                schedule.title,
+                schedule.destination,
+                schedule.user.id
+        );
+    }
+}
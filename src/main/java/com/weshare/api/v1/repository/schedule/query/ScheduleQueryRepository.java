@@ -1,9 +1,12 @@
 package com.weshare.api.v1.repository.schedule.query;
 
 import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
 
 import java.util.Optional;
 
 public interface ScheduleQueryRepository {
     Optional<Schedule> findScheduleDetailById(Long scheduleId);
+
+    Optional<ScheduleDetailDto> findScheduleDetailDtoById(Long scheduleId);
 }
@@ -5,15 +5,21 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.weshare.api.v1.domain.schedule.*;
 import com.weshare.api.v1.domain.schedule.exception.ScheduleNotFoundException;
 import com.weshare.api.v1.repository.schedule.query.dto.DayKey;
+import com.weshare.api.v1.service.schedule.query.dto.DayDetailDto;
+import com.weshare.api.v1.service.schedule.query.dto.PlaceDetailDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.weshare.api.v1.domain.schedule.QDayWithPlaceDetailsView.dayWithPlaceDetailsView;
+import static com.weshare.api.v1.domain.schedule.QDay.day;
+import static com.weshare.api.v1.domain.schedule.QPlace.place;
 import static com.weshare.api.v1.domain.schedule.QSchedule.schedule;
+import static com.weshare.api.v1.domain.user.QUser.user;
 
 @Repository
 @Transactional(readOnly = true)
@@ -28,7 +34,7 @@ public class SimpleScheduleQueryRepository implements ScheduleQueryRepository {
         final Schedule schedule = scheduleWithAllDay.orElseThrow(ScheduleNotFoundException::new);
         final Set<Long> dayIds = getDayIds(schedule);
 
-        // place의 원시값 포장한 값타입이 안읽어와져서 tuple로 꺼내기
+        // day 와 place 는 둘 다 List 라서 한번에 fetch join 할 수 없으므로 place 는 tuple 로 꺼낸다.
         final List<Tuple> allDayWithPlaces = getDaysWithPlace(dayIds);
         final List<Day> dayWithPlaceDetails = createDayWithPlaceDetails(allDayWithPlaces);
 
@@ -56,34 +62,35 @@ public class SimpleScheduleQueryRepository implements ScheduleQueryRepository {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
-    // dayWithPlaceDetailsView만 select 하면 가져오면 중복된 데이터 긁어옴
+    // 장소가 없는 날짜도 남기도록 left join 한다.
     private List<Tuple> getDaysWithPlace(Set<Long> dayIds) {
         return queryFactory
                 .select(
-                        dayWithPlaceDetailsView.dayId,
-                        dayWithPlaceDetailsView.travelDate,
-                        dayWithPlaceDetailsView.title,
-                        dayWithPlaceDetailsView.time,
-                        dayWithPlaceDetailsView.memo,
-                        dayWithPlaceDetailsView.expense,
-                        dayWithPlaceDetailsView.latitude,
-                        dayWithPlaceDetailsView.longitude
+                        day.id,
+                        day.travelDate,
+                        place.id,
+                        place.title,
+                        place.time,
+                        place.memo,
+                        place.expense.expense,
+                        place.location.latitude,
+                        place.location.longitude
                 )
-                .from(dayWithPlaceDetailsView)
-                .where(dayWithPlaceDetailsView.dayId.in(dayIds))
+                .from(day)
+                .leftJoin(day.places, place)
+                .where(day.id.in(dayIds))
+                .orderBy(day.travelDate.asc(), day.id.asc(), place.placeOrder.asc())
                 .fetch();
     }
 
+    // 정렬된 조회 결과의 날짜 순서를 유지한다.
     private List<Day> createDayWithPlaceDetails(List<Tuple> allDayWithPlaces) {
-        final Map<DayKey, List<Place>> dayIdWithPlacesMap = new HashMap<>(allDayWithPlaces.size());
+        final Map<DayKey, List<Place>> dayIdWithPlacesMap = new LinkedHashMap<>();
         for (Tuple allDayWithPlace : allDayWithPlaces) {
-            final DayKey dayKey = createKey(allDayWithPlace);
-            final Place place = createPlace(allDayWithPlace);
-
-//            dayWithPlacesMap.computeIfAbsent(dayKey, k -> new ArrayList<>()).add(place);
-            final List<Place> places = dayIdWithPlacesMap.getOrDefault(dayKey, new ArrayList<>());
-            places.add(place);
-            dayIdWithPlacesMap.put(dayKey, places);
+            final List<Place> places = dayIdWithPlacesMap.computeIfAbsent(createKey(allDayWithPlace), k -> new ArrayList<>());
+            if (allDayWithPlace.get(place.title) != null) {
+                places.add(createPlace(allDayWithPlace));
+            }
         }
 
         return createDayDetails(dayIdWithPlacesMap);
@@ -91,18 +98,19 @@ public class SimpleScheduleQueryRepository implements ScheduleQueryRepository {
 
     private DayKey createKey(Tuple allDayWithPlace) {
         return new DayKey(
-                allDayWithPlace.get(dayWithPlaceDetailsView.dayId),
-                allDayWithPlace.get(dayWithPlaceDetailsView.travelDate));
+                allDayWithPlace.get(day.id),
+                allDayWithPlace.get(day.travelDate));
     }
 
     private Place createPlace(Tuple allDayWithPlace) {
         return Place.builder()
-                .title(allDayWithPlace.get(dayWithPlaceDetailsView.title))
-                .time(allDayWithPlace.get(dayWithPlaceDetailsView.time))
-                .memo(allDayWithPlace.get(dayWithPlaceDetailsView.memo))
-                .expense(new Expense(allDayWithPlace.get(dayWithPlaceDetailsView.expense)))
-                .location(new Location(allDayWithPlace.get(dayWithPlaceDetailsView.latitude),
-                        allDayWithPlace.get(dayWithPlaceDetailsView.longitude)))
+                .id(allDayWithPlace.get(place.id))
+                .title(allDayWithPlace.get(place.title))
+                .time(allDayWithPlace.get(place.time))
+                .memo(allDayWithPlace.get(place.memo))
+                .expense(new Expense(allDayWithPlace.get(place.expense.expense)))
+                .location(new Location(allDayWithPlace.get(place.location.latitude),
+                        allDayWithPlace.get(place.location.longitude)))
                 .build();
     }
 
@@ -115,4 +123,87 @@ public class SimpleScheduleQueryRepository implements ScheduleQueryRepository {
                         .build())
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * schedule, user, day, place 를 한 번의 조회로 읽어서 엔티티를 만들지 않고 상세 응답으로 바로 옮긴다.
+     * 날짜 순서로 정렬된 결과를 한 번 훑으면서 day_id 가 바뀔 때마다 새 날짜를 시작한다.
+     */
+    @Override
+    public Optional<ScheduleDetailDto> findScheduleDetailDtoById(Long scheduleId) {
+        final List<Tuple> rows = queryFactory
+                .select(
+                        schedule.title,
+                        schedule.destination,
+                        schedule.viewCount,
+                        schedule.createdDate,
+                        schedule.days.startDate,
+                        schedule.days.endDate,
+                        user.name,
+                        day.id,
+                        day.travelDate,
+                        place.id,
+                        place.title,
+                        place.time,
+                        place.memo,
+                        place.expense.expense,
+                        place.location.latitude,
+                        place.location.longitude
+                )
+                .from(schedule)
+                .join(schedule.user, user)
+                .join(schedule.days.days, day)
+                .leftJoin(day.places, place)
+                .where(schedule.id.eq(scheduleId))
+                .orderBy(day.travelDate.asc(), day.id.asc(), place.placeOrder.asc())
+                .fetch();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<DayDetailDto> dayDetails = new ArrayList<>();
+        Long currentDayId = null;
+        LocalDate currentTravelDate = null;
+        List<PlaceDetailDto> currentPlaces = null;
+        for (Tuple row : rows) {
+            final Long dayId = row.get(day.id);
+            if (!dayId.equals(currentDayId)) {
+                if (currentDayId != null) {
+                    dayDetails.add(new DayDetailDto(currentDayId, currentTravelDate, currentPlaces));
+                }
+                currentDayId = dayId;
+                currentTravelDate = row.get(day.travelDate);
+                currentPlaces = new ArrayList<>();
+            }
+            // 장소가 없는 날짜는 left join 으로 장소 컬럼이 모두 null 인 한 줄만 온다.
+            if (row.get(place.title) != null) {
+                currentPlaces.add(createPlaceDetail(row));
+            }
+        }
+        dayDetails.add(new DayDetailDto(currentDayId, currentTravelDate, currentPlaces));
+
+        final Tuple first = rows.get(0);
+        return Optional.of(ScheduleDetailDto.of(
+                scheduleId,
+                first.get(schedule.title),
+                first.get(schedule.destination),
+                first.get(user.name),
+                first.get(schedule.viewCount),
+                first.get(schedule.createdDate),
+                first.get(schedule.days.startDate),
+                first.get(schedule.days.endDate),
+                dayDetails
+        ));
+    }
+
+    private PlaceDetailDto createPlaceDetail(Tuple row) {
+        return PlaceDetailDto.of(
+                row.get(place.id),
+                row.get(place.title),
+                row.get(place.time),
+                row.get(place.memo),
+                row.get(place.expense.expense),
+                row.get(place.location.latitude),
+                row.get(place.location.longitude)
+        );
+    }
+}
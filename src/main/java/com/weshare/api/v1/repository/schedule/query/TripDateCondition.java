@@ -0,0 +1,19 @@
+package com.weshare.api.v1.repository.schedule.query;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 시작일 범위 조건, 양쪽 모두 포함하고 null 이면 제한하지 않는다.
+ */
+public record TripDateCondition(
+        LocalDate startDateFrom,
+        LocalDate startDateTo
+) {
+    public static TripDateCondition none() {
+        return new TripDateCondition(null, null);
+    }
+
+    public boolean isNotCondition() {
+        return startDateFrom == null && startDateTo == null;
+    }
+}
@@ -1,10 +1,13 @@
 package com.weshare.api.v1.repository.schedule.query.dto;
 
 import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.DurationCondition;
 import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.TripDateCondition;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Collections;
 import java.util.List;
@@ -14,22 +17,44 @@ public class ScheduleConditionPageDto {
     private final Long userId;
     private final List<Destination> destinations;
     private final ExpenseCondition expenseCondition;
+    private final TripDateCondition tripDateCondition;
+    private final DurationCondition durationCondition;
     private final Pageable pageable;
+    private final ScheduleCursor cursor;
 
     @Builder
     private ScheduleConditionPageDto(
             Long userId,
             List<Destination> destinations,
             ExpenseCondition expenseCondition,
-            Pageable pageable
+            TripDateCondition tripDateCondition,
+            DurationCondition durationCondition,
+            Pageable pageable,
+            ScheduleCursor cursor
     ) {
         this.userId = userId;
         this.destinations = destinations;
         this.expenseCondition = expenseCondition;
+        this.tripDateCondition = tripDateCondition == null ? TripDateCondition.none() : tripDateCondition;
+        this.durationCondition = durationCondition == null ? DurationCondition.none() : durationCondition;
         this.pageable = pageable;
+        this.cursor = cursor;
     }
 
     public List<Destination> getDestinations() {
         return Collections.unmodifiableList(destinations);
     }
+
+    // 목적지, 금액 외의 조건은 목적지 x 금액 개수로 셀 수 없다.
+    public boolean hasTripCondition() {
+        return !tripDateCondition.isNotCondition() || !durationCondition.isNotCondition();
+    }
+
+    // 커서 조회는 첫번째 정렬 조건 + schedule_id 로만 정렬한다.
+    public Sort.Order getCursorOrder() {
+        return pageable.getSort()
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("커서 조회는 정렬 조건이 필요합니다."));
+    }
 }
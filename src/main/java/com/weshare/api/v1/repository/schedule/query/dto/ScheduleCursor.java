@@ -0,0 +1,98 @@
+package com.weshare.api.v1.repository.schedule.query.dto;
+
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 정렬 키 값과 schedule_id를 담는 커서, 클라이언트에는 base64로 인코딩된 값만 노출한다.
+ */
+public record ScheduleCursor(
+        String property,
+        Sort.Direction direction,
+        String value,
+        Long scheduleId
+) {
+    private static final String DELIMITER = "|";
+    private static final int CURSOR_PART_SIZE = 4;
+
+    public ScheduleCursor {
+        Objects.requireNonNull(property);
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(scheduleId);
+    }
+
+    public static ScheduleCursor of(Sort.Order order, Schedule schedule) {
+        return new ScheduleCursor(
+                order.getProperty(),
+                order.getDirection(),
+                extractSortValue(order.getProperty(), schedule),
+                schedule.getId());
+    }
+
+    public static ScheduleCursor of(Sort.Order order, ScheduleCard scheduleCard) {
+        return new ScheduleCursor(
+                order.getProperty(),
+                order.getDirection(),
+                extractSortValue(order.getProperty(), scheduleCard),
+                scheduleCard.getScheduleId());
+    }
+
+    private static String extractSortValue(String property, Schedule schedule) {
+        return switch (property) {
+            case "title" -> schedule.getTitle();
+            case "destination" -> schedule.getDestination().name();
+            case "created-date" -> schedule.getCreatedDate().toString();
+            case "view-count" -> String.valueOf(schedule.getViewCount());
+            default -> throw new IllegalStateException("정렬 조건이 올바르지 않습니다.");
+        };
+    }
+
+    private static String extractSortValue(String property, ScheduleCard scheduleCard) {
+        return switch (property) {
+            case "title" -> scheduleCard.getTitle();
+            case "destination" -> scheduleCard.getDestination().name();
+            case "created-date" -> scheduleCard.getCreatedDate().toString();
+            case "view-count" -> String.valueOf(scheduleCard.getViewCount());
+            case "like-count" -> String.valueOf(scheduleCard.getLikeCount());
+            case "comment-count" -> String.valueOf(scheduleCard.getCommentCount());
+            case "expense" -> String.valueOf(scheduleCard.getTotalExpense());
+            default -> throw new IllegalStateException("정렬 조건이 올바르지 않습니다.");
+        };
+    }
+
+    public static ScheduleCursor decode(String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 제목에 구분자가 포함될 수 있어서 정렬 값은 항상 마지막에 둔다.
+            final String[] parts = decoded.split(Pattern.quote(DELIMITER), CURSOR_PART_SIZE);
+            if (parts.length != CURSOR_PART_SIZE) {
+                throw new IllegalArgumentException("커서가 올바르지 않습니다.");
+            }
+            return new ScheduleCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[3], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("커서가 올바르지 않습니다.", e);
+        }
+    }
+
+    public String encode() {
+        final String raw = String.join(DELIMITER, property, direction.name(), String.valueOf(scheduleId), value);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    public boolean isSameOrder(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+}
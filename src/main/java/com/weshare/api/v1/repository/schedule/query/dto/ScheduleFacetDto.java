@@ -0,0 +1,33 @@
+package com.weshare.api.v1.repository.schedule.query.dto;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.Schedule;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public record ScheduleFacetDto(
+        Long scheduleId,
+        Long userId,
+        Destination destination,
+        long totalExpense,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    // 통계 테이블은 이벤트로 늦게 갱신되므로 수정 직후에는 여행일정에서 경비를 직접 계산한다.
+    public static ScheduleFacetDto from(Schedule schedule) {
+        return new ScheduleFacetDto(
+                schedule.getId(),
+                schedule.getUser().getId(),
+                schedule.getDestination(),
+                schedule.getTotalScheduleExpense(),
+                schedule.getStartDate(),
+                schedule.getEndDate()
+        );
+    }
+
+    // 시작일, 종료일을 포함한 일 수
+    public int durationDays() {
+        return (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+}
@@ -0,0 +1,11 @@
+package com.weshare.api.v1.repository.schedule.query.dto;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+
+public record ScheduleTitleDto(
+        Long scheduleId,
+        String title,
+        Destination destination,
+        Long userId
+) {
+}
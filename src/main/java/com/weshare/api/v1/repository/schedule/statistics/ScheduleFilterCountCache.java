@@ -0,0 +1,52 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.config.schedule.ScheduleFilterCountProperties;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountMatrix.FilterCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 목적지, 경비 구간 별 개수를 주기적으로 읽어 두고 필터가 걸린 피드의 전체 개수를 메모리에서 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleFilterCountCache {
+
+    private final StatisticsScheduleFilterCountRepository filterCountRepository;
+    private final ScheduleFilterCountProperties filterCountProperties;
+    private volatile ScheduleFilterCountMatrix matrix;
+
+    public FilterCount count(List<Destination> destinations, ExpenseCondition expenseCondition) {
+        ScheduleFilterCountMatrix current = matrix;
+        if (current == null) {
+            current = refresh();
+        }
+        return current.count(destinations, expenseCondition);
+    }
+
+    @Scheduled(fixedDelayString = "${application.schedule.statistics.filter-count.refresh-interval-ms:1000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (DataAccessException e) {
+            log.warn("필터별 여행일정 개수를 갱신하지 못했습니다. 이전 값을 사용합니다.", e);
+        }
+    }
+
+    public ScheduleFilterCountMatrix refresh() {
+        final ScheduleFilterCountMatrix loaded = ScheduleFilterCountMatrix.of(
+                filterCountProperties.getExpenseBuckets(),
+                filterCountRepository.findAll()
+        );
+        matrix = loaded;
+        return loaded;
+    }
+}
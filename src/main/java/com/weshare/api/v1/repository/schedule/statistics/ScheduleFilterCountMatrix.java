@@ -0,0 +1,82 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.statistics.ExpenseBuckets;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleFilterCountRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목적지 x 경비 구간 개수의 읽기 전용 스냅샷, 필터 조건에 완전히 포함되는 칸은 메모리에서 더하고
+ * 조건 경계가 구간 중간에 걸친 칸(최대 2개)은 해당 범위만 정확히 세도록 돌려준다.
+ * 경계값마다 칸이 따로 있으므로 API 경비 조건처럼 경계값으로 만든 조건은 모두 메모리에서 센다.
+ */
+public final class ScheduleFilterCountMatrix {
+    private final ExpenseBuckets expenseBuckets;
+    private final Map<Destination, long[]> counts;
+
+    private ScheduleFilterCountMatrix(ExpenseBuckets expenseBuckets, Map<Destination, long[]> counts) {
+        this.expenseBuckets = expenseBuckets;
+        this.counts = counts;
+    }
+
+    public static ScheduleFilterCountMatrix of(ExpenseBuckets expenseBuckets, List<ScheduleFilterCountRow> rows) {
+        final Map<Destination, long[]> counts = new EnumMap<>(Destination.class);
+        for (Destination destination : Destination.values()) {
+            counts.put(destination, new long[expenseBuckets.size()]);
+        }
+        // 구간 설정이 바뀌어 범위를 벗어난 칸은 다음 재집계 전까지 무시한다.
+        rows.stream()
+                .filter(row -> row.expenseBucket() >= 0 && row.expenseBucket() < expenseBuckets.size())
+                .forEach(row -> counts.get(row.destination())[row.expenseBucket()] += row.totalCount());
+        return new ScheduleFilterCountMatrix(expenseBuckets, counts);
+    }
+
+    public FilterCount count(List<Destination> destinations, ExpenseCondition expenseCondition) {
+        final List<Destination> targets = destinations.contains(Destination.EMPTY)
+                ? Arrays.asList(Destination.values())
+                : destinations;
+        final long min = expenseCondition.minExpense() == null ? 0 : Math.max(expenseCondition.minExpense(), 0);
+        final long max = expenseCondition.maxExpense() == null ? Long.MAX_VALUE : expenseCondition.maxExpense();
+
+        long count = 0;
+        final List<ExpenseCondition> partialRanges = new ArrayList<>(2);
+        for (int bucket = 0; bucket < expenseBuckets.size(); bucket++) {
+            final long lower = expenseBuckets.lowerBound(bucket);
+            final long upper = expenseBuckets.upperBound(bucket);
+            final long from = Math.max(min, lower);
+            final long to = Math.min(max, upper);
+            if (from > to) {
+                continue;
+            }
+            if (from == lower && to == upper) {
+                count += sum(targets, bucket);
+                continue;
+            }
+            partialRanges.add(new ExpenseCondition(from, to));
+        }
+        return new FilterCount(count, partialRanges);
+    }
+
+    private long sum(List<Destination> destinations, int bucket) {
+        return destinations.stream()
+                .distinct()
+                .mapToLong(destination -> counts.get(destination)[bucket])
+                .sum();
+    }
+
+    /**
+     * @param count         메모리에서 더한 개수
+     * @param partialRanges 칸 하나를 다 덮지 않아서 따로 세야 하는 경비 범위
+     */
+    public record FilterCount(
+            long count,
+            List<ExpenseCondition> partialRanges
+    ) {
+    }
+}
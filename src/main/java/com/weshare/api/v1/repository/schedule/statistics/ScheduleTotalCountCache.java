@@ -0,0 +1,43 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드의 전체 개수는 페이지 계산에만 쓰이므로 shard 합계를 주기적으로 읽어 두고 요청마다 합계 쿼리를 실행하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTotalCountCache {
+    private static final long NOT_LOADED = -1;
+
+    private final StatisticsScheduleTotalCountRepository scheduleTotalCountRepository;
+    private volatile long totalCount = NOT_LOADED;
+
+    public long get() {
+        final long cached = totalCount;
+        if (cached != NOT_LOADED) {
+            return cached;
+        }
+        return refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${application.schedule.statistics.total-count.refresh-interval-ms:1000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (DataAccessException e) {
+            log.warn("여행일정 전체 개수를 갱신하지 못했습니다. 이전 값을 사용합니다.", e);
+        }
+    }
+
+    public long refresh() {
+        final long sum = scheduleTotalCountRepository.sumTotalCount();
+        totalCount = sum;
+        return sum;
+    }
+}
@@ -0,0 +1,69 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class StatisticsCounterRepository {
+    private static final String ADD_SCHEDULE_LIKE_SQL = """
+            update statistics_schedule_details
+            set total_like_count = greatest(total_like_count + ?, 0), modified_date = now(6)
+            where schedule_id = ?
+            """;
+    private static final String ADD_SCHEDULE_COMMENT_SQL = """
+            update statistics_schedule_details
+            set total_comment_count = greatest(total_comment_count + ?, 0), modified_date = now(6)
+            where schedule_id = ?
+            """;
+    // 댓글 통계 row 는 처음 증가할 때 만들어지므로 comment_id 유니크 키로 upsert 한다.
+    private static final String ADD_COMMENT_LIKE_SQL = """
+            insert into statistics_comment_like_total_count (like_total_count, comment_id, created_date, modified_date)
+            values (greatest(?, 0), ?, now(6), now(6))
+            on duplicate key update like_total_count = greatest(like_total_count + ?, 0), modified_date = now(6)
+            """;
+    private static final String ADD_COMMENT_REPLY_SQL = """
+            insert into statistics_parent_comment_total_count (total_count, parent_comment_id, created_date, modified_date)
+            values (greatest(?, 0), ?, now(6), now(6))
+            on duplicate key update total_count = greatest(total_count + ?, 0), modified_date = now(6)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * id 별 증감을 x = x + ? 형태의 batch update 로 한 트랜잭션에서 반영한다.
+     */
+    @Transactional
+    public void addCounts(StatisticsCounterType type, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        final List<Object[]> params = deltas.entrySet()
+                .stream()
+                .map(entry -> toParams(type, entry.getKey(), entry.getValue()))
+                .toList();
+        jdbcTemplate.batchUpdate(getSql(type), params);
+    }
+
+    private String getSql(StatisticsCounterType type) {
+        return switch (type) {
+            case SCHEDULE_LIKE -> ADD_SCHEDULE_LIKE_SQL;
+            case SCHEDULE_COMMENT -> ADD_SCHEDULE_COMMENT_SQL;
+            case COMMENT_LIKE -> ADD_COMMENT_LIKE_SQL;
+            case COMMENT_REPLY -> ADD_COMMENT_REPLY_SQL;
+        };
+    }
+
+    private Object[] toParams(StatisticsCounterType type, Long id, Long delta) {
+        return switch (type) {
+            case SCHEDULE_LIKE, SCHEDULE_COMMENT -> new Object[]{delta, id};
+            case COMMENT_LIKE, COMMENT_REPLY -> new Object[]{delta, id, delta};
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleStatisticsRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+@Repository
+@RequiredArgsConstructor
+public class StatisticsReconciliationRepository {
+    private static final String INSERT_CHECKPOINT_SQL = """
+            insert ignore into statistics_reconciliation_checkpoint (job_name, last_schedule_id, created_date, modified_date)
+            values (?, 0, now(6), now(6))
+            """;
+    private static final String LOCK_CHECKPOINT_SQL = """
+            select last_schedule_id from statistics_reconciliation_checkpoint where job_name = ? for update
+            """;
+    private static final String UPDATE_CHECKPOINT_SQL = """
+            update statistics_reconciliation_checkpoint set last_schedule_id = ?, modified_date = now(6) where job_name = ?
+            """;
+    private static final String FIND_SCHEDULE_IDS_SQL = """
+            select schedule_id from schedule where schedule_id > ? order by schedule_id limit ?
+            """;
+    // 좋아요, 댓글, 경비는 schedule_id 범위로 제한한 group by 로 한번에 집계한다.
+    // outbox 에 처리되지 않은 이벤트가 남은 여행일정은 이벤트가 반영된 뒤 다시 어긋날 수 있어서 제외한다.
+    private static final String FIND_EXPECTED_SQL = """
+            select s.schedule_id,
+                   s.view_count,
+                   coalesce(l.like_count, 0) as like_count,
+                   coalesce(c.comment_count, 0) as comment_count,
+                   coalesce(e.total_expense, 0) as total_expense
+            from schedule s
+                left join (select schedule_id, count(*) as like_count
+                           from schedule_like
+                           where schedule_id between ? and ?
+                           group by schedule_id) l on l.schedule_id = s.schedule_id
+                left join (select schedule_id, count(*) as comment_count
+                           from schedule_comment
+                           where schedule_id between ? and ?
+                           group by schedule_id) c on c.schedule_id = s.schedule_id
+                left join (select d.schedule_id, sum(p.expense) as total_expense
+                           from day d
+                               join places p on p.day_id = d.day_id
+                           where d.schedule_id between ? and ?
+                           group by d.schedule_id) e on e.schedule_id = s.schedule_id
+            where s.schedule_id between ? and ?
+              and not exists (select 1 from outbox_event o
+                              where o.aggregate_type = 'SCHEDULE' and o.aggregate_id = s.schedule_id)
+            """;
+    private static final String FIND_CURRENT_SQL = """
+            select schedule_id, total_view_count, total_like_count, total_comment_count, total_expense
+            from statistics_schedule_details
+            where schedule_id between ? and ?
+            """;
+    private static final String UPSERT_SQL = """
+            insert into statistics_schedule_details
+                (schedule_id, total_view_count, total_like_count, total_comment_count, total_expense, created_date, modified_date)
+            values (?, ?, ?, ?, ?, now(6), now(6))
+            on duplicate key update
+                total_view_count = values(total_view_count),
+                total_like_count = values(total_like_count),
+                total_comment_count = values(total_comment_count),
+                total_expense = values(total_expense),
+                modified_date = values(modified_date)
+            """;
+
+    private static final RowMapper<ScheduleStatisticsRow> EXPECTED_ROW_MAPPER = (rs, rowNum) -> new ScheduleStatisticsRow(
+            rs.getLong("schedule_id"),
+            rs.getInt("view_count"),
+            rs.getInt("like_count"),
+            rs.getInt("comment_count"),
+            rs.getLong("total_expense")
+    );
+    private static final RowMapper<ScheduleStatisticsRow> CURRENT_ROW_MAPPER = (rs, rowNum) -> new ScheduleStatisticsRow(
+            rs.getLong("schedule_id"),
+            rs.getInt("total_view_count"),
+            rs.getInt("total_like_count"),
+            rs.getInt("total_comment_count"),
+            rs.getLong("total_expense")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 서버에서 동시에 실행되어도 체크포인트 row 잠금으로 묶음을 하나씩 나눠서 처리한다.
+    public long lockCheckpoint(String jobName) {
+        jdbcTemplate.update(INSERT_CHECKPOINT_SQL, jobName);
+        return jdbcTemplate.queryForObject(LOCK_CHECKPOINT_SQL, Long.class, jobName);
+    }
+
+    public void updateCheckpoint(String jobName, long lastScheduleId) {
+        jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastScheduleId, jobName);
+    }
+
+    public List<Long> findScheduleIds(long afterScheduleId, int limit) {
+        return jdbcTemplate.queryForList(FIND_SCHEDULE_IDS_SQL, Long.class, afterScheduleId, limit);
+    }
+
+    public List<ScheduleStatisticsRow> findExpectedStatistics(long fromScheduleId, long toScheduleId) {
+        return jdbcTemplate.query(FIND_EXPECTED_SQL, EXPECTED_ROW_MAPPER,
+                fromScheduleId, toScheduleId,
+                fromScheduleId, toScheduleId,
+                fromScheduleId, toScheduleId,
+                fromScheduleId, toScheduleId);
+    }
+
+    public Map<Long, ScheduleStatisticsRow> findCurrentStatistics(long fromScheduleId, long toScheduleId) {
+        return jdbcTemplate.query(FIND_CURRENT_SQL, CURRENT_ROW_MAPPER, fromScheduleId, toScheduleId)
+                .stream()
+                .collect(toMap(ScheduleStatisticsRow::scheduleId, Function.identity(), (first, second) -> first));
+    }
+
+    public void upsert(List<ScheduleStatisticsRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows.stream()
+                .map(row -> new Object[]{
+                        row.scheduleId(),
+                        row.totalViewCount(),
+                        row.totalLikeCount(),
+                        row.totalCommentCount(),
+                        row.totalExpense()
+                })
+                .toList());
+    }
+}
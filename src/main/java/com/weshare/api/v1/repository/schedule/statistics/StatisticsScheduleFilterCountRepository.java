@@ -0,0 +1,91 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleFilterCountRow;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleFilterRecountRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class StatisticsScheduleFilterCountRepository {
+    private static final String ADD_COUNT_SQL = """
+            insert into statistics_schedule_filter_count (destination, expense_bucket, total_count, created_date, modified_date)
+            values (?, ?, greatest(?, 0), now(6), now(6))
+            on duplicate key update total_count = greatest(total_count + ?, 0), modified_date = now(6)
+            """;
+    private static final String FIND_ALL_SQL = """
+            select destination, expense_bucket, total_count from statistics_schedule_filter_count
+            """;
+    // 잠금 없는 읽기로 schedule_id 순서대로 묶음을 읽는다. 통계 테이블을 잠그지 않으므로 카운터 반영을 막지 않는다.
+    private static final String FIND_RECOUNT_ROWS_SQL = """
+            select d.schedule_id, d.destination as counted_destination, coalesce(s.destination, 'EMPTY') as destination, d.total_expense
+            from statistics_schedule_details d
+                join schedule s on s.schedule_id = d.schedule_id
+            where d.schedule_id > ?
+            order by d.schedule_id
+            limit ?
+            """;
+    // 통계 row 의 목적지는 여행일정이 어느 칸에 세어져 있는지 기록한 값이라 재집계한 값과 맞춘다.
+    private static final String SYNC_DESTINATION_SQL = """
+            update statistics_schedule_details set destination = ?, modified_date = now(6) where schedule_id = ?
+            """;
+    private static final String REPLACE_COUNT_SQL = """
+            insert into statistics_schedule_filter_count (destination, expense_bucket, total_count, created_date, modified_date)
+            values (?, ?, ?, now(6), now(6))
+            on duplicate key update total_count = values(total_count), modified_date = now(6)
+            """;
+    // 경비 구간 설정이 줄어들어 남은 칸은 지운다.
+    private static final String DELETE_OUT_OF_RANGE_SQL = """
+            delete from statistics_schedule_filter_count where expense_bucket >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addCount(Destination destination, int expenseBucket, long delta) {
+        jdbcTemplate.update(ADD_COUNT_SQL, destination.name(), expenseBucket, delta, delta);
+    }
+
+    public List<ScheduleFilterCountRow> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new ScheduleFilterCountRow(
+                Destination.valueOf(rs.getString("destination")),
+                rs.getInt("expense_bucket"),
+                rs.getLong("total_count")
+        ));
+    }
+
+    public List<ScheduleFilterRecountRow> findRecountRows(long lastScheduleId, int limit) {
+        return jdbcTemplate.query(FIND_RECOUNT_ROWS_SQL, (rs, rowNum) -> new ScheduleFilterRecountRow(
+                rs.getLong("schedule_id"),
+                toDestination(rs.getString("counted_destination")),
+                Destination.valueOf(rs.getString("destination")),
+                rs.getLong("total_expense")
+        ), lastScheduleId, limit);
+    }
+
+    public void syncDestinations(List<ScheduleFilterRecountRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(SYNC_DESTINATION_SQL, rows.stream()
+                .map(row -> new Object[]{row.destination().name(), row.scheduleId()})
+                .toList());
+    }
+
+    /**
+     * 모든 칸을 다시 센 값으로 바꾼다. 칸 수만큼의 row 만 쓰므로 짧은 트랜잭션으로 끝난다.
+     */
+    public void replaceCounts(List<ScheduleFilterCountRow> rows, int bucketSize) {
+        jdbcTemplate.update(DELETE_OUT_OF_RANGE_SQL, bucketSize);
+        jdbcTemplate.batchUpdate(REPLACE_COUNT_SQL, rows.stream()
+                .map(row -> new Object[]{row.destination().name(), row.expenseBucket(), row.totalCount()})
+                .toList());
+    }
+
+    private Destination toDestination(String destination) {
+        return destination == null ? null : Destination.valueOf(destination);
+    }
+}
@@ -2,9 +2,38 @@ package com.weshare.api.v1.repository.schedule.statistics;
 
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleTotalCount;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StatisticsScheduleTotalCountRepository extends JpaRepository<StatisticsScheduleTotalCount, Long> {
-    Optional<StatisticsScheduleTotalCount> findFirstByOrderByModifiedDate();
+
+    // 조회 후 수정하지 않고 한 문장으로 더해서 shard row 잠금을 문장 실행 동안만 잡는다.
+    // 다른 shard 에서 센 여행일정이 이 shard 에서 삭제될 수 있으므로 shard 는 음수가 될 수 있다.
+    @Modifying
+    @Query(value = """
+            insert into statistics_schedule_total_count (shard, total_count, created_date, modified_date)
+            values (:shard, :delta, now(6), now(6))
+            on duplicate key update total_count = total_count + :delta, modified_date = now(6)
+            """, nativeQuery = true)
+    void addTotalCount(@Param("shard") int shard, @Param("delta") long delta);
+
+    // 음수 shard 가 다른 shard 의 개수를 상쇄하도록 합한 뒤에만 0 아래로 내려가지 않게 자른다.
+    @Query(value = "select cast(greatest(coalesce(sum(total_count), 0), 0) as signed) from statistics_schedule_total_count", nativeQuery = true)
+    long sumTotalCount();
+
+    @Modifying
+    @Query(value = "update statistics_schedule_total_count set total_count = 0, modified_date = now(6)", nativeQuery = true)
+    void resetTotalCounts();
+
+    // 생성, 삭제와 같은 shard 규칙(schedule_id % shards)으로 여행일정 개수를 다시 채운다.
+    @Modifying
+    @Query(value = """
+            insert into statistics_schedule_total_count (shard, total_count, created_date, modified_date)
+            select mod(s.schedule_id, :shards), count(*), now(6), now(6)
+            from schedule s
+            group by mod(s.schedule_id, :shards)
+            on duplicate key update total_count = values(total_count), modified_date = now(6)
+            """, nativeQuery = true)
+    void syncTotalCounts(@Param("shards") int shards);
 }
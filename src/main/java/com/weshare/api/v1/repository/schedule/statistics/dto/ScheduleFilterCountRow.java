@@ -0,0 +1,10 @@
+package com.weshare.api.v1.repository.schedule.statistics.dto;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+
+public record ScheduleFilterCountRow(
+        Destination destination,
+        int expenseBucket,
+        long totalCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.weshare.api.v1.repository.schedule.statistics.dto;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+
+/**
+ * @param countedDestination 통계 row 에 기록된, 개수가 세어져 있는 목적지
+ * @param destination        여행일정의 현재 목적지
+ */
+public record ScheduleFilterRecountRow(
+        Long scheduleId,
+        Destination countedDestination,
+        Destination destination,
+        long totalExpense
+) {
+    public boolean isDestinationChanged() {
+        return countedDestination != destination;
+    }
+}
@@ -0,0 +1,10 @@
+package com.weshare.api.v1.repository.schedule.statistics.dto;
+
+public record ScheduleStatisticsRow(
+        Long scheduleId,
+        int totalViewCount,
+        int totalLikeCount,
+        int totalCommentCount,
+        long totalExpense
+) {
+}
@@ -0,0 +1,110 @@
+package com.weshare.api.v1.repository.schedule.trending;
+
+import com.weshare.api.v1.config.schedule.ScheduleTrendingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여행일정 인기 점수를 Redis sorted set 에 두고 순위를 sorted set 에서 바로 읽는다.
+ * 세대가 바뀌면 처음 접근한 서버가 이전 세대 점수를 줄여서 새 키에 합친다.
+ */
+@Slf4j
+@Repository
+public class ScheduleTrendingRepository {
+    private static final String KEY_PREFIX = "schedule:trending:";
+    private static final String REBASED_KEY_PREFIX = "schedule:trending:rebased:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final TrendingDecay decay;
+    private final int maxSize;
+    private volatile long rebasedGeneration = -1;
+
+    public ScheduleTrendingRepository(StringRedisTemplate redisTemplate, ScheduleTrendingProperties trendingProperties) {
+        this.redisTemplate = redisTemplate;
+        this.decay = new TrendingDecay(trendingProperties.getHalfLife());
+        this.maxSize = trendingProperties.getMaxSize();
+    }
+
+    // outbox 묶음과 같은 트랜잭션에서 호출되므로 Redis 오류로 통계 반영까지 롤백되지 않게 로그만 남긴다.
+    public void addScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        try {
+            final Instant now = Instant.now();
+            final String key = currentKey(now);
+            final double growth = decay.growthAt(now);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                scores.forEach((scheduleId, score) -> stringConnection.zIncrBy(key, score * growth, String.valueOf(scheduleId)));
+                return null;
+            });
+            // 점수 상위 maxSize 개만 남긴다.
+            redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+        } catch (DataAccessException e) {
+            log.warn("인기 점수를 Redis 에 반영하지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    public void remove(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        try {
+            final Object[] members = scheduleIds.stream().map(String::valueOf).toArray();
+            redisTemplate.opsForZSet().remove(currentKey(Instant.now()), members);
+        } catch (DataAccessException e) {
+            log.warn("인기 순위에서 여행일정을 지우지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    public List<Long> findScheduleIds(long offset, int size) {
+        final Set<String> scheduleIds = redisTemplate.opsForZSet()
+                .reverseRange(currentKey(Instant.now()), offset, offset + size - 1);
+        if (scheduleIds == null) {
+            return List.of();
+        }
+        return scheduleIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public long count() {
+        final Long count = redisTemplate.opsForZSet().zCard(currentKey(Instant.now()));
+        return count == null ? 0 : count;
+    }
+
+    private String currentKey(Instant now) {
+        final long generation = decay.generationOf(now);
+        final String key = KEY_PREFIX + generation;
+        if (rebasedGeneration != generation) {
+            rebase(generation, key);
+            rebasedGeneration = generation;
+        }
+        return key;
+    }
+
+    // 여러 서버 중 한 곳만 이전 세대를 합치도록 세대별 표시 키를 먼저 잡는다.
+    private void rebase(long generation, String key) {
+        final Boolean first = redisTemplate.opsForValue()
+                .setIfAbsent(REBASED_KEY_PREFIX + generation, "1", decay.generationLength().multipliedBy(2));
+        if (!Boolean.TRUE.equals(first)) {
+            return;
+        }
+        final String previousKey = KEY_PREFIX + (generation - 1);
+        redisTemplate.opsForZSet().unionAndStore(key, List.of(previousKey), key, Aggregate.SUM, Weights.of(1, decay.rebaseFactor()));
+        redisTemplate.expire(previousKey, decay.generationLength());
+    }
+}
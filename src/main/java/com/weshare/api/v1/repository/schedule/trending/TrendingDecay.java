@@ -0,0 +1,42 @@
+package com.weshare.api.v1.repository.schedule.trending;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 지수 감쇠 점수 계산, 이미 쌓인 점수를 줄이는 대신 새로 더하는 점수를 세대 시작부터 지난 반감기 수만큼 키운다.
+ * 모든 점수를 같은 비율로 줄인 것과 순서가 같아서 정렬을 위해 점수를 다시 계산할 필요가 없다.
+ */
+public final class TrendingDecay {
+    // 한 세대 안에서 점수 배율은 최대 2^16 까지 커지고, 다음 세대로 옮길 때 그만큼 줄인다.
+    static final int HALF_LIVES_PER_GENERATION = 16;
+
+    private final long halfLifeMillis;
+    private final long generationMillis;
+
+    public TrendingDecay(Duration halfLife) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("인기 점수 반감기는 0보다 커야 합니다.");
+        }
+        this.halfLifeMillis = halfLife.toMillis();
+        this.generationMillis = halfLifeMillis * HALF_LIVES_PER_GENERATION;
+    }
+
+    public long generationOf(Instant now) {
+        return now.toEpochMilli() / generationMillis;
+    }
+
+    public double growthAt(Instant now) {
+        final long elapsedMillis = now.toEpochMilli() % generationMillis;
+        return Math.pow(2, (double) elapsedMillis / halfLifeMillis);
+    }
+
+    // 이전 세대 점수를 새 세대 기준으로 바꾸는 배율
+    public double rebaseFactor() {
+        return Math.pow(2, -HALF_LIVES_PER_GENERATION);
+    }
+
+    public Duration generationLength() {
+        return Duration.ofMillis(generationMillis);
+    }
+}
@@ -8,17 +8,18 @@ import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.domain.user.exception.EmailDuplicateException;
 import com.weshare.api.v1.domain.user.exception.UsernameDuplicateException;
 import com.weshare.api.v1.repository.user.UserRepository;
-import com.weshare.api.v1.token.RefreshToken;
-import com.weshare.api.v1.token.RefreshTokenRepository;
-import com.weshare.api.v1.token.TokenType;
+import com.weshare.api.v1.service.user.UserCache;
 import com.weshare.api.v1.token.exception.InvalidTokenException;
 import com.weshare.api.v1.token.exception.TokenNotFoundException;
+import com.weshare.api.v1.token.exception.TokenTimeOutException;
 import com.weshare.api.v1.token.jwt.JwtService;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenFromRedis;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenRedisRepository;
+import com.weshare.api.v1.token.jwt.VerifiedToken;
+import com.weshare.api.v1.token.logout.LogoutTokenCache;
+import com.weshare.api.v1.token.refresh.LegacyRefreshTokenRepository;
+import com.weshare.api.v1.token.refresh.RefreshTokenRotation;
+import com.weshare.api.v1.token.refresh.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,8 +36,10 @@ public class AuthenticationService {
     private static final String DEFAULT_PROFILE_IMG_URL = "https://static.vecteezy.com/system/resources/thumbnails/020/765/399/small/default-profile-account-unknown-icon-black-silhouette-free-vector.jpg";
 
     private final UserRepository repository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final LogoutAccessTokenRedisRepository logoutTokenRedisRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LegacyRefreshTokenRepository legacyRefreshTokenRepository;
+    private final UserCache userCache;
+    private final LogoutTokenCache logoutTokenCache;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
 
@@ -88,70 +91,47 @@ public class AuthenticationService {
         return LocalDate.now().isBefore(birthDate);
     }
 
-    private void reissueRefreshTokenByUser(User user, String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findTokenByUser(user)
-                .orElse(createRefreshTokenWithUser(user, refreshToken));
-
-        token.updateToken(refreshToken);
-        refreshTokenRepository.save(token);
-    }
-
-    private RefreshToken createRefreshTokenWithUser(User user, String refreshToken) {
-        return RefreshToken.builder()
-                .user(user)
-                .token(refreshToken)
-                .tokenType(TokenType.BEARER)
-                .build();
-    }
-
+    // 토큰 검증, 사용자 조회는 DB 를 거치지 않고 Redis 는 재발행 스크립트 한번만 호출한다.
     public UserLoginDto reissueToken(Optional<String> token, Date issuedAt) {
         if (token.isEmpty()) {
             throw new InvalidTokenException("토큰이 존재하지 않습니다.");
         }
         String refreshToken = token.get();
-        User user = findUserByValidRefreshToken(refreshToken);
+        User user = userCache.getById(verifyRefreshToken(refreshToken).id());
 
         String accessToken = jwtService.generateAccessToken(user, issuedAt);
         String reissueToken = jwtService.generateRefreshToken(user, issuedAt);
-        reissueRefreshTokenByUser(user, reissueToken);
+        rotateRefreshToken(user, refreshToken, reissueToken);
         return new UserLoginDto(accessToken, reissueToken, user.getName());
     }
 
-    private User findUserByValidRefreshToken(String token) {
-        RefreshToken refreshToken = refreshTokenRepository.findByTokenWithUser(token)
-                .orElseThrow(() -> {
-                    throw new TokenNotFoundException("Refresh Token이 존재하지 않습니다.");
-                });
-        User user = refreshToken.getUser();
-        if (user == null) {
-            throw new UsernameNotFoundException("token의 사용자가 존재하지 않습니다.");
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
+        try {
+            return jwtService.verify(refreshToken);
+        } catch (TokenTimeOutException e) {
+            throw new InvalidTokenException("토큰이 유효하지 않습니다.");
         }
+    }
 
-        if (!jwtService.isTokenValid(token, user)) {
+    // 저장소에 없는 토큰은 전환 기간 동안 예전 refresh_token 테이블에서 한번 더 찾고, 있으면 새 family 를 시작한다.
+    private void rotateRefreshToken(User user, String refreshToken, String reissueToken) {
+        final RefreshTokenRotation rotation = refreshTokenStore.rotate(user.getId(), refreshToken, reissueToken);
+        if (rotation == RefreshTokenRotation.NOT_FOUND) {
+            if (!legacyRefreshTokenRepository.consume(user.getId(), refreshToken)) {
+                throw new TokenNotFoundException("Refresh Token이 존재하지 않습니다.");
+            }
+            refreshTokenStore.issue(user.getId(), reissueToken);
+            return;
+        }
+        if (rotation == RefreshTokenRotation.REUSED) {
+            log.warn("재발행에 이미 사용된 refresh token 이 다시 사용되어 로그인을 해제합니다. userId = {}", user.getId());
             throw new InvalidTokenException("토큰이 유효하지 않습니다.");
         }
-        return user;
     }
 
     public void logout(final String jwt) {
-        String userEmail = jwtService.extractEmail(jwt);
-        saveLogoutToken(jwt);
-        refreshTokenRepository.findTokenByUserEmail(userEmail)
-                .ifPresent(this::deleteRefreshToken);
-    }
-
-    private void saveLogoutToken(String accessToken) {
-        long expireTimeFromToken = jwtService.getExpireTimeFromToken(accessToken);
-
-        LogoutAccessTokenFromRedis logoutToken = LogoutAccessTokenFromRedis.builder()
-                .id(accessToken)
-                .expiration(expireTimeFromToken)
-                .build();
-
-        logoutTokenRedisRepository.save(logoutToken);
-    }
-
-    private void deleteRefreshToken(RefreshToken refreshToken) {
-        refreshTokenRepository.delete(refreshToken);
+        final VerifiedToken verifiedToken = jwtService.verify(jwt);
+        logoutTokenCache.revoke(jwt, verifiedToken.expiration());
+        refreshTokenStore.revoke(verifiedToken.id());
     }
 }
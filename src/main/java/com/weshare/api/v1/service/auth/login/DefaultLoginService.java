@@ -3,10 +3,8 @@ package com.weshare.api.v1.service.auth.login;
 import com.weshare.api.v1.controller.auth.dto.UserLoginDto;
 import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.repository.user.UserRepository;
-import com.weshare.api.v1.token.RefreshToken;
-import com.weshare.api.v1.token.RefreshTokenRepository;
-import com.weshare.api.v1.token.TokenType;
 import com.weshare.api.v1.token.jwt.JwtService;
+import com.weshare.api.v1.token.refresh.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,7 +21,7 @@ public class DefaultLoginService {
 
     private final UserRepository repository;
     private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtService jwtService;
 
     @Transactional
@@ -41,7 +39,7 @@ public class DefaultLoginService {
         }
         String accessToken = jwtService.generateAccessToken(user, issuedAt);
         String refreshToken = jwtService.generateRefreshToken(user, issuedAt);
-        reissueRefreshTokenByUser(user, refreshToken);
+        refreshTokenStore.issue(user.getId(), refreshToken);
         return Optional.of(new UserLoginDto(accessToken, refreshToken, user.getName()));
     }
 
@@ -60,20 +58,4 @@ public class DefaultLoginService {
         return passwordEncoder.matches(requestPassword, existingUserPassword);
     }
 
-    private void reissueRefreshTokenByUser(User user, String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findTokenByUser(user)
-                .orElse(createRefreshTokenWithUser(user, refreshToken));
-
-        token.updateToken(refreshToken);
-        refreshTokenRepository.save(token);
-    }
-
-    private RefreshToken createRefreshTokenWithUser(User user, String refreshToken) {
-        return RefreshToken.builder()
-                .user(user)
-                .token(refreshToken)
-                .tokenType(TokenType.BEARER)
-                .build();
-    }
-
 }
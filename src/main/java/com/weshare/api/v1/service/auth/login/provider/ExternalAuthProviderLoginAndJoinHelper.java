@@ -7,10 +7,8 @@ import com.weshare.api.v1.domain.user.exception.EmailDuplicateException;
 import com.weshare.api.v1.repository.user.UserRepository;
 import com.weshare.api.v1.service.auth.login.NotUniqueNameException;
 import com.weshare.api.v1.service.auth.login.RetryFailException;
-import com.weshare.api.v1.token.RefreshToken;
-import com.weshare.api.v1.token.RefreshTokenRepository;
-import com.weshare.api.v1.token.TokenType;
 import com.weshare.api.v1.token.jwt.JwtService;
+import com.weshare.api.v1.token.refresh.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,7 +22,7 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ExternalAuthProviderLoginAndJoinHelper {
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtService jwtService;
 
     @Transactional
@@ -61,7 +59,7 @@ public class ExternalAuthProviderLoginAndJoinHelper {
     private Optional<UserLoginDto> getTokenDto(Date issuedAt, User existingUser) {
         String accessToken = jwtService.generateAccessToken(existingUser, issuedAt);
         String refreshToken = jwtService.generateRefreshToken(existingUser, issuedAt);
-        reissueRefreshTokenByUser(existingUser, refreshToken);
+        refreshTokenStore.issue(existingUser.getId(), refreshToken);
         return Optional.of(new UserLoginDto(
                 accessToken,
                 refreshToken,
@@ -73,22 +71,6 @@ public class ExternalAuthProviderLoginAndJoinHelper {
         return newUserSocial == existingUserSocial;
     }
 
-    private void reissueRefreshTokenByUser(User user, String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findTokenByUser(user)
-                .orElse(createRefreshTokenWithUser(user, refreshToken));
-
-        token.updateToken(refreshToken);
-        refreshTokenRepository.save(token);
-    }
-
-    private RefreshToken createRefreshTokenWithUser(User user, String refreshToken) {
-        return RefreshToken.builder()
-                .user(user)
-                .token(refreshToken)
-                .tokenType(TokenType.BEARER)
-                .build();
-    }
-
     @Slf4j
     private static class SaveRetry {
         private static final int RETRY_COUNT = 3;
@@ -90,7 +90,7 @@ public class LikeService {
             throw new IllegalArgumentException("여행일정이 올바르지 않습니다.");
         }
         scheduleLikeRepository.delete(scheduleLike);
-        eventPublisher.publishEvent(new ScheduleUnlikedEvent(scheduleLike.getId()));
+        eventPublisher.publishEvent(new ScheduleUnlikedEvent(scheduleLike.getScheduleId()));
     }
 
     public CreateCommentLikeResponse saveCommentLike(CreateCommentLikeDto createCommentLikeDto) {
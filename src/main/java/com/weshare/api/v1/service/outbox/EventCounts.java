@@ -0,0 +1,21 @@
+package com.weshare.api.v1.service.outbox;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public final class EventCounts {
+
+    private EventCounts() {
+    }
+
+    // 이벤트 목록을 id 별 증감으로 합치고 합이 0 인 id 는 제외한다.
+    public static <E> Map<Long, Long> sum(List<E> events, Function<E, Long> idExtractor, ToLongFunction<E> deltaExtractor) {
+        final Map<Long, Long> deltas = new HashMap<>();
+        events.forEach(event -> deltas.merge(idExtractor.apply(event), deltaExtractor.applyAsLong(event), Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+}
@@ -0,0 +1,71 @@
+package com.weshare.api.v1.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weshare.api.v1.repository.outbox.ClaimedOutboxEvent;
+import com.weshare.api.v1.service.outbox.OutboxHandlerRegistry.Registration;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class OutboxEventDispatcher {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Registration<?>> registrations;
+
+    public OutboxEventDispatcher(ObjectMapper objectMapper, List<OutboxEventHandler> outboxEventHandlers) {
+        final OutboxHandlerRegistry registry = new OutboxHandlerRegistry();
+        outboxEventHandlers.forEach(handler -> handler.register(registry));
+        this.objectMapper = objectMapper;
+        this.registrations = Map.copyOf(registry.getRegistrations());
+    }
+
+    public String getEventType(Object event) {
+        return event.getClass().getSimpleName();
+    }
+
+    public String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 이벤트를 기록된 순서대로 처리하고, 같은 타입이 연속된 구간은 한번에 넘겨서 핸들러가 증감을 합칠 수 있게 한다.
+     */
+    public void dispatch(List<ClaimedOutboxEvent> events) {
+        int start = 0;
+        while (start < events.size()) {
+            final String eventType = events.get(start).eventType();
+            int end = start + 1;
+            while (end < events.size() && events.get(end).eventType().equals(eventType)) {
+                end++;
+            }
+            dispatch(eventType, events.subList(start, end));
+            start = end;
+        }
+    }
+
+    private void dispatch(String eventType, List<ClaimedOutboxEvent> events) {
+        final Registration<?> registration = registrations.get(eventType);
+        if (registration == null) {
+            throw new IllegalStateException("처리할 수 없는 outbox 이벤트입니다. " + eventType);
+        }
+        final List<Object> deserialized = events.stream()
+                .map(event -> deserialize(event, registration.eventType()))
+                .toList();
+        registration.dispatch(deserialized);
+    }
+
+    private Object deserialize(ClaimedOutboxEvent event, Class<?> eventType) {
+        try {
+            return objectMapper.readValue(event.payload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 읽을 수 없습니다. id = " + event.id(), e);
+        }
+    }
+}
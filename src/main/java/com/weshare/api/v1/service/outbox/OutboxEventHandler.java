@@ -0,0 +1,9 @@
+package com.weshare.api.v1.service.outbox;
+
+/**
+ * outbox 이벤트를 처리하는 빈, 처리할 이벤트 타입과 메서드를 등록한다.
+ */
+public interface OutboxEventHandler {
+
+    void register(OutboxHandlerRegistry registry);
+}
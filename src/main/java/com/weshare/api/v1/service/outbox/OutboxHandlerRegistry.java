@@ -0,0 +1,43 @@
+package com.weshare.api.v1.service.outbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 타입별 처리 메서드 목록, 처리 메서드는 같은 타입의 연속된 이벤트를 순서대로 한번에 받는다.
+ */
+public class OutboxHandlerRegistry {
+
+    private final Map<String, Registration<?>> registrations = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <E> void on(Class<E> eventType, Consumer<List<E>> handler) {
+        final Registration<?> registration = registrations.computeIfAbsent(
+                eventType.getSimpleName(), key -> new Registration<>(eventType));
+        if (registration.eventType() != eventType) {
+            throw new IllegalStateException("이름이 같은 outbox 이벤트 타입이 있습니다. " + eventType.getName());
+        }
+        ((Registration<E>) registration).handlers().add(handler);
+    }
+
+    Map<String, Registration<?>> getRegistrations() {
+        return registrations;
+    }
+
+    record Registration<E>(Class<E> eventType, List<Consumer<List<E>>> handlers) {
+
+        Registration(Class<E> eventType) {
+            this(eventType, new ArrayList<>());
+        }
+
+        void dispatch(List<Object> events) {
+            final List<E> typedEvents = events.stream()
+                    .map(eventType::cast)
+                    .toList();
+            handlers.forEach(handler -> handler.accept(typedEvents));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.weshare.api.v1.service.outbox;
+
+import com.weshare.api.v1.config.outbox.OutboxProperties;
+import com.weshare.api.v1.repository.outbox.ClaimedOutboxEvent;
+import com.weshare.api.v1.repository.outbox.OutboxClaimRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 이벤트를 묶음 단위로 잠그고, 핸들러 처리와 삭제를 한 트랜잭션으로 커밋한다.
+ * 묶음 처리가 실패하면 같은 이벤트들을 하나씩 다시 처리해서 실패한 이벤트만 재시도 대기로 돌린다.
+ * <p>
+ * 릴레이 트랜잭션은 READ COMMITTED 로 연다. REPEATABLE READ 에서는 FOR UPDATE 가 gap/next-key 락을 잡아서
+ * 좋아요, 댓글 요청이 outbox_event 에 insert 할 때 핸들러 처리가 끝날 때까지 기다리게 된다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private static final long MAX_BACKOFF_MS = Duration.ofMinutes(10).toMillis();
+
+    private final OutboxClaimRepository claimRepository;
+    private final OutboxEventDispatcher dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+    private final Timer relayTimer;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxClaimRepository claimRepository,
+            OutboxEventDispatcher dispatcher,
+            PlatformTransactionManager transactionManager,
+            OutboxProperties outboxProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.claimRepository = claimRepository;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.outboxProperties = outboxProperties;
+        this.relayTimer = Timer.builder("outbox.relay")
+                .description("outbox 이벤트 한 묶음을 처리하는 시간")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("outbox.retry")
+                .description("처리에 실패해서 재시도 대기로 돌린 이벤트 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("outbox.dead-letter")
+                .description("outbox_dead_letter 로 옮긴 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, AtomicLong::get)
+                .description("마지막으로 처리한 묶음에서 가장 오래된 이벤트가 기다린 시간(ms)")
+                .register(meterRegistry);
+    }
+
+    // 한 aggregate 에 이벤트가 몰리면 묶음이 가득 차지 않아도 남은 이벤트가 있으므로 가져갈 이벤트가 없을 때까지 이어서 처리한다.
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval-ms:500}")
+    public void relay() {
+        for (int i = 0; i < outboxProperties.getMaxBatchesPerPoll(); i++) {
+            if (relayBatch() == 0) {
+                return;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        final List<ClaimedOutboxEvent> claimed = new ArrayList<>();
+        try {
+            relayTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                claimed.addAll(claimRepository.claim(LocalDateTime.now(), outboxProperties.getBatchSize()));
+                recordLag(claimed);
+                dispatcher.dispatch(claimed);
+                claimRepository.delete(claimed.stream().map(ClaimedOutboxEvent::id).toList());
+            }));
+        } catch (RuntimeException e) {
+            log.warn("outbox 묶음 처리 실패, {}개 이벤트를 하나씩 다시 처리합니다.", claimed.size(), e);
+            claimed.forEach(this::relayOne);
+        }
+        return claimed.size();
+    }
+
+    // 앞선 이벤트가 실패해서 남아 있으면 같은 aggregate 의 뒤 이벤트는 잠기지 않고 건너뛴다.
+    private void relayOne(ClaimedOutboxEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    claimRepository.claimById(event.id(), LocalDateTime.now())
+                            .ifPresent(claimed -> {
+                                dispatcher.dispatch(List.of(claimed));
+                                claimRepository.delete(List.of(claimed.id()));
+                            }));
+        } catch (RuntimeException e) {
+            fail(event, e);
+        }
+    }
+
+    private void fail(ClaimedOutboxEvent event, RuntimeException cause) {
+        final LocalDateTime now = LocalDateTime.now();
+        final int attempts = event.attempts() + 1;
+        final String lastError = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (attempts >= outboxProperties.getMaxAttempts()) {
+            log.error("outbox 이벤트를 {}번 처리하지 못해 dead letter 로 옮깁니다. id = {}, type = {}",
+                    attempts, event.id(), event.eventType(), cause);
+            transactionTemplate.executeWithoutResult(status -> claimRepository.moveToDeadLetter(event.id(), now, lastError));
+            deadLetterCounter.increment();
+            return;
+        }
+        log.warn("outbox 이벤트 처리 실패, {}번째 재시도를 기다립니다. id = {}, type = {}",
+                attempts, event.id(), event.eventType(), cause);
+        transactionTemplate.executeWithoutResult(status ->
+                claimRepository.retryLater(event.id(), now, now.plus(Duration.ofMillis(getBackoffMs(attempts))), lastError));
+        retryCounter.increment();
+    }
+
+    private long getBackoffMs(int attempts) {
+        final long backoff = outboxProperties.getRetryBackoffMs() << Math.min(attempts - 1, 20);
+        return Math.min(backoff, MAX_BACKOFF_MS);
+    }
+
+    private void recordLag(List<ClaimedOutboxEvent> claimed) {
+        if (claimed.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+        lagMillis.set(Duration.between(claimed.get(0).createdDate(), LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,27 @@
+package com.weshare.api.v1.service.schedule.card;
+
+import com.weshare.api.v1.repository.schedule.card.ScheduleCardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleCardRebuildService {
+
+    private final ScheduleCardRepository scheduleCardRepository;
+
+    /**
+     * 카드 테이블을 비우고 여행일정, 좋아요, 댓글, 장소 테이블로부터 다시 만든다.
+     * 이벤트 유실이나 스키마 변경 후 카드 값이 어긋났을 때 사용한다.
+     */
+    @Transactional
+    public int rebuild() {
+        final int deleted = scheduleCardRepository.deleteAllCards();
+        final int inserted = scheduleCardRepository.insertAllFromSchedules();
+        log.info("schedule_card 재생성 완료, 삭제 = {}, 생성 = {}", deleted, inserted);
+        return inserted;
+    }
+}
@@ -35,7 +35,7 @@ public class ScheduleService {
         Schedule schedule = createScheduleDto.toEntity();
         schedule.initDays();
         Schedule save = scheduleRepository.save(schedule);
-        eventPublisher.publishEvent(new ScheduleCreatedEvent(schedule.getId(), schedule.getTotalScheduleExpense()));
+        eventPublisher.publishEvent(new ScheduleCreatedEvent(schedule.getId(), schedule.getDestination(), schedule.getTotalScheduleExpense()));
         return save;
     }
 
@@ -58,10 +58,13 @@ public class ScheduleService {
                 .orElse(findSchedule.getTitle());
 
         findSchedule.updateDestinationOrTitle(destination, title);
-        updateDays.ifPresent(u -> updateScheduleDays(findSchedule, u));
+        final long expenseDelta = updateDays.map(u -> updateScheduleDays(findSchedule, u))
+                .orElse(0L);
+        // 제목, 목적지만 바뀐 경우에도 카드와 필터별 개수가 따라가도록 항상 발행한다.
+        eventPublisher.publishEvent(new ScheduleUpdatedEvent(findSchedule.getId(), findSchedule.getDestination(), expenseDelta));
     }
 
-    private void updateScheduleDays(Schedule findSchedule, List<Day> updateDays) {
+    private long updateScheduleDays(Schedule findSchedule, List<Day> updateDays) {
         if (!findSchedule.isContainDays(updateDays)) {
             throw new IllegalArgumentException("날짜 정보가 올바르지 않습니다.");
         }
@@ -70,8 +73,7 @@ public class ScheduleService {
         final List<Day> findDays = dayRepository.findDayByIds(dayIds);
         final Map<Long, Day> dayMap = getDayMap(findDays);
 
-        updateDays(updateDays, dayMap);
-        eventPublisher.publishEvent(new ScheduleUpdatedEvent(findSchedule.getId()));
+        return updateDays(updateDays, dayMap);
     }
 
     private List<Long> getDayIds(List<Day> updateDays) {
@@ -85,10 +87,12 @@ public class ScheduleService {
                 .collect(Collectors.toMap(Day::getId, Function.identity()));
     }
 
-    private void updateDays(List<Day> updateDays, Map<Long, Day> dayMap) {
-        updateDays.forEach(u ->
-                Optional.ofNullable(dayMap.get(u.getId()))
-                        .ifPresent(d -> d.updatePlaces(u)));
+    private long updateDays(List<Day> updateDays, Map<Long, Day> dayMap) {
+        return updateDays.stream()
+                .mapToLong(u -> Optional.ofNullable(dayMap.get(u.getId()))
+                        .map(d -> d.updatePlaces(u))
+                        .orElse(0L))
+                .sum();
     }
 
     public void deleteSchedule(DeleteScheduleDto deleteScheduleDto) {
@@ -103,11 +107,4 @@ public class ScheduleService {
         scheduleRepository.delete(schedule);
         eventPublisher.publishEvent(new ScheduleDeletedEvent(schedule.getId()));
     }
-
-    public void viewCount(Long id) {
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(ScheduleNotFoundException::new);
-
-        schedule.incrementViewCount();
-    }
 }
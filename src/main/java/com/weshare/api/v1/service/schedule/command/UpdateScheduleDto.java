@@ -90,6 +90,7 @@ public class UpdateScheduleDto {
         }
 
         static class UpdatePlaceDto {
+            private final Long placeId;
             private final String title;
             private final LocalTime time;
             private final String memo;
@@ -98,7 +99,8 @@ public class UpdateScheduleDto {
             private final Double longitude;
 
             @Builder
-            private UpdatePlaceDto(String title, LocalTime time, String memo, long expense, Double latitude, Double longitude) {
+            private UpdatePlaceDto(Long placeId, String title, LocalTime time, String memo, long expense, Double latitude, Double longitude) {
+                this.placeId = placeId;
                 this.title = title;
                 this.time = time;
                 this.memo = memo;
@@ -109,6 +111,7 @@ public class UpdateScheduleDto {
 
             private static UpdatePlaceDto from(final UpdateScheduleRequest.UpdateDay.UpdatePlace updatePlace) {
                 return UpdatePlaceDto.builder()
+                        .placeId(updatePlace.getPlaceId())
                         .title(updatePlace.getTitle())
                         .time(updatePlace.getTime())
                         .memo(updatePlace.getMemo())
@@ -141,6 +144,7 @@ public class UpdateScheduleDto {
 
     private Place createPlace(UpdateDayDto.UpdatePlaceDto updatePlaceDto) {
         return Place.builder()
+                .id(updatePlaceDto.placeId)
                 .title(updatePlaceDto.title)
                 .time(updatePlaceDto.time)
                 .memo(updatePlaceDto.memo)
@@ -0,0 +1,28 @@
+package com.weshare.api.v1.service.schedule.facet;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 화면에 보여줄 개수, 각 항목은 해당 조건만 바꾸고 나머지 조건은 그대로 적용했을 때의 여행일정 수다.
+ */
+public record ScheduleFacetCounts(
+        long totalCount,
+        Map<Destination, Long> destinations,
+        List<RangeCount> expenses,
+        List<RangeCount> durations
+) {
+    public static ScheduleFacetCounts empty() {
+        return new ScheduleFacetCounts(0, Map.of(), List.of(), List.of());
+    }
+
+    // max 가 null 이면 상한이 없는 구간이다.
+    public record RangeCount(
+            long min,
+            Long max,
+            long count
+    ) {
+    }
+}
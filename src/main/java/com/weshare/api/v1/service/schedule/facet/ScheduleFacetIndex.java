@@ -0,0 +1,337 @@
+package com.weshare.api.v1.service.schedule.facet;
+
+import com.weshare.api.v1.config.schedule.ScheduleFilterCountProperties;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.statistics.ExpenseBuckets;
+import com.weshare.api.v1.repository.schedule.query.DurationCondition;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.TripDateCondition;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleFacetDto;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetCounts.RangeCount;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 목적지, 경비 구간, 여행 기간, 시작 월 별로 schedule_id 비트맵을 두고 필터 조건을 비트맵 교집합으로 처리한다.
+ * 구간에 일부만 걸치는 경비 구간, 시작 월, 최대 기간 구간은 여행일정 별 값으로 한번 더 거른다.
+ * 시작시 한번 전체를 적재하고 이후에는 여행일정 이벤트로 갱신한다.
+ */
+@Component
+public class ScheduleFacetIndex {
+    // 이 기간 이상인 여행일정은 같은 구간에 모은다.
+    static final int MAX_DURATION_DAYS = 15;
+
+    private final ExpenseBuckets expenseBuckets;
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Destination, RoaringBitmap> destinations = new EnumMap<>(Destination.class);
+    private final RoaringBitmap[] expenses;
+    private final RoaringBitmap[] durations = new RoaringBitmap[MAX_DURATION_DAYS + 1];
+    private final NavigableMap<Integer, RoaringBitmap> startMonths = new TreeMap<>();
+    private final Map<Integer, ScheduleFacetDto> facets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public ScheduleFacetIndex(ScheduleFilterCountProperties filterCountProperties) {
+        this.expenseBuckets = filterCountProperties.getExpenseBuckets();
+        this.expenses = new RoaringBitmap[expenseBuckets.size()];
+        for (int i = 0; i < expenses.length; i++) {
+            expenses[i] = new RoaringBitmap();
+        }
+        for (int i = 1; i <= MAX_DURATION_DAYS; i++) {
+            durations[i] = new RoaringBitmap();
+        }
+        for (Destination destination : Destination.values()) {
+            destinations.put(destination, new RoaringBitmap());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return facets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsert(ScheduleFacetDto scheduleFacet) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(toIndexId(scheduleFacet.scheduleId()));
+            addInternal(scheduleFacet);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 적재 도중 이벤트로 먼저 들어온 값은 덮어쓰지 않는다.
+    public void addIfAbsent(ScheduleFacetDto scheduleFacet) {
+        lock.writeLock().lock();
+        try {
+            if (!facets.containsKey(toIndexId(scheduleFacet.scheduleId()))) {
+                addInternal(scheduleFacet);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(toIndexId(scheduleId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByUserId(Long userId) {
+        lock.writeLock().lock();
+        try {
+            final List<Integer> scheduleIds = facets.values().stream()
+                    .filter(f -> userId.equals(f.userId()))
+                    .map(f -> toIndexId(f.scheduleId()))
+                    .toList();
+            scheduleIds.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 schedule_id 를 오름차순 비트맵으로 반환한다. 반환한 비트맵은 복사본이다.
+     */
+    public RoaringBitmap match(ScheduleFacetQuery query) {
+        lock.readLock().lock();
+        try {
+            return filter(query, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ScheduleFacetCounts facetCounts(ScheduleFacetQuery query) {
+        lock.readLock().lock();
+        try {
+            final long totalCount = filter(query, null).getLongCardinality();
+            return new ScheduleFacetCounts(
+                    totalCount,
+                    countDestinations(filter(query, Facet.DESTINATION)),
+                    countExpenses(filter(query, Facet.EXPENSE)),
+                    countDurations(filter(query, Facet.DURATION))
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Destination, Long> countDestinations(RoaringBitmap candidates) {
+        final Map<Destination, Long> counts = new EnumMap<>(Destination.class);
+        destinations.forEach((destination, bitmap) -> {
+            if (!destination.isEmpty()) {
+                counts.put(destination, (long) RoaringBitmap.andCardinality(candidates, bitmap));
+            }
+        });
+        return counts;
+    }
+
+    // 경계값 칸과 그 뒤 사이 칸을 합쳐서 [b[i], b[i + 1]) 구간 단위로 센다.
+    private List<RangeCount> countExpenses(RoaringBitmap candidates) {
+        final List<RangeCount> counts = new ArrayList<>(expenseBuckets.rangeSize());
+        for (int range = 0; range < expenseBuckets.rangeSize(); range++) {
+            final long upperBound = expenseBuckets.rangeUpperBound(range);
+            counts.add(new RangeCount(
+                    expenseBuckets.rangeLowerBound(range),
+                    upperBound == Long.MAX_VALUE ? null : upperBound,
+                    RoaringBitmap.andCardinality(candidates, expenses[range * 2])
+                            + RoaringBitmap.andCardinality(candidates, expenses[range * 2 + 1])
+            ));
+        }
+        return counts;
+    }
+
+    private List<RangeCount> countDurations(RoaringBitmap candidates) {
+        final List<RangeCount> counts = new ArrayList<>(MAX_DURATION_DAYS);
+        for (int days = 1; days <= MAX_DURATION_DAYS; days++) {
+            counts.add(new RangeCount(
+                    days,
+                    days == MAX_DURATION_DAYS ? null : (long) days,
+                    RoaringBitmap.andCardinality(candidates, durations[days])
+            ));
+        }
+        return counts;
+    }
+
+    // excluded 로 넘긴 조건은 적용하지 않는다. 필터 개수는 자기 조건을 뺀 나머지 조건으로 센다.
+    private RoaringBitmap filter(ScheduleFacetQuery query, Facet excluded) {
+        final RoaringBitmap candidates = all.clone();
+        final RoaringBitmap partial = new RoaringBitmap();
+        if (excluded != Facet.DESTINATION && query.hasDestinationCondition()) {
+            candidates.and(destinationBitmap(query.destinations()));
+        }
+        if (excluded != Facet.EXPENSE && !query.expenseCondition().isNotCondition()) {
+            narrowExpense(query.expenseCondition(), candidates, partial);
+        }
+        if (excluded != Facet.DURATION && !query.durationCondition().isNotCondition()) {
+            narrowDuration(query.durationCondition(), candidates, partial);
+        }
+        if (!query.tripDateCondition().isNotCondition()) {
+            narrowStartMonth(query.tripDateCondition(), candidates, partial);
+        }
+
+        partial.and(candidates);
+        partial.forEach((int id) -> {
+            if (!matches(facets.get(id), query, excluded)) {
+                candidates.remove(id);
+            }
+        });
+        return candidates;
+    }
+
+    private RoaringBitmap destinationBitmap(List<Destination> queryDestinations) {
+        final RoaringBitmap matched = new RoaringBitmap();
+        queryDestinations.forEach(d -> matched.or(destinations.get(d)));
+        return matched;
+    }
+
+    private void narrowExpense(ExpenseCondition condition, RoaringBitmap candidates, RoaringBitmap partial) {
+        final long min = condition.minExpense() == null ? 0 : condition.minExpense();
+        final long max = condition.maxExpense() == null ? Long.MAX_VALUE : condition.maxExpense();
+        final RoaringBitmap covering = new RoaringBitmap();
+        if (min <= max && max >= 0) {
+            for (int bucket = expenseBuckets.bucketOf(min); bucket <= expenseBuckets.bucketOf(max); bucket++) {
+                covering.or(expenses[bucket]);
+                if (expenseBuckets.lowerBound(bucket) < min || expenseBuckets.upperBound(bucket) > max) {
+                    partial.or(expenses[bucket]);
+                }
+            }
+        }
+        candidates.and(covering);
+    }
+
+    private void narrowDuration(DurationCondition condition, RoaringBitmap candidates, RoaringBitmap partial) {
+        final int min = condition.minDays() == null ? 1 : Math.max(condition.minDays(), 1);
+        final int max = condition.maxDays() == null ? Integer.MAX_VALUE : condition.maxDays();
+        final RoaringBitmap covering = new RoaringBitmap();
+        for (int days = Math.min(min, MAX_DURATION_DAYS); days <= Math.min(max, MAX_DURATION_DAYS) && min <= max; days++) {
+            covering.or(durations[days]);
+        }
+        // 마지막 구간은 상한이 없어서 조건의 하한이나 상한이 구간 안에 있으면 일부만 포함된다.
+        if ((max < Integer.MAX_VALUE && max >= MAX_DURATION_DAYS) || min > MAX_DURATION_DAYS) {
+            partial.or(durations[MAX_DURATION_DAYS]);
+        }
+        candidates.and(covering);
+    }
+
+    private void narrowStartMonth(TripDateCondition condition, RoaringBitmap candidates, RoaringBitmap partial) {
+        final LocalDate from = condition.startDateFrom();
+        final LocalDate to = condition.startDateTo();
+        final RoaringBitmap covering = new RoaringBitmap();
+        if (from == null || to == null || !from.isAfter(to)) {
+            NavigableMap<Integer, RoaringBitmap> months = startMonths;
+            if (from != null) {
+                months = months.tailMap(monthKey(from), true);
+            }
+            if (to != null) {
+                months = months.headMap(monthKey(to), true);
+            }
+            months.forEach((month, bitmap) -> {
+                covering.or(bitmap);
+                final boolean partialFrom = from != null && month == monthKey(from) && from.getDayOfMonth() != 1;
+                final boolean partialTo = to != null && month == monthKey(to) && to.getDayOfMonth() != to.lengthOfMonth();
+                if (partialFrom || partialTo) {
+                    partial.or(bitmap);
+                }
+            });
+        }
+        candidates.and(covering);
+    }
+
+    private boolean matches(ScheduleFacetDto facet, ScheduleFacetQuery query, Facet excluded) {
+        if (excluded != Facet.EXPENSE && !matchesExpense(facet.totalExpense(), query.expenseCondition())) {
+            return false;
+        }
+        if (excluded != Facet.DURATION && !matchesDuration(facet.durationDays(), query.durationCondition())) {
+            return false;
+        }
+        return matchesStartDate(facet.startDate(), query.tripDateCondition());
+    }
+
+    private boolean matchesExpense(long expense, ExpenseCondition condition) {
+        return (condition.minExpense() == null || expense >= condition.minExpense())
+                && (condition.maxExpense() == null || expense <= condition.maxExpense());
+    }
+
+    private boolean matchesDuration(int days, DurationCondition condition) {
+        return (condition.minDays() == null || days >= condition.minDays())
+                && (condition.maxDays() == null || days <= condition.maxDays());
+    }
+
+    private boolean matchesStartDate(LocalDate startDate, TripDateCondition condition) {
+        return (condition.startDateFrom() == null || !startDate.isBefore(condition.startDateFrom()))
+                && (condition.startDateTo() == null || !startDate.isAfter(condition.startDateTo()));
+    }
+
+    private void addInternal(ScheduleFacetDto scheduleFacet) {
+        final int id = toIndexId(scheduleFacet.scheduleId());
+        facets.put(id, scheduleFacet);
+        all.add(id);
+        destinations.get(scheduleFacet.destination()).add(id);
+        expenses[expenseBuckets.bucketOf(scheduleFacet.totalExpense())].add(id);
+        durations[durationBucket(scheduleFacet.durationDays())].add(id);
+        startMonths.computeIfAbsent(monthKey(scheduleFacet.startDate()), k -> new RoaringBitmap()).add(id);
+    }
+
+    private void removeInternal(int id) {
+        final ScheduleFacetDto scheduleFacet = facets.remove(id);
+        if (scheduleFacet == null) {
+            return;
+        }
+        all.remove(id);
+        destinations.get(scheduleFacet.destination()).remove(id);
+        expenses[expenseBuckets.bucketOf(scheduleFacet.totalExpense())].remove(id);
+        durations[durationBucket(scheduleFacet.durationDays())].remove(id);
+        final int month = monthKey(scheduleFacet.startDate());
+        final RoaringBitmap monthBitmap = startMonths.get(month);
+        monthBitmap.remove(id);
+        if (monthBitmap.isEmpty()) {
+            startMonths.remove(month);
+        }
+    }
+
+    private int durationBucket(int days) {
+        return Math.min(Math.max(days, 1), MAX_DURATION_DAYS);
+    }
+
+    private int monthKey(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    // 비트맵은 32bit 정수를 담으므로 schedule_id 가 int 범위를 넘으면 색인할 수 없다.
+    private int toIndexId(Long scheduleId) {
+        return Math.toIntExact(scheduleId);
+    }
+
+    private enum Facet {
+        DESTINATION, EXPENSE, DURATION
+    }
+}
@@ -0,0 +1,42 @@
+package com.weshare.api.v1.service.schedule.facet;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleFacetDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleFacetIndexLoader {
+
+    private final ScheduleFacetIndex scheduleFacetIndex;
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    // 이벤트 멀티캐스터가 비동기라 서버 기동을 막지 않고 백그라운드에서 적재된다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!scheduleSearchProperties.isFacetIndex()) {
+            return;
+        }
+        final int chunkSize = scheduleSearchProperties.getIndexLoadChunkSize();
+        Long lastScheduleId = null;
+        while (true) {
+            final List<ScheduleFacetDto> scheduleFacets = pageQueryRepository.findScheduleFacets(lastScheduleId, chunkSize);
+            scheduleFacets.forEach(scheduleFacetIndex::addIfAbsent);
+            if (scheduleFacets.size() < chunkSize) {
+                break;
+            }
+            lastScheduleId = scheduleFacets.get(scheduleFacets.size() - 1).scheduleId();
+        }
+        scheduleFacetIndex.markReady();
+        log.info("여행일정 필터 색인 적재 완료, 건수 = {}", scheduleFacetIndex.size());
+    }
+}
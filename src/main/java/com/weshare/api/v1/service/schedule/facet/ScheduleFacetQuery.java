@@ -0,0 +1,29 @@
+package com.weshare.api.v1.service.schedule.facet;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.DurationCondition;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.TripDateCondition;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+
+import java.util.List;
+
+public record ScheduleFacetQuery(
+        List<Destination> destinations,
+        ExpenseCondition expenseCondition,
+        TripDateCondition tripDateCondition,
+        DurationCondition durationCondition
+) {
+    public static ScheduleFacetQuery from(ScheduleConditionPageDto scheduleConditionPageDto) {
+        return new ScheduleFacetQuery(
+                scheduleConditionPageDto.getDestinations(),
+                scheduleConditionPageDto.getExpenseCondition(),
+                scheduleConditionPageDto.getTripDateCondition(),
+                scheduleConditionPageDto.getDurationCondition()
+        );
+    }
+
+    public boolean hasDestinationCondition() {
+        return !destinations.contains(Destination.EMPTY);
+    }
+}
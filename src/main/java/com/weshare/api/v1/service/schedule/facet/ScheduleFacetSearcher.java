@@ -0,0 +1,73 @@
+package com.weshare.api.v1.service.schedule.facet;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleFacetSearcher {
+    private static final String CREATED_DATE = "created-date";
+
+    private final ScheduleFacetIndex scheduleFacetIndex;
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    /**
+     * 비트맵 교집합으로 일치하는 id 와 정확한 총 개수를 구하고, 해당 페이지의 여행일정만 pk 로 조회한다.
+     * 작성일 외 정렬은 일치하는 id 를 모두 IN 절로 넘겨야 하므로, 그 수가 상한을 넘으면 빈 값을 반환해서 DB 조회로 넘긴다.
+     */
+    public Optional<Page<Schedule>> search(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final RoaringBitmap matchedIds = scheduleFacetIndex.match(ScheduleFacetQuery.from(scheduleConditionPageDto));
+        final Pageable pageable = scheduleConditionPageDto.getPageable();
+        final int totalCount = matchedIds.getCardinality();
+        if (pageable.getOffset() >= totalCount) {
+            return Optional.of(new PageImpl<>(List.of(), pageable, totalCount));
+        }
+
+        final Sort.Order order = getSingleOrder(pageable.getSort());
+        // IDENTITY 로 발급된 id 는 작성 순서와 같아서 작성일 정렬은 비트맵에서 바로 자를 수 있다.
+        if (order != null && CREATED_DATE.equals(order.getProperty())) {
+            final List<Schedule> content = pageQueryRepository.findSchedulesByIds(slice(matchedIds, pageable, order.isAscending()));
+            return Optional.of(new PageImpl<>(content, pageable, totalCount));
+        }
+        if (totalCount > scheduleSearchProperties.getSortCandidateLimit()) {
+            return Optional.empty();
+        }
+        final List<Long> scheduleIds = new ArrayList<>(totalCount);
+        matchedIds.forEach((int id) -> scheduleIds.add((long) id));
+        return Optional.of(new PageImpl<>(pageQueryRepository.findSchedulePageByIds(scheduleIds, pageable), pageable, totalCount));
+    }
+
+    private Sort.Order getSingleOrder(Sort sort) {
+        final List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        return orders.get(0);
+    }
+
+    private List<Long> slice(RoaringBitmap matchedIds, Pageable pageable, boolean ascending) {
+        final int cardinality = matchedIds.getCardinality();
+        final int from = (int) pageable.getOffset();
+        final int to = Math.min(from + pageable.getPageSize(), cardinality);
+        final List<Long> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            final int rank = ascending ? i : cardinality - 1 - i;
+            page.add((long) matchedIds.select(rank));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,148 @@
+package com.weshare.api.v1.service.schedule.query;
+
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.service.schedule.query.dto.SchedulePageFetchResult;
+import com.weshare.api.v1.config.schedule.ScheduleFeedProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * count/content 조회를 동시에 실행하고, id 가 정해지면 통계/좋아요 조회를 동시에 실행한다.
+ * 각 조회는 repository 의 읽기 전용 트랜잭션 안에서 별도의 커넥션으로 실행된다.
+ */
+@Slf4j
+@Component
+public class ConcurrentSchedulePageFetcher implements SchedulePageFetcher, DisposableBean {
+
+    // HikariCP 의 maximumPoolSize 기본값
+    private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ThreadPoolTaskExecutor scheduleFeedExecutor;
+
+    public ConcurrentSchedulePageFetcher(
+            SchedulePageQueryRepository pageQueryRepository,
+            ScheduleFeedProperties scheduleFeedProperties,
+            DataSource dataSource
+    ) {
+        this.pageQueryRepository = pageQueryRepository;
+        final int connectionPoolSize = findConnectionPoolSize(dataSource);
+        final int poolSize = resolvePoolSize(scheduleFeedProperties.getFetchPoolSize(), connectionPoolSize);
+        if (poolSize > connectionPoolSize / 2) {
+            log.warn("피드 조회 스레드 수가 커넥션 풀의 절반보다 많아 다른 요청이 커넥션을 기다릴 수 있습니다. fetchPoolSize = {}, connectionPoolSize = {}", poolSize, connectionPoolSize);
+        }
+        this.scheduleFeedExecutor = createExecutor(poolSize, scheduleFeedProperties.getFetchQueueCapacity());
+    }
+
+    /*
+     * 피드 조회 스레드는 각자 커넥션 하나를 잡으므로 스레드 수만큼 커넥션을 동시에 쓴다.
+     * 설정하지 않으면 커넥션 풀의 절반만 써서 쓰기 요청, 스케줄러 작업이 쓸 커넥션을 남긴다.
+     */
+    static int resolvePoolSize(int fetchPoolSize, int connectionPoolSize) {
+        if (fetchPoolSize > 0) {
+            return fetchPoolSize;
+        }
+        return Math.max(1, connectionPoolSize / 2);
+    }
+
+    // p6spy 가 DataSource 를 감싸므로 unwrap 으로 HikariDataSource 를 꺼낸다.
+    private int findConnectionPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기를 확인할 수 없어 기본값을 사용합니다.", e);
+        }
+        return DEFAULT_CONNECTION_POOL_SIZE;
+    }
+
+    /*
+     * 빈으로 등록하면 @Async 기본 실행기를 대체하므로 이 클래스 안에서만 쓰는 전용 풀로 둔다.
+     * 큐가 길면 요청이 앞선 조회를 기다리는 시간만 늘어나므로 짧게 두고, 넘치면 요청 스레드에서 실행한다.
+     */
+    private ThreadPoolTaskExecutor createExecutor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("schedule-feed-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행해서 직렬 조회로 떨어지게 한다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        scheduleFeedExecutor.shutdown();
+    }
+
+    @Override
+    public SchedulePageFetchResult fetchSchedulePage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final CompletableFuture<Long> countFuture = supplyAsync(() -> pageQueryRepository.findScheduleTotalCount(scheduleConditionPageDto));
+        final CompletableFuture<List<Schedule>> contentFuture = supplyAsync(() -> pageQueryRepository.findScheduleContent(scheduleConditionPageDto));
+        return fetchDetails(countFuture, contentFuture, scheduleConditionPageDto.getPageable(), scheduleConditionPageDto.getUserId());
+    }
+
+    @Override
+    public SchedulePageFetchResult fetchSearchPage(ScheduleSearchCondition searchCondition) {
+        final CompletableFuture<Long> countFuture = supplyAsync(() -> pageQueryRepository.countSearchSchedule(searchCondition.search()));
+        final CompletableFuture<List<Schedule>> contentFuture = supplyAsync(() -> pageQueryRepository.searchScheduleContent(searchCondition));
+        return fetchDetails(countFuture, contentFuture, searchCondition.pageable(), searchCondition.userId());
+    }
+
+    private SchedulePageFetchResult fetchDetails(
+            CompletableFuture<Long> countFuture,
+            CompletableFuture<List<Schedule>> contentFuture,
+            Pageable pageable,
+            Long userId
+    ) {
+        final List<Schedule> content = join(contentFuture);
+        final List<Long> scheduleIds = content.stream()
+                .map(Schedule::getId)
+                .toList();
+
+        final CompletableFuture<Map<Long, StatisticsScheduleDetails>> statisticsFuture = supplyAsync(() -> pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds));
+        final CompletableFuture<Map<Long, Boolean>> likedFuture = supplyAsync(() -> pageQueryRepository.findLikedSchedulesMap(scheduleIds, userId));
+
+        final Page<Schedule> schedulePage = PageableExecutionUtils.getPage(content, pageable, () -> join(countFuture));
+        return new SchedulePageFetchResult(schedulePage, join(statisticsFuture), join(likedFuture));
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, scheduleFeedExecutor);
+    }
+
+    // 예외 핸들러가 원래 예외 타입으로 처리할 수 있도록 CompletionException 을 벗겨낸다.
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
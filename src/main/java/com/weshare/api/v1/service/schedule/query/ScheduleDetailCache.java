@@ -0,0 +1,181 @@
+package com.weshare.api.v1.service.schedule.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weshare.api.v1.config.schedule.ScheduleDetailCacheProperties;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailBody;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 여행일정 상세 조회 결과를 직렬화된 JSON 으로 서버 로컬 캐시(L1)와 Redis(L2)에 둔다.
+ * 조회수, 좋아요 여부처럼 요청마다 달라지는 값은 캐시하지 않고 응답을 쓸 때 앞에 붙인다.
+ * 수정, 삭제되면 Redis 키를 지우고 pub/sub 으로 모든 서버의 로컬 캐시를 비운다.
+ * 비울 때마다 여행일정별 세대 번호를 올리고, DB 에서 읽기 전에 본 세대 번호가 그대로일 때만 Redis 에 저장한다.
+ * 그래서 다른 서버가 비우기 전에 읽은 본문이 비운 뒤에 저장되는 일이 없다.
+ */
+@Slf4j
+@Component
+public class ScheduleDetailCache {
+    private static final String KEY_PREFIX = "schedule:detail:";
+    private static final String GENERATION_KEY_PREFIX = "schedule:detail:generation:";
+    private static final String EVICT_CHANNEL = "schedule:detail:evict";
+    private static final String INITIAL_GENERATION = "0";
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+    // 읽는 중인 서버가 세대 번호를 비교할 수 있도록 세대 번호 key 는 본문 TTL 만큼 남긴다.
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
+    private static final List<String> VOLATILE_FIELDS = List.of("liked", "viewCount");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, ScheduleDetailBody> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public ScheduleDetailCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            ScheduleDetailCacheProperties cacheProperties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = cacheProperties.getRedisTtl();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getLocalMaximumSize())
+                .expireAfterWrite(cacheProperties.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "schedule.detail.local");
+        this.redisHitCounter = meterRegistry.counter("schedule.detail.redis", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("schedule.detail.redis", "result", "miss");
+
+        if (cacheProperties.isEnabled()) {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(EVICT_CHANNEL)
+            );
+        }
+    }
+
+    // 같은 키를 동시에 조회하면 로컬 캐시가 한 번만 불러오고 나머지는 그 결과를 기다린다.
+    public ScheduleDetailBody get(Long scheduleId, Function<Long, ScheduleDetailDto> loader) {
+        return localCache.get(scheduleId, id -> readRedis(id).orElseGet(() -> {
+            final Optional<String> generation = readGeneration(id);
+            final ScheduleDetailBody loaded = serialize(loader.apply(id));
+            generation.ifPresent(seen -> writeRedis(id, seen, loaded));
+            return loaded;
+        }));
+    }
+
+    // DB 를 조회하지 않고 캐시에 있는 본문의 해시만 찾는다.
+    public Optional<String> findContentHash(Long scheduleId) {
+        final ScheduleDetailBody cached = localCache.getIfPresent(scheduleId);
+        if (cached != null) {
+            return Optional.of(cached.getContentHash());
+        }
+        return readRedis(scheduleId)
+                .map(body -> {
+                    localCache.put(scheduleId, body);
+                    return body.getContentHash();
+                });
+    }
+
+    public void evict(Long scheduleId) {
+        localCache.invalidate(scheduleId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + scheduleId, GENERATION_KEY_PREFIX + scheduleId),
+                    String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(scheduleId));
+        } catch (DataAccessException e) {
+            log.warn("여행일정 상세 캐시를 비우지 못했습니다. scheduleId = {}, {}", scheduleId, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String scheduleId) {
+        try {
+            localCache.invalidate(Long.valueOf(scheduleId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 여행일정 상세 캐시 무효화 메시지입니다. {}", scheduleId);
+        }
+    }
+
+    // Redis 에 문제가 있으면 캐시 없이 DB 에서 조회한다.
+    private Optional<ScheduleDetailBody> readRedis(Long scheduleId) {
+        try {
+            final String json = redisTemplate.opsForValue().get(KEY_PREFIX + scheduleId);
+            if (json == null) {
+                redisMissCounter.increment();
+                return Optional.empty();
+            }
+            redisHitCounter.increment();
+            return Optional.of(ScheduleDetailBody.of(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn("여행일정 상세 캐시를 읽지 못했습니다. scheduleId = {}, {}", scheduleId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 세대 번호를 읽지 못하면 비운 뒤인지 알 수 없으므로 Redis 에 저장하지 않는다.
+    private Optional<String> readGeneration(Long scheduleId) {
+        try {
+            final String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + scheduleId);
+            return Optional.of(generation == null ? INITIAL_GENERATION : generation);
+        } catch (DataAccessException e) {
+            log.warn("여행일정 상세 캐시 세대 번호를 읽지 못했습니다. scheduleId = {}, {}", scheduleId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 읽는 동안 다른 서버가 캐시를 비웠으면 저장하지 않는다.
+    private void writeRedis(Long scheduleId, String generation, ScheduleDetailBody scheduleDetailBody) {
+        try {
+            final String json = new String(scheduleDetailBody.toByteArray(), StandardCharsets.UTF_8);
+            redisTemplate.execute(WRITE_SCRIPT, List.of(KEY_PREFIX + scheduleId, GENERATION_KEY_PREFIX + scheduleId),
+                    generation, json, String.valueOf(redisTtl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("여행일정 상세 캐시를 저장하지 못했습니다. scheduleId = {}, {}", scheduleId, e.getMessage());
+        }
+    }
+
+    private ScheduleDetailBody serialize(ScheduleDetailDto scheduleDetailDto) {
+        try {
+            final ObjectNode node = objectMapper.valueToTree(scheduleDetailDto);
+            node.remove(VOLATILE_FIELDS);
+            return ScheduleDetailBody.of(objectMapper.writeValueAsBytes(node));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("여행일정 상세 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.weshare.api.v1.service.schedule.query;
+
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.service.schedule.query.dto.SchedulePageFetchResult;
+
+/**
+ * 피드, 검색 목록에 필요한 여행일정 페이지, 통계, 좋아요 여부를 함께 조회한다.
+ */
+public interface SchedulePageFetcher {
+    SchedulePageFetchResult fetchSchedulePage(ScheduleConditionPageDto scheduleConditionPageDto);
+
+    SchedulePageFetchResult fetchSearchPage(ScheduleSearchCondition searchCondition);
+}
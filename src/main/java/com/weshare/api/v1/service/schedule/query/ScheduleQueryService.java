@@ -1,22 +1,47 @@
 package com.weshare.api.v1.service.schedule.query;
 
+import com.weshare.api.v1.config.schedule.ScheduleFeedProperties;
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
 import com.weshare.api.v1.controller.schedule.query.SearchScheduleDto;
 import com.weshare.api.v1.domain.schedule.Destination;
 import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
 import com.weshare.api.v1.domain.schedule.exception.ScheduleNotFoundException;
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
 import com.weshare.api.v1.repository.schedule.ScheduleRepository;
+import com.weshare.api.v1.repository.schedule.card.ScheduleCardRepository;
+import com.weshare.api.v1.repository.schedule.query.DurationCondition;
 import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.ScheduleOrderSpecifierHelper;
 import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
 import com.weshare.api.v1.repository.schedule.query.ScheduleQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.TripDateCondition;
 import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleCursor;
+import com.weshare.api.v1.repository.schedule.trending.ScheduleTrendingRepository;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetCounts;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetIndex;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetQuery;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetSearcher;
+import com.weshare.api.v1.service.schedule.query.dto.CursorPageDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailBody;
 import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailResponse;
 import com.weshare.api.v1.service.schedule.query.dto.ScheduleFilterPageDto;
 import com.weshare.api.v1.service.schedule.query.dto.SchedulePageDto;
+import com.weshare.api.v1.service.schedule.query.dto.SchedulePageFetchResult;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleSuggestionDto;
 import com.weshare.api.v1.service.schedule.query.dto.UserScheduleDto;
+import com.weshare.api.v1.service.schedule.search.ScheduleSuggestIndex;
+import com.weshare.api.v1.service.schedule.search.ScheduleTitleIndex;
+import com.weshare.api.v1.service.schedule.search.ScheduleTitleSearcher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -31,18 +56,146 @@ public class ScheduleQueryService {
     private final SchedulePageQueryRepository pageQueryRepository;
     private final ScheduleQueryRepository scheduleQueryRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleCardRepository scheduleCardRepository;
+    private final ScheduleFeedProperties scheduleFeedProperties;
+    private final SerialSchedulePageFetcher serialSchedulePageFetcher;
+    private final ConcurrentSchedulePageFetcher concurrentSchedulePageFetcher;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+    private final ScheduleTitleIndex scheduleTitleIndex;
+    private final ScheduleTitleSearcher scheduleTitleSearcher;
+    private final ScheduleSuggestIndex scheduleSuggestIndex;
+    private final ScheduleFacetIndex scheduleFacetIndex;
+    private final ScheduleFacetSearcher scheduleFacetSearcher;
+    private final ScheduleTrendingRepository scheduleTrendingRepository;
+    private final ScheduleDetailCache scheduleDetailCache;
 
     public Page<SchedulePageDto> getSchedulePage(ScheduleFilterPageDto scheduleFilterPageDto) {
 
         ScheduleConditionPageDto scheduleConditionPageDto = getScheduleConditionPageDto(scheduleFilterPageDto);
-        final Page<Schedule> schedulePage = pageQueryRepository.findSchedulePage(scheduleConditionPageDto);
+        // 좋아요, 댓글, 경비 정렬은 정렬 컬럼 인덱스가 있는 schedule_card 에서만 조회한다.
+        if (isStatisticsSort(scheduleConditionPageDto)) {
+            return getScheduleCardPage(scheduleConditionPageDto);
+        }
+        if (scheduleSearchProperties.isFacetIndex() && scheduleFacetIndex.isReady()) {
+            final Optional<Page<Schedule>> schedulePage = scheduleFacetSearcher.search(scheduleConditionPageDto);
+            if (schedulePage.isPresent()) {
+                return getScheduleFacetPage(schedulePage.get(), scheduleConditionPageDto);
+            }
+        }
+        if (scheduleFeedProperties.isCardReadModel()) {
+            return getScheduleCardPage(scheduleConditionPageDto);
+        }
+        final SchedulePageFetchResult fetchResult = getSchedulePageFetcher().fetchSchedulePage(scheduleConditionPageDto);
+
+        return fetchResult.schedulePage()
+                .map(s -> convertSchedulePageDto(s, fetchResult.statisticsDetailsScheduleIdMap(), fetchResult.likedSchedulesMap()));
+    }
+
+    private SchedulePageFetcher getSchedulePageFetcher() {
+        if (scheduleFeedProperties.isConcurrentFetch()) {
+            return concurrentSchedulePageFetcher;
+        }
+        return serialSchedulePageFetcher;
+    }
+
+    private Page<SchedulePageDto> getScheduleCardPage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final Page<ScheduleCard> scheduleCardPage = scheduleCardRepository.findScheduleCardPage(scheduleConditionPageDto);
+        final List<Long> scheduleIds = scheduleCardPage.getContent().stream()
+                .map(ScheduleCard::getScheduleId)
+                .toList();
+
+        final Map<Long, Boolean> likedSchedulesMap = pageQueryRepository.findLikedSchedulesMap(scheduleIds, scheduleConditionPageDto.getUserId());
+        return scheduleCardPage.map(c -> convertSchedulePageDto(c, likedSchedulesMap));
+    }
+
+    private Page<SchedulePageDto> getScheduleFacetPage(Page<Schedule> schedulePage, ScheduleConditionPageDto scheduleConditionPageDto) {
         final List<Long> scheduleIds = getScheduleIds(schedulePage);
 
         final Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap = pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds);
         final Map<Long, Boolean> likedSchedulesMap = pageQueryRepository.findLikedSchedulesMap(scheduleIds, scheduleConditionPageDto.getUserId());
-
         return schedulePage.map(s -> convertSchedulePageDto(s, statisticsDetailsScheduleIdMap, likedSchedulesMap));
     }
+
+    // 색인이 준비되지 않았으면 DB 로 넘기지 않고 빈 개수를 반환한다.
+    public ScheduleFacetCounts getScheduleFacets(ScheduleFilterPageDto scheduleFilterPageDto) {
+        if (!scheduleSearchProperties.isFacetIndex() || !scheduleFacetIndex.isReady()) {
+            return ScheduleFacetCounts.empty();
+        }
+        final ScheduleConditionPageDto scheduleConditionPageDto = getScheduleConditionPageDto(scheduleFilterPageDto);
+        return scheduleFacetIndex.facetCounts(ScheduleFacetQuery.from(scheduleConditionPageDto));
+    }
+
+    /**
+     * 인기 순서는 Redis sorted set 에서 읽고, 해당 페이지의 여행일정만 pk 로 조회한다.
+     */
+    public Page<SchedulePageDto> getTrendingSchedulePage(Long userId, Pageable pageable) {
+        final List<Long> trendingIds = scheduleTrendingRepository.findScheduleIds(pageable.getOffset(), pageable.getPageSize());
+        final List<Schedule> schedules = pageQueryRepository.findSchedulesByIds(trendingIds);
+        final List<Long> scheduleIds = schedules.stream()
+                .map(Schedule::getId)
+                .toList();
+        // 회원 탈퇴 등으로 이미 지워진 여행일정은 순위에서도 지운다.
+        if (scheduleIds.size() != trendingIds.size()) {
+            scheduleTrendingRepository.remove(trendingIds.stream().filter(id -> !scheduleIds.contains(id)).toList());
+        }
+
+        final Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap = pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds);
+        final Map<Long, Boolean> likedSchedulesMap = pageQueryRepository.findLikedSchedulesMap(scheduleIds, userId);
+        final List<SchedulePageDto> content = schedules.stream()
+                .map(s -> convertSchedulePageDto(s, statisticsDetailsScheduleIdMap, likedSchedulesMap))
+                .toList();
+        return new PageImpl<>(content, pageable, scheduleTrendingRepository.count());
+    }
+
+    public CursorPageDto<SchedulePageDto> getScheduleCursorPage(ScheduleFilterPageDto scheduleFilterPageDto) {
+        final ScheduleConditionPageDto scheduleConditionPageDto = getScheduleConditionPageDto(scheduleFilterPageDto);
+        if (isStatisticsSort(scheduleConditionPageDto)) {
+            return getScheduleCardCursorPage(scheduleConditionPageDto);
+        }
+        final Slice<Schedule> scheduleSlice = pageQueryRepository.findScheduleCursorPage(scheduleConditionPageDto);
+        final List<Long> scheduleIds = getScheduleIds(scheduleSlice);
+
+        final Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap = pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds);
+        final Map<Long, Boolean> likedSchedulesMap = pageQueryRepository.findLikedSchedulesMap(scheduleIds, scheduleConditionPageDto.getUserId());
+
+        final List<SchedulePageDto> content = scheduleSlice.getContent().stream()
+                .map(s -> convertSchedulePageDto(s, statisticsDetailsScheduleIdMap, likedSchedulesMap))
+                .toList();
+        return CursorPageDto.of(content, getNextCursor(scheduleSlice, scheduleConditionPageDto));
+    }
+
+    private CursorPageDto<SchedulePageDto> getScheduleCardCursorPage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final Slice<ScheduleCard> scheduleCardSlice = scheduleCardRepository.findScheduleCardCursorPage(scheduleConditionPageDto);
+        final List<Long> scheduleIds = scheduleCardSlice.getContent().stream()
+                .map(ScheduleCard::getScheduleId)
+                .toList();
+
+        final Map<Long, Boolean> likedSchedulesMap = pageQueryRepository.findLikedSchedulesMap(scheduleIds, scheduleConditionPageDto.getUserId());
+        final List<SchedulePageDto> content = scheduleCardSlice.getContent().stream()
+                .map(c -> convertSchedulePageDto(c, likedSchedulesMap))
+                .toList();
+
+        String nextCursor = null;
+        if (scheduleCardSlice.hasNext()) {
+            final ScheduleCard lastScheduleCard = scheduleCardSlice.getContent().get(scheduleCardSlice.getNumberOfElements() - 1);
+            nextCursor = ScheduleCursor.of(scheduleConditionPageDto.getCursorOrder(), lastScheduleCard).encode();
+        }
+        return CursorPageDto.of(content, nextCursor);
+    }
+
+    private boolean isStatisticsSort(ScheduleConditionPageDto scheduleConditionPageDto) {
+        return ScheduleOrderSpecifierHelper.isStatisticsSort(scheduleConditionPageDto.getPageable().getSort());
+    }
+
+    private String getNextCursor(Slice<Schedule> scheduleSlice, ScheduleConditionPageDto scheduleConditionPageDto) {
+        if (!scheduleSlice.hasNext()) {
+            return null;
+        }
+        final List<Schedule> content = scheduleSlice.getContent();
+        final Schedule lastSchedule = content.get(content.size() - 1);
+        return ScheduleCursor.of(scheduleConditionPageDto.getCursorOrder(), lastSchedule).encode();
+    }
+
     private ScheduleConditionPageDto getScheduleConditionPageDto(ScheduleFilterPageDto scheduleFilterPageDto) {
         final List<Destination> destinations = getDestinations(scheduleFilterPageDto.getDestinations());
         ExpenseCondition expenseCondition = ExpenseCondition.convert(scheduleFilterPageDto.getExpenseCondition());
@@ -51,10 +204,20 @@ public class ScheduleQueryService {
                 .userId(scheduleFilterPageDto.getUserId())
                 .destinations(destinations)
                 .expenseCondition(expenseCondition)
+                .tripDateCondition(new TripDateCondition(scheduleFilterPageDto.getStartDateFrom(), scheduleFilterPageDto.getStartDateTo()))
+                .durationCondition(DurationCondition.convert(scheduleFilterPageDto.getDurationCondition()))
                 .pageable(scheduleFilterPageDto.getPageable())
+                .cursor(getCursor(scheduleFilterPageDto.getCursor()))
                 .build();
     }
 
+    private ScheduleCursor getCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        return ScheduleCursor.decode(cursor);
+    }
+
     private List<Destination> getDestinations(Set<String> destinations) {
         if (destinations == null || destinations.isEmpty()) {
             return List.of(Destination.EMPTY);
@@ -64,7 +227,7 @@ public class ScheduleQueryService {
                 .toList();
     }
 
-    private List<Long> getScheduleIds(Page<Schedule> schedulePage) {
+    private List<Long> getScheduleIds(Slice<Schedule> schedulePage) {
         return schedulePage.getContent().stream()
                 .map(Schedule::getId)
                 .toList();
@@ -94,17 +257,32 @@ public class ScheduleQueryService {
                 .build();
     }
 
+    private SchedulePageDto convertSchedulePageDto(ScheduleCard scheduleCard, Map<Long, Boolean> likedSchedulesMap) {
+        return SchedulePageDto.builder()
+                .scheduleId(scheduleCard.getScheduleId())
+                .title(scheduleCard.getTitle())
+                .destination(scheduleCard.getDestination())
+                .expense(scheduleCard.getTotalExpense())
+                .userName(scheduleCard.getUserName())
+                .likesCount(scheduleCard.getLikeCount())
+                .commentsCount(scheduleCard.getCommentCount())
+                .viewCount(scheduleCard.getViewCount())
+                .startDate(scheduleCard.getStartDate())
+                .endDate(scheduleCard.getEndDate())
+                .createdDate(LocalDate.from(scheduleCard.getCreatedDate()))
+                .isLiked(likedSchedulesMap.get(scheduleCard.getScheduleId()))
+                .build();
+    }
+
     public ScheduleDetailDto getScheduleDetails(FindScheduleDetailDto findScheduleDetailDto) {
         final Long scheduleId = findScheduleDetailDto.getScheduleId();
         if (scheduleId == null) {
             throw new IllegalArgumentException("게시물에 접근할 수 없습니다.");
         }
 
-        final Schedule scheduleDetail = scheduleQueryRepository.findScheduleDetailById(scheduleId)
+        ScheduleDetailDto scheduleDetailDto = scheduleQueryRepository.findScheduleDetailDtoById(scheduleId)
                 .orElseThrow(ScheduleNotFoundException::new);
 
-        ScheduleDetailDto scheduleDetailDto = ScheduleDetailDto.from(scheduleDetail);
-
         Optional<Long> userId = findScheduleDetailDto.getUserId();
         userId.ifPresent(id -> {
             boolean isLiked = pageQueryRepository.existsLikeByUserAndScheduleId(scheduleId, id);
@@ -113,6 +291,33 @@ public class ScheduleQueryService {
         return scheduleDetailDto;
     }
 
+    // 여행일정 삭제, 회원 탈퇴 때 캐시를 지우므로 캐시에 본문 해시가 있으면 DB 를 조회하지 않고 ETag 를 만든다.
+    public Optional<String> findScheduleDetailETag(FindScheduleDetailDto findScheduleDetailDto) {
+        return scheduleDetailCache.findContentHash(findScheduleDetailDto.getScheduleId())
+                .map(ScheduleDetailResponse::eTagOf);
+    }
+
+    // 조회수 조회가 존재 확인을 겸하므로 회원 탈퇴로 지워진 일정은 캐시가 남아 있어도 찾을 수 없다.
+    public ScheduleDetailResponse getScheduleDetailResponse(FindScheduleDetailDto findScheduleDetailDto) {
+        final Long scheduleId = findScheduleDetailDto.getScheduleId();
+        if (scheduleId == null) {
+            throw new IllegalArgumentException("게시물에 접근할 수 없습니다.");
+        }
+
+        final int viewCount = scheduleRepository.findViewCountById(scheduleId)
+                .orElseThrow(ScheduleNotFoundException::new);
+        final ScheduleDetailBody body = scheduleDetailCache.get(scheduleId, id -> scheduleQueryRepository.findScheduleDetailDtoById(id)
+                .orElseThrow(ScheduleNotFoundException::new));
+
+        return new ScheduleDetailResponse(viewCount, isLikedSchedule(findScheduleDetailDto), body);
+    }
+
+    private boolean isLikedSchedule(FindScheduleDetailDto findScheduleDetailDto) {
+        return findScheduleDetailDto.getUserId()
+                .map(id -> pageQueryRepository.existsLikeByUserAndScheduleId(findScheduleDetailDto.getScheduleId(), id))
+                .orElse(false);
+    }
+
     public List<UserScheduleDto> findAllScheduleByUserId(Long userId) {
         List<Schedule> findSchedules = scheduleRepository.findByUserId(userId);
         return findSchedules.stream()
@@ -125,7 +330,19 @@ public class ScheduleQueryService {
     }
 
     public Page<SearchScheduleDto> searchSchedule(ScheduleSearchCondition searchCondition) {
-        final Page<Schedule> searchSchedule = pageQueryRepository.searchSchedulePage(searchCondition);
+        if (scheduleSearchProperties.isTitleIndex() && scheduleTitleIndex.isReady()) {
+            final Optional<Page<Schedule>> searchSchedule = scheduleTitleSearcher.search(searchCondition);
+            if (searchSchedule.isPresent()) {
+                return searchScheduleByTitleIndex(searchSchedule.get(), searchCondition);
+            }
+        }
+        final SchedulePageFetchResult fetchResult = getSchedulePageFetcher().fetchSearchPage(searchCondition);
+
+        return fetchResult.schedulePage()
+                .map(s -> convertSearchScheduleDto(s, fetchResult.statisticsDetailsScheduleIdMap(), fetchResult.likedSchedulesMap()));
+    }
+
+    private Page<SearchScheduleDto> searchScheduleByTitleIndex(Page<Schedule> searchSchedule, ScheduleSearchCondition searchCondition) {
         final List<Long> scheduleIds = getScheduleIds(searchSchedule);
 
         final Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap = pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds);
@@ -156,4 +373,12 @@ public class ScheduleQueryService {
                 .isLiked(likedSchedulesMap.get(scheduleId))
                 .build();
     }
+
+    // 색인이 준비되지 않았으면 DB 로 넘기지 않고 빈 목록을 반환한다.
+    public List<ScheduleSuggestionDto> suggestSchedule(String query, int size) {
+        if (!scheduleSearchProperties.isSuggest() || !scheduleSuggestIndex.isReady()) {
+            return List.of();
+        }
+        return scheduleSuggestIndex.suggest(query, size);
+    }
 }
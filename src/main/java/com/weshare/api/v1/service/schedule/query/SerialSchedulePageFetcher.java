@@ -0,0 +1,42 @@
+package com.weshare.api.v1.service.schedule.query;
+
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.service.schedule.query.dto.SchedulePageFetchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class SerialSchedulePageFetcher implements SchedulePageFetcher {
+
+    private final SchedulePageQueryRepository pageQueryRepository;
+
+    @Override
+    public SchedulePageFetchResult fetchSchedulePage(ScheduleConditionPageDto scheduleConditionPageDto) {
+        final Page<Schedule> schedulePage = pageQueryRepository.findSchedulePage(scheduleConditionPageDto);
+        return fetchDetails(schedulePage, scheduleConditionPageDto.getUserId());
+    }
+
+    @Override
+    public SchedulePageFetchResult fetchSearchPage(ScheduleSearchCondition searchCondition) {
+        final Page<Schedule> schedulePage = pageQueryRepository.searchSchedulePage(searchCondition);
+        return fetchDetails(schedulePage, searchCondition.userId());
+    }
+
+    private SchedulePageFetchResult fetchDetails(Page<Schedule> schedulePage, Long userId) {
+        final List<Long> scheduleIds = schedulePage.getContent().stream()
+                .map(Schedule::getId)
+                .toList();
+
+        final Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap = pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds);
+        final Map<Long, Boolean> likedSchedulesMap = pageQueryRepository.findLikedSchedulesMap(scheduleIds, userId);
+        return new SchedulePageFetchResult(schedulePage, statisticsDetailsScheduleIdMap, likedSchedulesMap);
+    }
+}
@@ -0,0 +1,13 @@
+package com.weshare.api.v1.service.schedule.query.dto;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+        List<T> content,
+        String next,
+        boolean hasNext
+) {
+    public static <T> CursorPageDto<T> of(List<T> content, String next) {
+        return new CursorPageDto<>(content, next, next != null);
+    }
+}
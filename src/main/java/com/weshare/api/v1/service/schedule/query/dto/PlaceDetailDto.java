@@ -12,6 +12,8 @@ import java.time.LocalTime;
 @Getter
 @NoArgsConstructor
 public class PlaceDetailDto {
+    // 수정 요청에 다시 보내서 기존 장소를 찾는 데 쓴다.
+    private Long placeId;
     private String title;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "hh:mm a", timezone = "Asia/Seoul", locale = "en_US")
     private LocalTime time;
@@ -21,7 +23,8 @@ public class PlaceDetailDto {
     private Double longitude;
 
     @Builder(access = AccessLevel.PRIVATE)
-    private PlaceDetailDto(String title, LocalTime time, String memo, Expense expense, Location location) {
+    private PlaceDetailDto(Long placeId, String title, LocalTime time, String memo, Expense expense, Location location) {
+        this.placeId = placeId;
         this.title = title;
         this.time = time;
         this.memo = memo;
@@ -30,8 +33,23 @@ public class PlaceDetailDto {
         this.longitude = location.getLongitude();
     }
 
+    private PlaceDetailDto(Long placeId, String title, LocalTime time, String memo, long expense, Double latitude, Double longitude) {
+        this.placeId = placeId;
+        this.title = title;
+        this.time = time;
+        this.memo = memo;
+        this.expense = expense;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static PlaceDetailDto of(Long placeId, String title, LocalTime time, String memo, long expense, Double latitude, Double longitude) {
+        return new PlaceDetailDto(placeId, title, time, memo, expense, latitude, longitude);
+    }
+
     public static PlaceDetailDto from(Place place) {
         return PlaceDetailDto.builder()
+                .placeId(place.getId())
                 .title(place.getTitle())
                 .time(place.getTime())
                 .memo(place.getMemo())
@@ -0,0 +1,45 @@
+package com.weshare.api.v1.service.schedule.query.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 조회수, 좋아요 여부를 뺀 여행일정 상세 JSON 과 그 내용의 해시.
+ * 캐시에서 여러 요청이 같이 읽으므로 json 배열은 수정하지 않는다.
+ */
+public final class ScheduleDetailBody {
+    private final byte[] json;
+    private final String contentHash;
+
+    private ScheduleDetailBody(byte[] json, String contentHash) {
+        this.json = json;
+        this.contentHash = contentHash;
+    }
+
+    // 일정, 날짜, 장소 중 어느 것이 바뀌어도 내용이 바뀌므로 수정 시각 대신 내용 해시를 쓴다.
+    public static ScheduleDetailBody of(byte[] json) {
+        if (json.length < 2 || json[0] != '{') {
+            throw new IllegalArgumentException("여행일정 상세 JSON 객체가 아닙니다.");
+        }
+        return new ScheduleDetailBody(json, DigestUtils.md5DigestAsHex(json));
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public byte[] toByteArray() {
+        return json.clone();
+    }
+
+    // 여는 중괄호를 뺀 필드와 닫는 중괄호를 복사 없이 그대로 쓴다.
+    void writeFieldsTo(OutputStream outputStream) throws IOException {
+        outputStream.write(json, 1, json.length - 1);
+    }
+
+    int fieldsLength() {
+        return json.length - 1;
+    }
+}
@@ -1,6 +1,7 @@
 package com.weshare.api.v1.service.schedule.query.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.weshare.api.v1.domain.schedule.Destination;
 import com.weshare.api.v1.domain.schedule.Schedule;
 import lombok.*;
 
@@ -64,6 +65,31 @@ public class ScheduleDetailDto {
                 .build();
     }
 
+    // 엔티티를 거치지 않고 조회 결과로 바로 만든다.
+    public static ScheduleDetailDto of(
+            Long scheduleId,
+            String title,
+            Destination destination,
+            String userName,
+            int viewCount,
+            LocalDateTime createdDate,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<DayDetailDto> dayDetail
+    ) {
+        return ScheduleDetailDto.builder()
+                .scheduleId(scheduleId)
+                .title(title)
+                .destination(destination.getName())
+                .username(userName)
+                .viewCount(viewCount)
+                .startDate(startDate)
+                .endDate(endDate)
+                .dayDetail(dayDetail)
+                .createdDate(createdDate)
+                .build();
+    }
+
     private static List<DayDetailDto> createDayDetails(Schedule schedule) {
         return schedule.getDays().stream()
                 .map(DayDetailDto::from)
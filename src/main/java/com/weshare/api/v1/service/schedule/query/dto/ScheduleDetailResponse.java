@@ -0,0 +1,45 @@
+package com.weshare.api.v1.service.schedule.query.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response.success 와 같은 형태의 여행일정 상세 응답.
+ * 요청마다 달라지는 조회수, 좋아요 여부만 앞에 붙이고 캐시된 본문은 다시 직렬화하지 않는다.
+ */
+public final class ScheduleDetailResponse {
+    private static final String PREFIX_FORMAT = "{\"state\":200,\"data\":{\"liked\":%b,\"viewCount\":%d,";
+    private static final byte[] SUFFIX = ",\"message\":null}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] prefix;
+    private final ScheduleDetailBody body;
+
+    public ScheduleDetailResponse(int viewCount, boolean isLiked, ScheduleDetailBody body) {
+        this.prefix = String.format(PREFIX_FORMAT, isLiked, viewCount).getBytes(StandardCharsets.UTF_8);
+        this.body = body;
+    }
+
+    /**
+     * 캐시된 본문 해시만으로 만든 ETag, 304 를 DB 조회 없이 판단할 수 있다.
+     * 조회수, 좋아요 여부는 넣지 않으므로 같은 ETag 라도 두 값은 다를 수 있어서 약한 ETag 로 쓴다.
+     * 좋아요 여부는 클라이언트가 좋아요 API 응답으로 갱신한다.
+     */
+    public static String eTagOf(String contentHash) {
+        return "W/\"" + contentHash + "\"";
+    }
+
+    public String getETag() {
+        return eTagOf(body.getContentHash());
+    }
+
+    public long contentLength() {
+        return prefix.length + body.fieldsLength() + SUFFIX.length;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(prefix);
+        body.writeFieldsTo(outputStream);
+        outputStream.write(SUFFIX);
+    }
+}
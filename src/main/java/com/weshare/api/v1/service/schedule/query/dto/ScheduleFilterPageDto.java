@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.Set;
 
 @Getter
@@ -11,13 +12,30 @@ public class ScheduleFilterPageDto {
     private final Long userId;
     private final String expenseCondition;
     private final Set<String> destinations;
+    private final LocalDate startDateFrom;
+    private final LocalDate startDateTo;
+    private final String durationCondition;
     private final Pageable pageable;
+    private final String cursor;
 
     @Builder
-    private ScheduleFilterPageDto(Long userId, String expenseCondition, Set<String> destinations, Pageable pageable) {
+    private ScheduleFilterPageDto(
+            Long userId,
+            String expenseCondition,
+            Set<String> destinations,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            String durationCondition,
+            Pageable pageable,
+            String cursor
+    ) {
         this.userId = userId;
         this.expenseCondition = expenseCondition;
         this.destinations = destinations;
+        this.startDateFrom = startDateFrom;
+        this.startDateTo = startDateTo;
+        this.durationCondition = durationCondition;
         this.pageable = pageable;
+        this.cursor = cursor;
     }
 }
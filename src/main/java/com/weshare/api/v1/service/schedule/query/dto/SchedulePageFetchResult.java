@@ -0,0 +1,14 @@
+package com.weshare.api.v1.service.schedule.query.dto;
+
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+public record SchedulePageFetchResult(
+        Page<Schedule> schedulePage,
+        Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap,
+        Map<Long, Boolean> likedSchedulesMap
+) {
+}
@@ -0,0 +1,11 @@
+package com.weshare.api.v1.service.schedule.query.dto;
+
+public record ScheduleSuggestionDto(
+        String text,
+        Type type
+) {
+    public enum Type {
+        TITLE,
+        DESTINATION
+    }
+}
@@ -0,0 +1,61 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import java.util.Map;
+
+import static java.util.Map.entry;
+
+/**
+ * 한글 음절을 자모 단위로 분해한다. 입력 중인 글자("젲", "제ㅈ")도 완성된 제목("제주")의 접두어가 되도록
+ * 겹모음, 겹받침까지 낱자로 나눈다.
+ */
+final class HangulJamo {
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            entry('ㅘ', "ㅗㅏ"), entry('ㅙ', "ㅗㅐ"), entry('ㅚ', "ㅗㅣ"),
+            entry('ㅝ', "ㅜㅓ"), entry('ㅞ', "ㅜㅔ"), entry('ㅟ', "ㅜㅣ"), entry('ㅢ', "ㅡㅣ"),
+            entry('ㄳ', "ㄱㅅ"), entry('ㄵ', "ㄴㅈ"), entry('ㄶ', "ㄴㅎ"), entry('ㄺ', "ㄹㄱ"),
+            entry('ㄻ', "ㄹㅁ"), entry('ㄼ', "ㄹㅂ"), entry('ㄽ', "ㄹㅅ"), entry('ㄾ', "ㄹㅌ"),
+            entry('ㄿ', "ㄹㅍ"), entry('ㅀ', "ㄹㅎ"), entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    static String decompose(String text) {
+        final StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+                appendJamo(sb, c);
+                continue;
+            }
+            final int index = c - SYLLABLE_BEGIN;
+            final int choseong = index / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+            final int jungseong = (index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT;
+            final int jongseong = index % JONGSEONG_COUNT;
+
+            sb.append(CHOSEONG.charAt(choseong));
+            appendJamo(sb, JUNGSEONG.charAt(jungseong));
+            if (jongseong > 0) {
+                appendJamo(sb, JONGSEONG.charAt(jongseong - 1));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        final String compound = COMPOUND_JAMO.get(jamo);
+        if (compound == null) {
+            sb.append(jamo);
+            return;
+        }
+        sb.append(compound);
+    }
+}
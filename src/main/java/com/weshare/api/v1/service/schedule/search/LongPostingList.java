@@ -0,0 +1,68 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 schedule_id 목록, 박싱 없이 long 배열로 유지한다.
+ */
+class LongPostingList {
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private long[] ids = new long[DEFAULT_CAPACITY];
+    private int size;
+
+    void add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -(index + 1);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    // 두 정렬된 목록의 교집합을 병합 방식으로 구한다.
+    static long[] intersect(long[] left, LongPostingList right) {
+        long[] result = new long[Math.min(left.length, right.size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.size) {
+            if (left[i] == right.ids[j]) {
+                result[count++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right.ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,69 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleSearchIndexLoader {
+
+    private final ScheduleTitleIndex scheduleTitleIndex;
+    private final ScheduleSuggestIndex scheduleSuggestIndex;
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    // 이벤트 멀티캐스터가 비동기라 서버 기동을 막지 않고 백그라운드에서 적재된다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final boolean titleIndex = scheduleSearchProperties.isTitleIndex();
+        final boolean suggest = scheduleSearchProperties.isSuggest();
+        if (!titleIndex && !suggest) {
+            return;
+        }
+        final int chunkSize = scheduleSearchProperties.getIndexLoadChunkSize();
+        Long lastScheduleId = null;
+        while (true) {
+            final List<ScheduleTitleDto> scheduleTitles = pageQueryRepository.findScheduleTitles(lastScheduleId, chunkSize);
+            if (titleIndex) {
+                scheduleTitles.forEach(scheduleTitleIndex::addIfAbsent);
+            }
+            if (suggest) {
+                loadSuggestIndex(scheduleTitles);
+            }
+            if (scheduleTitles.size() < chunkSize) {
+                break;
+            }
+            lastScheduleId = scheduleTitles.get(scheduleTitles.size() - 1).scheduleId();
+        }
+        if (titleIndex) {
+            scheduleTitleIndex.markReady();
+            log.info("여행일정 제목 색인 적재 완료, 건수 = {}", scheduleTitleIndex.size());
+        }
+        if (suggest) {
+            scheduleSuggestIndex.markReady();
+            log.info("여행일정 자동완성 색인 적재 완료, 건수 = {}", scheduleSuggestIndex.size());
+        }
+    }
+
+    private void loadSuggestIndex(List<ScheduleTitleDto> scheduleTitles) {
+        final List<Long> scheduleIds = scheduleTitles.stream()
+                .map(ScheduleTitleDto::scheduleId)
+                .toList();
+        final Map<Long, StatisticsScheduleDetails> statisticsDetailsScheduleIdMap = pageQueryRepository.findStatisticsDetailsScheduleIdMap(scheduleIds);
+        scheduleTitles.forEach(t -> scheduleSuggestIndex.addIfAbsent(
+                t,
+                ScheduleSuggestIndex.popularity(statisticsDetailsScheduleIdMap.get(t.scheduleId()))
+        ));
+    }
+}
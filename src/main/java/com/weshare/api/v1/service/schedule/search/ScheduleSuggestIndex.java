@@ -0,0 +1,208 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleSuggestionDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 제목, 여행지 자동완성 색인, 인기도(좋아요, 조회수) 순으로 접두어가 일치하는 상위 K개를 반환한다.
+ * 같은 제목을 가진 여행일정이 여러개면 인기도를 합산해서 하나의 후보로 노출한다.
+ */
+@Component
+public class ScheduleSuggestIndex {
+    public static final long LIKE_WEIGHT = 10L;
+    public static final long VIEW_WEIGHT = 1L;
+
+    private final SuggestionTable titles = new SuggestionTable(ScheduleSuggestionDto.Type.TITLE);
+    private final SuggestionTable destinations = new SuggestionTable(ScheduleSuggestionDto.Type.DESTINATION);
+    private final Map<Long, IndexedSchedule> schedules = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public static long popularity(StatisticsScheduleDetails statisticsScheduleDetails) {
+        return statisticsScheduleDetails.getTotalLikeCount() * LIKE_WEIGHT
+                + statisticsScheduleDetails.getTotalViewCount() * VIEW_WEIGHT;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return schedules.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 적재 도중 이벤트로 먼저 들어온 값은 덮어쓰지 않는다.
+    public void addIfAbsent(ScheduleTitleDto scheduleTitle, long popularity) {
+        lock.writeLock().lock();
+        try {
+            if (!schedules.containsKey(scheduleTitle.scheduleId())) {
+                addInternal(new IndexedSchedule(scheduleTitle, popularity));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 제목, 여행지가 바뀌어도 쌓인 인기도는 유지한다.
+    public void upsert(ScheduleTitleDto scheduleTitle) {
+        lock.writeLock().lock();
+        try {
+            final IndexedSchedule previous = removeInternal(scheduleTitle.scheduleId());
+            final long popularity = previous == null ? 0L : previous.popularity();
+            addInternal(new IndexedSchedule(scheduleTitle, popularity));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addPopularity(Long scheduleId, long delta) {
+        lock.writeLock().lock();
+        try {
+            final IndexedSchedule previous = schedules.get(scheduleId);
+            if (previous == null) {
+                return;
+            }
+            schedules.put(scheduleId, new IndexedSchedule(previous.scheduleTitle(), previous.popularity() + delta));
+            titles.add(previous.scheduleTitle().title(), delta, 0);
+            destinations.add(destinationName(previous), delta, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(scheduleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByUserId(Long userId) {
+        lock.writeLock().lock();
+        try {
+            final List<Long> scheduleIds = schedules.values().stream()
+                    .filter(s -> userId.equals(s.scheduleTitle().userId()))
+                    .map(s -> s.scheduleTitle().scheduleId())
+                    .toList();
+            scheduleIds.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ScheduleSuggestionDto> suggest(String query, int size) {
+        final String prefix = SuggestionTable.toKey(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return Stream.concat(titles.top(prefix, size).stream(), destinations.top(prefix, size).stream())
+                    .sorted(Comparator.comparingLong(Term::weight).reversed())
+                    .limit(size)
+                    .map(Term::suggestion)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(IndexedSchedule indexedSchedule) {
+        schedules.put(indexedSchedule.scheduleTitle().scheduleId(), indexedSchedule);
+        titles.add(indexedSchedule.scheduleTitle().title(), indexedSchedule.popularity(), 1);
+        destinations.add(destinationName(indexedSchedule), indexedSchedule.popularity(), 1);
+    }
+
+    private IndexedSchedule removeInternal(Long scheduleId) {
+        final IndexedSchedule previous = schedules.remove(scheduleId);
+        if (previous == null) {
+            return null;
+        }
+        titles.add(previous.scheduleTitle().title(), -previous.popularity(), -1);
+        destinations.add(destinationName(previous), -previous.popularity(), -1);
+        return previous;
+    }
+
+    private String destinationName(IndexedSchedule indexedSchedule) {
+        final Destination destination = indexedSchedule.scheduleTitle().destination();
+        return destination == null ? null : destination.getName();
+    }
+
+    private record IndexedSchedule(ScheduleTitleDto scheduleTitle, long popularity) {
+    }
+
+    private static final class Term {
+        private final ScheduleSuggestionDto suggestion;
+        private int scheduleCount;
+        private long weight;
+
+        private Term(ScheduleSuggestionDto suggestion) {
+            this.suggestion = suggestion;
+        }
+
+        private ScheduleSuggestionDto suggestion() {
+            return suggestion;
+        }
+
+        private long weight() {
+            return weight;
+        }
+    }
+
+    private static final class SuggestionTable {
+        private final SuggestionTrie<Term> trie = new SuggestionTrie<>();
+        private final Map<String, Term> terms = new HashMap<>();
+        private final ScheduleSuggestionDto.Type type;
+
+        private SuggestionTable(ScheduleSuggestionDto.Type type) {
+            this.type = type;
+        }
+
+        private static String toKey(String text) {
+            return text == null ? "" : HangulJamo.decompose(text.trim().toLowerCase(Locale.ROOT));
+        }
+
+        private void add(String text, long popularityDelta, int scheduleCountDelta) {
+            final String key = toKey(text);
+            if (key.isEmpty()) {
+                return;
+            }
+            final Term term = terms.computeIfAbsent(key, k -> new Term(new ScheduleSuggestionDto(text.trim(), type)));
+            term.scheduleCount += scheduleCountDelta;
+            term.weight += popularityDelta;
+            if (term.scheduleCount <= 0) {
+                terms.remove(key);
+                trie.remove(key);
+                return;
+            }
+            trie.put(key, term, term.weight);
+        }
+
+        private List<Term> top(String prefix, int size) {
+            return trie.top(prefix, size);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여행일정 제목 n-gram 역색인, 제목 검색시 테이블을 스캔하지 않고 일치하는 schedule_id 를 찾는다.
+ * 시작시 한번 전체를 적재하고 이후에는 여행일정 이벤트로 갱신한다.
+ */
+@Component
+public class ScheduleTitleIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+    private final Map<Long, ScheduleTitleDto> titles = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /*
+     * DB 검색은 title like '%검색어%' 라서 빈 검색어는 전체를, %, _ 는 와일드카드로 찾는다.
+     * 색인은 이 둘을 같은 결과로 찾을 수 없으므로 DB 검색으로 넘긴다.
+     */
+    public boolean canSearch(String query) {
+        final String normalizedQuery = TitleGrams.normalize(query);
+        return !normalizedQuery.isEmpty()
+                && normalizedQuery.indexOf('%') < 0
+                && normalizedQuery.indexOf('_') < 0;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsert(ScheduleTitleDto scheduleTitle) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(scheduleTitle.scheduleId());
+            addInternal(scheduleTitle);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 적재 도중 이벤트로 먼저 들어온 값은 덮어쓰지 않는다.
+    public void addIfAbsent(ScheduleTitleDto scheduleTitle) {
+        lock.writeLock().lock();
+        try {
+            if (!titles.containsKey(scheduleTitle.scheduleId())) {
+                addInternal(scheduleTitle);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(scheduleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByUserId(Long userId) {
+        lock.writeLock().lock();
+        try {
+            final List<Long> scheduleIds = titles.values().stream()
+                    .filter(t -> userId.equals(t.userId()))
+                    .map(ScheduleTitleDto::scheduleId)
+                    .toList();
+            scheduleIds.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 제목의 schedule_id 를 오름차순으로 반환한다.
+     * bigram 교집합은 후보일 뿐이라 원본 제목으로 한번 더 확인한다.
+     */
+    public long[] search(String query) {
+        final String normalizedQuery = TitleGrams.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            final List<LongPostingList> lists = TitleGrams.queryGrams(normalizedQuery).stream()
+                    .map(postings::get)
+                    .toList();
+            if (lists.stream().anyMatch(list -> list == null || list.isEmpty())) {
+                return EMPTY;
+            }
+            final List<LongPostingList> sorted = lists.stream()
+                    .sorted(Comparator.comparingInt(LongPostingList::size))
+                    .toList();
+
+            long[] candidates = sorted.get(0).toArray();
+            for (int i = 1; i < sorted.size() && candidates.length > 0; i++) {
+                candidates = LongPostingList.intersect(candidates, sorted.get(i));
+            }
+            return Arrays.stream(candidates)
+                    .filter(id -> TitleGrams.normalize(titles.get(id).title()).contains(normalizedQuery))
+                    .toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(ScheduleTitleDto scheduleTitle) {
+        final long scheduleId = scheduleTitle.scheduleId();
+        titles.put(scheduleId, scheduleTitle);
+        for (Long gram : TitleGrams.indexGrams(TitleGrams.normalize(scheduleTitle.title()))) {
+            postings.computeIfAbsent(gram, g -> new LongPostingList()).add(scheduleId);
+        }
+    }
+
+    private void removeInternal(Long scheduleId) {
+        final ScheduleTitleDto previous = titles.remove(scheduleId);
+        if (previous == null) {
+            return;
+        }
+        final Set<Long> grams = TitleGrams.indexGrams(TitleGrams.normalize(previous.title()));
+        for (Long gram : grams) {
+            final LongPostingList list = postings.get(gram);
+            if (list == null) {
+                continue;
+            }
+            list.remove(scheduleId);
+            if (list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+}
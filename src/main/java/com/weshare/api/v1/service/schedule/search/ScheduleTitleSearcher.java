@@ -0,0 +1,73 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import com.weshare.api.v1.config.schedule.ScheduleSearchProperties;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.repository.schedule.query.SchedulePageQueryRepository;
+import com.weshare.api.v1.service.schedule.query.ScheduleSearchCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleTitleSearcher {
+    private static final String CREATED_DATE = "created-date";
+
+    private final ScheduleTitleIndex scheduleTitleIndex;
+    private final SchedulePageQueryRepository pageQueryRepository;
+    private final ScheduleSearchProperties scheduleSearchProperties;
+
+    /**
+     * 색인에서 일치하는 id 와 정확한 총 개수를 구하고, 해당 페이지의 여행일정만 pk 로 조회한다.
+     * 작성일 외 정렬은 일치하는 id 를 모두 IN 절로 넘겨야 하므로, 그 수가 상한을 넘으면 빈 값을 반환해서 DB 검색으로 넘긴다.
+     * 색인이 DB 와 같은 결과를 낼 수 없는 검색어도 빈 값을 반환한다.
+     */
+    public Optional<Page<Schedule>> search(ScheduleSearchCondition searchCondition) {
+        if (!scheduleTitleIndex.canSearch(searchCondition.search())) {
+            return Optional.empty();
+        }
+        final long[] matchedIds = scheduleTitleIndex.search(searchCondition.search());
+        final Pageable pageable = searchCondition.pageable();
+        if (pageable.getOffset() >= matchedIds.length) {
+            return Optional.of(new PageImpl<>(List.of(), pageable, matchedIds.length));
+        }
+
+        final Sort.Order order = getSingleOrder(pageable.getSort());
+        // IDENTITY 로 발급된 id 는 작성 순서와 같아서 작성일 정렬은 색인 결과만으로 자를 수 있다.
+        if (order != null && CREATED_DATE.equals(order.getProperty())) {
+            final List<Schedule> content = pageQueryRepository.findSchedulesByIds(slice(matchedIds, pageable, order.isAscending()));
+            return Optional.of(new PageImpl<>(content, pageable, matchedIds.length));
+        }
+        if (matchedIds.length > scheduleSearchProperties.getSortCandidateLimit()) {
+            return Optional.empty();
+        }
+        final List<Long> scheduleIds = Arrays.stream(matchedIds).boxed().toList();
+        return Optional.of(new PageImpl<>(pageQueryRepository.findSchedulePageByIds(scheduleIds, pageable), pageable, matchedIds.length));
+    }
+
+    private Sort.Order getSingleOrder(Sort sort) {
+        final List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        return orders.get(0);
+    }
+
+    private List<Long> slice(long[] matchedIds, Pageable pageable, boolean ascending) {
+        final int from = (int) pageable.getOffset();
+        final int to = Math.min(from + pageable.getPageSize(), matchedIds.length);
+        final Long[] page = new Long[to - from];
+        for (int i = from; i < to; i++) {
+            final int index = ascending ? i : matchedIds.length - 1 - i;
+            page[i - from] = matchedIds[index];
+        }
+        return Arrays.asList(page);
+    }
+}
@@ -0,0 +1,107 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 자모 단위 trie, 노드마다 하위 트리의 최대 가중치를 유지해서 접두어 아래를 전부 훑지 않고 상위 K개를 찾는다.
+ */
+class SuggestionTrie<T> {
+    private static final long EMPTY_WEIGHT = -1L;
+
+    private final Node<T> root = new Node<>();
+
+    void put(String key, T value, long weight) {
+        final List<Node<T>> path = new ArrayList<>(key.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node<>());
+            path.add(node);
+        }
+        node.value = value;
+        node.weight = weight;
+        refreshPath(key, path);
+    }
+
+    void remove(String key) {
+        final List<Node<T>> path = findPath(key);
+        if (path == null) {
+            return;
+        }
+        final Node<T> node = path.get(path.size() - 1);
+        node.value = null;
+        node.weight = EMPTY_WEIGHT;
+        refreshPath(key, path);
+    }
+
+    List<T> top(String prefix, int size) {
+        final List<Node<T>> path = findPath(prefix);
+        final List<T> result = new ArrayList<>(size);
+        if (path == null) {
+            return result;
+        }
+
+        // 노드는 하위 최대 가중치, 값은 자신의 가중치로 우선순위를 매기면 꺼낸 값이 항상 남은 것 중 최대다.
+        final PriorityQueue<Candidate<T>> queue = new PriorityQueue<>(Comparator.comparingLong((Candidate<T> c) -> c.priority).reversed());
+        queue.add(new Candidate<>(path.get(path.size() - 1).maxWeight, path.get(path.size() - 1), null));
+        while (!queue.isEmpty() && result.size() < size) {
+            final Candidate<T> candidate = queue.poll();
+            if (candidate.value != null) {
+                result.add(candidate.value);
+                continue;
+            }
+            final Node<T> node = candidate.node;
+            if (node.value != null) {
+                queue.add(new Candidate<>(node.weight, null, node.value));
+            }
+            for (Node<T> child : node.children.values()) {
+                queue.add(new Candidate<>(child.maxWeight, child, null));
+            }
+        }
+        return result;
+    }
+
+    private List<Node<T>> findPath(String key) {
+        final List<Node<T>> path = new ArrayList<>(key.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    // 아래에서부터 최대 가중치를 다시 계산하고 비어있는 노드는 잘라낸다.
+    private void refreshPath(String key, List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            final Node<T> node = path.get(i);
+            long maxWeight = node.value == null ? EMPTY_WEIGHT : node.weight;
+            for (Node<T> child : node.children.values()) {
+                maxWeight = Math.max(maxWeight, child.maxWeight);
+            }
+            node.maxWeight = maxWeight;
+            if (i > 0 && node.value == null && node.children.isEmpty()) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    private static class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>(4);
+        private T value;
+        private long weight = EMPTY_WEIGHT;
+        private long maxWeight = EMPTY_WEIGHT;
+    }
+
+    private record Candidate<T>(long priority, Node<T> node, T value) {
+    }
+}
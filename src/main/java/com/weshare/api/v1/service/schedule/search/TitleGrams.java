@@ -0,0 +1,52 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 제목을 글자 단위 unigram, bigram 키로 나눈다. 한글은 음절 하나가 글자 하나라 bigram 만으로도 충분히 좁혀진다.
+ */
+final class TitleGrams {
+    private static final long UNIGRAM_FLAG = 1L << 32;
+
+    private TitleGrams() {
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // 색인할 때는 모든 unigram, bigram 을 만든다.
+    static Set<Long> indexGrams(String normalized) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(unigram(normalized.charAt(i)));
+            if (i + 1 < normalized.length()) {
+                grams.add(bigram(normalized.charAt(i), normalized.charAt(i + 1)));
+            }
+        }
+        return grams;
+    }
+
+    // 검색할 때는 한 글자면 unigram, 그 이상이면 bigram 만 사용한다.
+    static Set<Long> queryGrams(String normalized) {
+        Set<Long> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(unigram(normalized.charAt(0)));
+            return grams;
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add(bigram(normalized.charAt(i), normalized.charAt(i + 1)));
+        }
+        return grams;
+    }
+
+    private static long unigram(char c) {
+        return UNIGRAM_FLAG | c;
+    }
+
+    private static long bigram(char first, char second) {
+        return ((long) first << 16) | second;
+    }
+}
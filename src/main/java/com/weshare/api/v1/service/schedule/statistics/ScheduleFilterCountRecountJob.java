@@ -0,0 +1,79 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.config.schedule.ScheduleFilterCountProperties;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.statistics.ExpenseBuckets;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountCache;
+import com.weshare.api.v1.repository.schedule.statistics.StatisticsScheduleFilterCountRepository;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleFilterCountRow;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleFilterRecountRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트로 증감하는 목적지, 경비 구간 별 개수는 회원 탈퇴처럼 이벤트 없이 지워지는 경우 어긋나므로 주기적으로 다시 센다.
+ * 통계 테이블은 잠금 없는 읽기로 schedule_id 순서대로 나눠 읽고 메모리에서 세므로 카운터 반영을 막지 않는다.
+ * 칸 수만큼의 row 만 짧은 트랜잭션으로 바꾸고, 읽는 동안 반영된 이벤트로 생긴 차이는 다음 재집계에서 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleFilterCountRecountJob {
+
+    private final StatisticsScheduleFilterCountRepository filterCountRepository;
+    private final ScheduleFilterCountCache filterCountCache;
+    private final ScheduleFilterCountProperties filterCountProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final StatisticsJobRunner statisticsJobRunner;
+
+    // cron 을 "-" 로 설정하면 실행하지 않는다.
+    // 스케줄러 스레드를 붙잡지 않도록 통계 작업 스레드로 넘긴다.
+    @Scheduled(cron = "${application.schedule.statistics.filter-count.recount-cron:0 */10 * * * *}")
+    public void run() {
+        statisticsJobRunner.run("목적지, 경비 구간 재집계", this::recount);
+    }
+
+    public void recount() {
+        final ExpenseBuckets expenseBuckets = filterCountProperties.getExpenseBuckets();
+        final Map<Destination, long[]> counts = new EnumMap<>(Destination.class);
+        for (Destination destination : Destination.values()) {
+            counts.put(destination, new long[expenseBuckets.size()]);
+        }
+
+        long lastScheduleId = 0;
+        while (true) {
+            final List<ScheduleFilterRecountRow> rows = filterCountRepository.findRecountRows(lastScheduleId, filterCountProperties.getRecountChunkSize());
+            if (rows.isEmpty()) {
+                break;
+            }
+            rows.forEach(row -> counts.get(row.destination())[expenseBuckets.bucketOf(row.totalExpense())]++);
+            filterCountRepository.syncDestinations(rows.stream()
+                    .filter(ScheduleFilterRecountRow::isDestinationChanged)
+                    .toList());
+            lastScheduleId = rows.get(rows.size() - 1).scheduleId();
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                filterCountRepository.replaceCounts(toRows(counts), expenseBuckets.size()));
+        filterCountCache.refresh();
+        log.info("목적지, 경비 구간 별 여행일정 개수를 다시 집계했습니다.");
+    }
+
+    private List<ScheduleFilterCountRow> toRows(Map<Destination, long[]> counts) {
+        final List<ScheduleFilterCountRow> rows = new ArrayList<>();
+        counts.forEach((destination, bucketCounts) -> {
+            for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+                rows.add(new ScheduleFilterCountRow(destination, bucket, bucketCounts[bucket]));
+            }
+        });
+        return rows;
+    }
+}
@@ -0,0 +1,58 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요, 댓글 통계의 증감을 (카운터 종류, id) 별 LongAdder 에 모아둔다.
+ *
+ * outbox 한 묶음 안에서 같은 카운터의 증감은 이벤트 타입이 섞여 있어도 하나로 합쳐진다.
+ */
+@Component
+public class StatisticsCounterBuffer {
+
+    private volatile ConcurrentHashMap<CounterKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void add(StatisticsCounterType type, Long id, long delta) {
+        counters.computeIfAbsent(new CounterKey(type, id), key -> new LongAdder()).add(delta);
+    }
+
+    public void add(StatisticsCounterType type, Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> add(type, id, delta));
+    }
+
+    public synchronized Map<StatisticsCounterType, Map<Long, Long>> drain() {
+        final Map<StatisticsCounterType, Map<Long, Long>> deltas = sum(counters);
+        counters = new ConcurrentHashMap<>();
+        return deltas;
+    }
+
+    // 통계 row 가 삭제된 경우 남아있는 증감이 row 를 다시 만들지 않도록 버린다.
+    public void discard(StatisticsCounterType type, Long id) {
+        counters.remove(new CounterKey(type, id));
+    }
+
+    public int pendingSize() {
+        return counters.size();
+    }
+
+    private Map<StatisticsCounterType, Map<Long, Long>> sum(Map<CounterKey, LongAdder> counters) {
+        final Map<StatisticsCounterType, Map<Long, Long>> deltas = new EnumMap<>(StatisticsCounterType.class);
+        counters.forEach((key, adder) -> {
+            final long delta = adder.sum();
+            if (delta != 0) {
+                deltas.computeIfAbsent(key.type(), type -> new HashMap<>()).put(key.id(), delta);
+            }
+        });
+        return deltas;
+    }
+
+    private record CounterKey(StatisticsCounterType type, Long id) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType;
+import com.weshare.api.v1.repository.schedule.statistics.StatisticsCounterRepository;
+import com.weshare.api.v1.utils.MapChunkUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * outbox 핸들러가 넘긴 통계 증감을 버퍼에 모았다가 relay 트랜잭션이 커밋되기 직전에 한번에 반영한다.
+ * 반영이 실패하거나 트랜잭션이 롤백되면 모은 증감은 버리고, 남아있는 outbox 이벤트를 다시 처리할 때 새로 모은다.
+ * outbox relay 는 한 스레드에서 묶음을 하나씩 처리하므로 버퍼에는 현재 트랜잭션의 증감만 있다.
+ */
+@Component
+public class StatisticsCounterFlusher {
+    private static final int CHUNK_SIZE = 500;
+
+    private final StatisticsCounterBuffer counterBuffer;
+    private final StatisticsCounterRepository counterRepository;
+    private final Timer flushTimer;
+
+    public StatisticsCounterFlusher(
+            StatisticsCounterBuffer counterBuffer,
+            StatisticsCounterRepository counterRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.counterBuffer = counterBuffer;
+        this.counterRepository = counterRepository;
+        this.flushTimer = Timer.builder("statistics.counter.flush")
+                .description("좋아요, 댓글 통계 증감을 DB 에 반영하는 시간")
+                .register(meterRegistry);
+        Gauge.builder("statistics.counter.pending", counterBuffer, StatisticsCounterBuffer::pendingSize)
+                .description("DB 에 반영되지 않은 통계 카운터 수")
+                .register(meterRegistry);
+    }
+
+    public void add(StatisticsCounterType type, Map<Long, Long> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("통계 증감은 트랜잭션 안에서만 모을 수 있습니다.");
+        }
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new FlushBeforeCommit());
+        }
+        counterBuffer.add(type, deltas);
+    }
+
+    public void discard(StatisticsCounterType type, Long id) {
+        counterBuffer.discard(type, id);
+    }
+
+    private void flush(Map<StatisticsCounterType, Map<Long, Long>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        flushTimer.record(() -> deltas.forEach((type, counts) ->
+                MapChunkUtil.chunk(counts, CHUNK_SIZE).forEach(chunk -> counterRepository.addCounts(type, chunk))));
+    }
+
+    private class FlushBeforeCommit implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush(counterBuffer.drain());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(StatisticsCounterFlusher.this);
+            if (status != STATUS_COMMITTED) {
+                counterBuffer.drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 보정, 목적지/경비 구간 재집계처럼 오래 걸리는 작업을 스케줄러 스레드 대신 전용 스레드에서 실행한다.
+ * 스케줄러 스레드를 붙잡고 있으면 outbox 릴레이, 조회수 반영, 캐시 갱신이 작업이 끝날 때까지 밀린다.
+ * 스레드가 하나이고 대기열이 없으므로 통계 작업끼리는 동시에 돌지 않고, 앞선 작업이 실행 중이면 이번 실행은 건너뛴다.
+ */
+@Slf4j
+@Component
+public class StatisticsJobRunner implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor statisticsJobExecutor;
+
+    public StatisticsJobRunner() {
+        this.statisticsJobExecutor = createExecutor();
+    }
+
+    // 빈으로 등록하면 @Async 기본 실행기를 대체하므로 이 클래스 안에서만 쓰는 전용 풀로 둔다.
+    private ThreadPoolTaskExecutor createExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("statistics-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 종료할 때는 기다리지 않고 인터럽트한다. 통계 보정은 체크포인트부터 다음 실행에서 이어서 진행한다.
+    @Override
+    public void destroy() {
+        statisticsJobExecutor.shutdown();
+    }
+
+    public boolean run(String jobName, Runnable job) {
+        try {
+            statisticsJobExecutor.execute(() -> {
+                try {
+                    job.run();
+                } catch (RuntimeException e) {
+                    log.error("{} 작업이 실패했습니다.", jobName, e);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("이전 통계 작업이 아직 실행 중이라 이번 {} 작업은 건너뜁니다.", jobName);
+            return false;
+        }
+    }
+}
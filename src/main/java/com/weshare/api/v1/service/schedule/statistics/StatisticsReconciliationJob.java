@@ -0,0 +1,20 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StatisticsReconciliationJob {
+
+    private final StatisticsReconciliationService reconciliationService;
+    private final StatisticsJobRunner statisticsJobRunner;
+
+    // cron 을 "-" 로 설정하면 실행하지 않는다.
+    // 묶음 사이에 쉬면서 오래 실행되므로 스케줄러 스레드를 붙잡지 않도록 통계 작업 스레드로 넘긴다.
+    @Scheduled(cron = "${application.schedule.statistics.reconciliation.cron:0 0 4 * * *}")
+    public void run() {
+        statisticsJobRunner.run("통계 보정", reconciliationService::reconcile);
+    }
+}
@@ -0,0 +1,22 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleStatisticsRow;
+
+import java.util.List;
+
+/**
+ * 보정 작업 결과, drifted 에는 보정 전 값과 보정 후 값을 reportLimit 개까지 담는다.
+ */
+public record StatisticsReconciliationReport(
+        long scannedCount,
+        long driftedCount,
+        boolean completed,
+        List<Drift> drifted
+) {
+
+    public record Drift(
+            ScheduleStatisticsRow before,
+            ScheduleStatisticsRow after
+    ) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.config.schedule.StatisticsReconciliationProperties;
+import com.weshare.api.v1.repository.schedule.statistics.StatisticsReconciliationRepository;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleStatisticsRow;
+import com.weshare.api.v1.service.schedule.statistics.StatisticsReconciliationReport.Drift;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * schedule_id 순서로 묶음을 나눠서 통계 테이블을 원본 테이블의 집계값과 비교하고 어긋난 row 만 고친다.
+ * 묶음마다 체크포인트를 커밋하므로 중간에 멈춘 작업은 다음 실행에서 이어서 진행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsReconciliationService {
+    private static final String JOB_NAME = "statistics_schedule_details";
+
+    private final StatisticsReconciliationRepository reconciliationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StatisticsReconciliationProperties reconciliationProperties;
+
+    public StatisticsReconciliationReport reconcile() {
+        long scannedCount = 0;
+        long driftedCount = 0;
+        final List<Drift> reported = new ArrayList<>();
+
+        while (true) {
+            final ChunkResult chunk = transactionTemplate.execute(status -> reconcileNextChunk());
+            if (chunk == null || chunk.scanned() == 0) {
+                return report(scannedCount, driftedCount, true, reported);
+            }
+            scannedCount += chunk.scanned();
+            driftedCount += chunk.drifted().size();
+            chunk.drifted()
+                    .stream()
+                    .limit(Math.max(0, reconciliationProperties.getReportLimit() - reported.size()))
+                    .forEach(reported::add);
+            if (!pause()) {
+                return report(scannedCount, driftedCount, false, reported);
+            }
+        }
+    }
+
+    private ChunkResult reconcileNextChunk() {
+        final long lastScheduleId = reconciliationRepository.lockCheckpoint(JOB_NAME);
+        final List<Long> scheduleIds = reconciliationRepository.findScheduleIds(lastScheduleId, reconciliationProperties.getChunkSize());
+        if (scheduleIds.isEmpty()) {
+            // 끝까지 처리했으면 다음 실행은 처음부터 다시 시작한다.
+            reconciliationRepository.updateCheckpoint(JOB_NAME, 0);
+            return new ChunkResult(0, List.of());
+        }
+
+        final long from = scheduleIds.get(0);
+        final long to = scheduleIds.get(scheduleIds.size() - 1);
+        final Map<Long, ScheduleStatisticsRow> current = reconciliationRepository.findCurrentStatistics(from, to);
+        final List<Drift> drifted = reconciliationRepository.findExpectedStatistics(from, to)
+                .stream()
+                .filter(expected -> !Objects.equals(expected, current.get(expected.scheduleId())))
+                .map(expected -> new Drift(current.get(expected.scheduleId()), expected))
+                .toList();
+
+        reconciliationRepository.upsert(drifted.stream().map(Drift::after).toList());
+        reconciliationRepository.updateCheckpoint(JOB_NAME, to);
+        return new ChunkResult(scheduleIds.size(), drifted);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(reconciliationProperties.getChunkDelayMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("통계 보정 작업이 중단되었습니다. 다음 실행에서 이어서 진행합니다.");
+            return false;
+        }
+    }
+
+    private StatisticsReconciliationReport report(long scannedCount, long driftedCount, boolean completed, List<Drift> reported) {
+        log.info("통계 보정 작업 {}, 확인 = {}, 보정 = {}", completed ? "완료" : "중단", scannedCount, driftedCount);
+        reported.forEach(drift -> log.info("통계 보정 before = {}, after = {}", drift.before(), drift.after()));
+        return new StatisticsReconciliationReport(scannedCount, driftedCount, completed, List.copyOf(reported));
+    }
+
+    private record ChunkResult(int scanned, List<Drift> drifted) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.weshare.api.v1.service.schedule.view;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상세 조회마다 DB 를 갱신하지 않고 여행일정별 LongAdder 에 조회수를 모아둔다.
+ *
+ * 비우는 시점에 증가 중인 스레드와 경합하지 않도록 버퍼를 두 세대로 나눈다.
+ * drain 은 현재 세대를 은퇴시키고, 한 주기 전에 은퇴한 세대를 합산한다.
+ * 은퇴한 세대는 한 주기 동안 새 증가를 받지 않으므로 합산 이후 들어오는 증가가 없다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    private volatile ConcurrentHashMap<Long, LongAdder> active = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<Long, LongAdder> retired = new ConcurrentHashMap<>();
+
+    public void increment(Long scheduleId) {
+        active.computeIfAbsent(scheduleId, id -> new LongAdder()).increment();
+    }
+
+    public synchronized Map<Long, Long> drain() {
+        final Map<Long, Long> viewCounts = sum(retired);
+        retired = active;
+        active = new ConcurrentHashMap<>();
+        return viewCounts;
+    }
+
+    // 종료시에는 더 이상 증가가 없으므로 두 세대를 모두 합산한다.
+    public synchronized Map<Long, Long> drainAll() {
+        final Map<Long, Long> viewCounts = sum(retired);
+        sum(active).forEach((id, count) -> viewCounts.merge(id, count, Long::sum));
+        retired = new ConcurrentHashMap<>();
+        active = new ConcurrentHashMap<>();
+        return viewCounts;
+    }
+
+    // 반영에 실패한 조회수를 다음 주기에 다시 반영하도록 되돌린다.
+    public void restore(Map<Long, Long> viewCounts) {
+        viewCounts.forEach((id, count) -> active.computeIfAbsent(id, key -> new LongAdder()).add(count));
+    }
+
+    private Map<Long, Long> sum(Map<Long, LongAdder> counters) {
+        final Map<Long, Long> viewCounts = new HashMap<>(counters.size());
+        counters.forEach((id, adder) -> {
+            final long count = adder.sum();
+            if (count > 0) {
+                viewCounts.put(id, count);
+            }
+        });
+        return viewCounts;
+    }
+}
@@ -0,0 +1,58 @@
+package com.weshare.api.v1.service.schedule.view;
+
+import com.weshare.api.v1.event.schedule.ScheduleViewCountFlushedEvent;
+import com.weshare.api.v1.repository.schedule.ScheduleViewCountRepository;
+import com.weshare.api.v1.utils.MapChunkUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlusher {
+    private static final int CHUNK_SIZE = 500;
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final ScheduleViewCountRepository viewCountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${application.schedule.view.flush-interval-ms:3000}")
+    public void flush() {
+        flush(viewCountBuffer.drain());
+    }
+
+    // 정상 종료시 버퍼에 남은 조회수를 모두 반영한다.
+    @PreDestroy
+    public void flushAll() {
+        flush(viewCountBuffer.drainAll());
+    }
+
+    private void flush(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        final Map<Long, Long> flushed = new HashMap<>(viewCounts.size());
+        final List<Map<Long, Long>> chunks = MapChunkUtil.chunk(viewCounts, CHUNK_SIZE);
+        for (int i = 0; i < chunks.size(); i++) {
+            try {
+                viewCountRepository.addViewCounts(chunks.get(i));
+                flushed.putAll(chunks.get(i));
+            } catch (RuntimeException e) {
+                log.error("조회수 반영 실패, 남은 {}개 묶음은 다음 주기에 다시 반영합니다.", chunks.size() - i, e);
+                chunks.subList(i, chunks.size()).forEach(viewCountBuffer::restore);
+                break;
+            }
+        }
+        if (!flushed.isEmpty()) {
+            eventPublisher.publishEvent(new ScheduleViewCountFlushedEvent(flushed));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.weshare.api.v1.service.schedule.view;
+
+import com.weshare.api.v1.config.schedule.ScheduleViewProperties;
+import com.weshare.api.v1.utils.BloomHash;
+import com.weshare.api.v1.utils.LocalBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 하루 단위 Bloom filter 로 같은 사용자의 같은 여행일정 조회를 한번만 센다.
+ * 필터는 Redis 비트맵에 두고 BITFIELD 한번으로 k개의 비트를 켜면서 이전 값을 받는다.
+ * Redis 에 접근할 수 없으면 같은 방식의 프로세스 내부 필터로 대신한다.
+ */
+@Slf4j
+@Component
+public class ViewDeduplicator {
+    private static final String KEY_PREFIX = "schedule:view:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long bitSize;
+    private final int hashCount;
+    private final Map<LocalDate, LocalBloomFilter> localFilters = new ConcurrentHashMap<>();
+    private volatile String expiredKey;
+
+    public ViewDeduplicator(StringRedisTemplate redisTemplate, ScheduleViewProperties scheduleViewProperties) {
+        this.redisTemplate = redisTemplate;
+        this.bitSize = scheduleViewProperties.getDedupeBitSize();
+        this.hashCount = scheduleViewProperties.getDedupeHashCount();
+    }
+
+    public boolean isFirstView(String viewerKey, Long scheduleId) {
+        final LocalDate today = LocalDate.now();
+        final String element = viewerKey + "#" + scheduleId;
+        try {
+            return putToRedis(today, element);
+        } catch (DataAccessException e) {
+            log.warn("조회수 중복 확인을 Redis 에서 할 수 없어 로컬 필터를 사용합니다. {}", e.getMessage());
+            return putToLocal(today, element);
+        }
+    }
+
+    private boolean putToRedis(LocalDate today, String element) {
+        final String key = KEY_PREFIX + today.format(DAY_FORMAT);
+        BitFieldSubCommands subCommands = BitFieldSubCommands.create();
+        for (long position : BloomHash.positions(element, hashCount, bitSize)) {
+            subCommands = subCommands.set(BitFieldType.unsigned(1)).valueAt(position).to(1);
+        }
+        final List<Long> previousBits = redisTemplate.opsForValue().bitField(key, subCommands);
+        expireOncePerDay(key);
+        return previousBits == null || previousBits.stream().anyMatch(bit -> bit == 0L);
+    }
+
+    // 날짜가 바뀐 뒤 처음 한번만 만료 시간을 건다.
+    private void expireOncePerDay(String key) {
+        if (key.equals(expiredKey)) {
+            return;
+        }
+        redisTemplate.expire(key, KEY_TTL);
+        expiredKey = key;
+    }
+
+    private boolean putToLocal(LocalDate today, String element) {
+        localFilters.keySet().removeIf(day -> day.isBefore(today));
+        return localFilters.computeIfAbsent(today, day -> new LocalBloomFilter(bitSize, hashCount))
+                .put(element);
+    }
+}
@@ -0,0 +1,85 @@
+package com.weshare.api.v1.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.repository.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * user_id 로 찾은 사용자를 서버 로컬에 둔다. 인증 필터가 탈퇴한 사용자의 토큰을 거르는 데 쓰고,
+ * 전체 사용자 정보가 필요한 곳도 이 캐시에서 읽는다. 캐시된 User 는 영속성 컨텍스트 밖의 객체이므로 수정하지 않는다.
+ * 수정, 탈퇴하면 pub/sub 으로 모든 서버의 캐시를 비운다.
+ */
+@Slf4j
+@Component
+public class UserCache {
+    private static final String EVICT_CHANNEL = "user:cache:evict";
+    private static final long MAXIMUM_SIZE = 10_000;
+    // 무효화 메시지를 놓쳐도 이 시간이 지나면 다시 조회한다.
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, User> cache;
+
+    public UserCache(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.local");
+        listenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EVICT_CHANNEL)
+        );
+    }
+
+    // 없는 사용자는 캐시하지 않으므로 탈퇴한 사용자의 토큰은 매번 DB 에서 확인한다.
+    public Optional<User> findById(Long userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    // 인증 필터를 통과한 사용자의 전체 정보가 필요할 때 쓴다.
+    public User getById(Long userId) {
+        return findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자가 존재하지 않습니다."));
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(userId));
+        } catch (DataAccessException e) {
+            log.warn("사용자 캐시 무효화 메시지를 보내지 못했습니다. userId = {}, {}", userId, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String userId) {
+        try {
+            cache.invalidate(Long.valueOf(userId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 캐시 무효화 메시지입니다. {}", userId);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.weshare.api.v1.service.user;
 
 import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.event.user.UserDeletedEvent;
+import com.weshare.api.v1.event.user.UserUpdatedEvent;
 import com.weshare.api.v1.repository.user.UserRepository;
 import com.weshare.api.v1.service.schedule.query.ScheduleQueryService;
 import com.weshare.api.v1.service.schedule.query.dto.UserScheduleDto;
@@ -35,6 +36,7 @@ public class UserService {
         updateDto.getName().ifPresent(user::updateName);
         updateDto.getProfileImg().ifPresent(user::updateProfileImg);
         updateDto.getBirthDate().ifPresent(user::updateBirthDate);
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
     }
 
     private User findUserOrElseThrow(String email) {
@@ -56,6 +58,7 @@ public class UserService {
         }
 
         user.updatePassword(newPassword, passwordEncoder);
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
     }
 
     private boolean isMatchPassword(String newPassword, String verifyPassword) {
@@ -1,41 +0,0 @@
-package com.weshare.api.v1.token;
-
-import com.weshare.api.v1.domain.user.User;
-import jakarta.persistence.*;
-import lombok.AccessLevel;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-
-@Getter
-@Entity
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class RefreshToken {
-
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
-
-  @Column(unique = true)
-  private String token;
-
-  @Enumerated(EnumType.STRING)
-  private TokenType tokenType = TokenType.BEARER;
-
-  @OneToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "user_id")
-  private User user;
-
-  @Builder
-  private RefreshToken(String token, TokenType tokenType, User user) {
-    this.token = token;
-    this.tokenType = tokenType;
-    this.user = user;
-  }
-
-  public void updateToken(String token) {
-    this.token = token;
-  }
-
-
-}
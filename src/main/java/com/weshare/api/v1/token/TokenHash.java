@@ -0,0 +1,24 @@
+package com.weshare.api.v1.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 로컬 캐시, 무효화 메시지의 키로 쓰는 SHA-256 해시.
+ */
+public final class TokenHash {
+
+    private TokenHash() {
+    }
+
+    public static String of(String token) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
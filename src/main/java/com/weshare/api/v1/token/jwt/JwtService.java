@@ -1,5 +1,6 @@
 package com.weshare.api.v1.token.jwt;
 
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.domain.user.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -7,6 +8,8 @@ import java.util.Date;
 
 public interface JwtService {
     String extractEmail(String token);
+    LoginUser extractLoginUser(String token);
+    VerifiedToken verify(String token);
     String generateAccessToken(User user, Date issuedAt);
     String generateRefreshToken(User user, Date issuedAt);
     boolean isTokenValid(String token, UserDetails userDetails);
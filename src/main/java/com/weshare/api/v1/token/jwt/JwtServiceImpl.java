@@ -1,11 +1,17 @@
 package com.weshare.api.v1.token.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weshare.api.v1.token.TokenHash;
 import com.weshare.api.v1.token.exception.TokenTimeOutException;
 import com.weshare.api.v1.token.exception.InvalidTokenException;
+import com.weshare.api.v1.domain.user.LoginUser;
+import com.weshare.api.v1.domain.user.Role;
 import com.weshare.api.v1.domain.user.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,14 +19,18 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Slf4j
 @Component
 public class JwtServiceImpl implements JwtService{
+    private static final String ID_CLAIM = "id";
+    private static final String USERNAME_CLAIM = "username";
+    private static final String ROLE_CLAIM = "role";
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
@@ -33,22 +43,75 @@ public class JwtServiceImpl implements JwtService{
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
 
+    // 0 보다 크면 검증한 토큰을 이 시간 동안 캐시한다.
+    @Value("${application.security.jwt.verified-token-cache-ttl:0s}")
+    private Duration verifiedTokenCacheTtl;
+
+    private Key signInKey;
+    // 만들어진 JwtParser 는 상태가 없으므로 모든 요청이 같이 쓴다.
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        if (!verifiedTokenCacheTtl.isZero()) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                    .expireAfterWrite(verifiedTokenCacheTtl)
+                    .build();
+        }
+    }
+
     @Override
     public String extractEmail(String token) {
+        return verify(token).subject();
+    }
+
+    @Override
+    public LoginUser extractLoginUser(String token) {
+        return verify(token).toLoginUser();
+    }
+
+    // 서명, 만료를 한번만 검증하고 필요한 claim 을 꺼낸다.
+    @Override
+    public VerifiedToken verify(String token) {
+        if (verifiedTokens == null || token == null) {
+            return parse(token);
+        }
+        final String tokenHash = TokenHash.of(token);
+        final VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached == null) {
+            final VerifiedToken verifiedToken = parse(token);
+            verifiedTokens.put(tokenHash, verifiedToken);
+            return verifiedToken;
+        }
+        if (cached.isExpiredAt(System.currentTimeMillis())) {
+            verifiedTokens.invalidate(tokenHash);
+            throw new TokenTimeOutException("만료된 토큰 입니다.");
+        }
+        return cached;
+    }
+
+    private VerifiedToken parse(String token) {
         try {
-            return extractClaim(token, Claims::getSubject);
+            final Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get(ID_CLAIM, Long.class),
+                    Role.valueOf(claims.get(ROLE_CLAIM, String.class)),
+                    claims.getExpiration().getTime()
+            );
         } catch (ExpiredJwtException exception) {
             throw new TokenTimeOutException("만료된 토큰 입니다.");
-        } catch (JwtException | NullPointerException exception ) {
+        } catch (JwtException | NullPointerException | IllegalArgumentException exception) {
             throw new InvalidTokenException("토큰이 유효하지 않습니다.");
         }
     }
 
-    private  <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
     @Override
     public String generateAccessToken(User user, Date issuedAt) {
         return buildToken(user, issuedAt, accessExpiration);
@@ -67,52 +130,22 @@ public class JwtServiceImpl implements JwtService{
                 .setSubject(user.getEmail())
                 .setIssuedAt(issuedAt)
                 .setExpiration(new Date(issuedAt.getTime() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            String email = extractEmail(token);
-            return (email.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            return verify(token).subject().equals(userDetails.getUsername());
         } catch (Exception e) {
             return false;
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     @Override
     public long getExpireTimeFromToken(String token){
-        try {
-            final Claims claims = extractAllClaims(token);
-            return claims.getExpiration().getTime();
-        } catch (ExpiredJwtException exception) {
-            throw new TokenTimeOutException("만료된 토큰 입니다.");
-        } catch (JwtException | NullPointerException exception ) {
-            throw new InvalidTokenException("토큰이 유효하지 않습니다.");
-        }
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return verify(token).expiration();
     }
 
     private Map<String, Object> createHeader() {
@@ -124,9 +157,9 @@ public class JwtServiceImpl implements JwtService{
 
     private Map<String, Object> createClaims(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("id", user.getId());
-        claims.put("username", user.getUsername());
-        claims.put("role", user.getRole());
+        claims.put(ID_CLAIM, user.getId());
+        claims.put(USERNAME_CLAIM, user.getUsername());
+        claims.put(ROLE_CLAIM, user.getRole());
         return claims;
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.weshare.api.v1.token.jwt;
+
+import com.weshare.api.v1.domain.user.LoginUser;
+import com.weshare.api.v1.domain.user.Role;
+
+import java.util.Objects;
+
+/**
+ * 서명과 만료를 한번 검증한 토큰의 claim.
+ * 한 요청 안에서 이메일, 만료 시간을 다시 꺼낼 때 토큰을 다시 파싱하지 않도록 이 값을 넘긴다.
+ */
+public record VerifiedToken(
+        String subject,
+        Long id,
+        Role role,
+        long expiration
+) {
+    public VerifiedToken {
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(role);
+    }
+
+    public boolean isExpiredAt(long now) {
+        return expiration < now;
+    }
+
+    public LoginUser toLoginUser() {
+        return new LoginUser(id, subject, role);
+    }
+}
@@ -0,0 +1,183 @@
+package com.weshare.api.v1.token.logout;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.weshare.api.v1.token.TokenHash;
+import com.weshare.api.v1.utils.LocalBloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃한 access token 을 서버 로컬에서 확인한다. 요청마다 Redis 를 조회하지 않는다.
+ * Bloom filter 로 로그아웃하지 않은 토큰을 먼저 거르고, 걸린 토큰만 토큰 해시 집합에서 확인한다.
+ * 해시 집합의 원소는 토큰이 만료되면 사라지고, Bloom filter 는 주기적으로 해시 집합에서 다시 만든다.
+ * 로그아웃은 Redis sorted set 에 토큰 해시를 만료 시각(ms) 점수로 저장하고 pub/sub 으로 다른 서버에 알린다.
+ * 메시지를 놓친 서버는 주기적으로 만료된 원소를 지우고 남은 원소만 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class LogoutTokenCache {
+    static final String REVOKED_KEY = "logout:token:revoked";
+    private static final String REVOKE_CHANNEL = "logout:token:revoke";
+    private static final String MESSAGE_DELIMITER = ":";
+    private static final long BLOOM_BIT_SIZE = 1 << 20;
+    private static final int BLOOM_HASH_COUNT = 7;
+
+    private final LogoutAccessTokenRedisRepository logoutTokenRedisRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long accessExpiration;
+    // token hash -> 토큰 만료 시각(ms)
+    private final Cache<String, Long> revokedTokens;
+    private final Object bloomLock = new Object();
+    private volatile LocalBloomFilter bloomFilter = new LocalBloomFilter(BLOOM_BIT_SIZE, BLOOM_HASH_COUNT);
+
+    public LogoutTokenCache(
+            LogoutAccessTokenRedisRepository logoutTokenRedisRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.jwt.expiration}") long accessExpiration
+    ) {
+        this.logoutTokenRedisRepository = logoutTokenRedisRepository;
+        this.redisTemplate = redisTemplate;
+        this.accessExpiration = accessExpiration;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, revokedTokens, "logout.token.local");
+        listenerContainer.addMessageListener(
+                (message, pattern) -> receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(REVOKE_CHANNEL)
+        );
+        migrateLegacyTokens();
+        loadFromRedis();
+    }
+
+    public boolean isRevoked(String token) {
+        final String tokenHash = TokenHash.of(token);
+        return bloomFilter.mightContain(tokenHash) && revokedTokens.getIfPresent(tokenHash) != null;
+    }
+
+    // expiration 은 토큰 만료 시각(ms)
+    public void revoke(String token, long expiration) {
+        final String tokenHash = TokenHash.of(token);
+        redisTemplate.opsForZSet().add(REVOKED_KEY, tokenHash, expiration);
+        addLocal(tokenHash, expiration);
+        try {
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, tokenHash + MESSAGE_DELIMITER + expiration);
+        } catch (DataAccessException e) {
+            log.warn("로그아웃 토큰 전파 메시지를 보내지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.security.logout-cache.resync-interval-ms:300000}",
+            fixedDelayString = "${application.security.logout-cache.resync-interval-ms:300000}"
+    )
+    public void resync() {
+        loadFromRedis();
+        rebuildBloomFilter();
+    }
+
+    // 만료된 토큰을 먼저 지워서 sorted set 이 로그아웃한 토큰의 유효 시간만큼만 커지게 한다.
+    private void loadFromRedis() {
+        try {
+            final long now = System.currentTimeMillis();
+            final ZSetOperations<String, String> revoked = redisTemplate.opsForZSet();
+            revoked.removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            final Set<TypedTuple<String>> tokens = revoked.rangeByScoreWithScores(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+            if (tokens == null) {
+                return;
+            }
+            for (TypedTuple<String> token : tokens) {
+                if (token.getValue() != null && token.getScore() != null) {
+                    addLocal(token.getValue(), token.getScore().longValue());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("로그아웃 토큰을 Redis 에서 읽지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    // 예전 방식(logoutAccessToken hash)으로 저장된 로그아웃 토큰을 sorted set 으로 옮기고 hash 와 색인 set 을 지운다.
+    void migrateLegacyTokens() {
+        try {
+            final long now = System.currentTimeMillis();
+            for (LogoutAccessTokenFromRedis logoutToken : logoutTokenRedisRepository.findAll()) {
+                if (logoutToken == null || logoutToken.getExpiration() == null || logoutToken.getExpiration() <= 0) {
+                    continue;
+                }
+                // 읽어온 expiration 은 남은 TTL(초)이다.
+                redisTemplate.opsForZSet().add(REVOKED_KEY, TokenHash.of(logoutToken.getId()), now + logoutToken.getExpiration() * 1000);
+            }
+            logoutTokenRedisRepository.deleteAll();
+        } catch (DataAccessException e) {
+            log.warn("예전 로그아웃 토큰을 옮기지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    private void receive(String message) {
+        final int delimiter = message.lastIndexOf(MESSAGE_DELIMITER);
+        try {
+            addLocal(message.substring(0, delimiter), Long.parseLong(message.substring(delimiter + 1)));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("잘못된 로그아웃 토큰 전파 메시지입니다. {}", message);
+        }
+    }
+
+    // access token 유효 시간보다 오래 둘 필요는 없다.
+    private void addLocal(String tokenHash, long expiration) {
+        final long expiresAt = Math.min(expiration, System.currentTimeMillis() + accessExpiration);
+        synchronized (bloomLock) {
+            revokedTokens.asMap().merge(tokenHash, expiresAt, Math::max);
+            bloomFilter.put(tokenHash);
+        }
+    }
+
+    // 만료된 토큰의 비트를 비운다. 새 필터를 다 채운 뒤에 바꾸므로 조회 중에 빠지는 토큰은 없다.
+    private void rebuildBloomFilter() {
+        synchronized (bloomLock) {
+            final LocalBloomFilter rebuilt = new LocalBloomFilter(BLOOM_BIT_SIZE, BLOOM_HASH_COUNT);
+            revokedTokens.asMap().keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Long expiration, long currentTime) {
+            return remainingNanos(expiration);
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Long expiration, long currentTime, long currentDuration) {
+            return remainingNanos(expiration);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Long expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(long expiration) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration - System.currentTimeMillis()));
+        }
+    }
+}
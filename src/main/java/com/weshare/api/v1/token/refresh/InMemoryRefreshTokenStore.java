@@ -0,0 +1,97 @@
+package com.weshare.api.v1.token.refresh;
+
+import com.weshare.api.v1.common.CustomUUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 없이 테스트할 때 쓰는 저장소. RedisRefreshTokenStore 와 같은 규칙으로 동작한다.
+ * application.security.refresh-token.store=memory 로 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "application.security.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private static final int FAMILY_ID_LENGTH = 32;
+
+    private final long refreshExpiration;
+    private final Map<String, Expiring<Owner>> tokens = new HashMap<>();
+    private final Map<Long, Expiring<Family>> families = new HashMap<>();
+
+    public InMemoryRefreshTokenStore(@Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration) {
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Override
+    public synchronized void issue(Long userId, String refreshToken) {
+        final String familyId = CustomUUID.getCustomUUID(FAMILY_ID_LENGTH, "");
+        tokens.put(refreshToken, expiring(new Owner(userId, familyId)));
+        families.put(userId, expiring(new Family(familyId, refreshToken)));
+    }
+
+    @Override
+    public synchronized RefreshTokenRotation rotate(Long userId, String refreshToken, String reissuedToken) {
+        final Owner owner = get(tokens, refreshToken);
+        if (owner == null || !owner.userId().equals(userId)) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        final Family current = get(families, userId);
+        if (current == null || !current.familyId().equals(owner.familyId())) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        if (!current.refreshToken().equals(refreshToken)) {
+            families.remove(userId);
+            return RefreshTokenRotation.REUSED;
+        }
+        tokens.put(reissuedToken, expiring(owner));
+        families.put(userId, expiring(new Family(owner.familyId(), reissuedToken)));
+        return RefreshTokenRotation.ROTATED;
+    }
+
+    @Override
+    public synchronized Optional<Long> findUserId(String refreshToken) {
+        final Owner owner = get(tokens, refreshToken);
+        if (owner == null) {
+            return Optional.empty();
+        }
+        final Family current = get(families, owner.userId());
+        if (current == null || !current.refreshToken().equals(refreshToken)) {
+            return Optional.empty();
+        }
+        return Optional.of(owner.userId());
+    }
+
+    @Override
+    public synchronized void revoke(Long userId) {
+        families.remove(userId);
+    }
+
+    private <K, V> V get(Map<K, Expiring<V>> map, K key) {
+        final Expiring<V> expiring = map.get(key);
+        if (expiring == null) {
+            return null;
+        }
+        if (expiring.expiresAt() <= System.currentTimeMillis()) {
+            map.remove(key);
+            return null;
+        }
+        return expiring.value();
+    }
+
+    private <V> Expiring<V> expiring(V value) {
+        return new Expiring<>(value, System.currentTimeMillis() + refreshExpiration);
+    }
+
+    private record Owner(Long userId, String familyId) {
+    }
+
+    private record Family(String familyId, String refreshToken) {
+    }
+
+    private record Expiring<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.weshare.api.v1.token.refresh;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * RefreshTokenStore 로 옮기기 전에 refresh_token 테이블에 저장된 토큰을 전환 기간 동안 한번만 인정한다.
+ * 인정한 토큰은 지우므로 같은 토큰으로 두번 재발행할 수 없다.
+ * 배포 전에 로그인한 토큰이 모두 만료되면 legacy-table 을 끄고 테이블을 지운다.
+ */
+@Slf4j
+@Repository
+public class LegacyRefreshTokenRepository {
+    private static final String CONSUME_SQL = "delete from refresh_token where token = ? and user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public LegacyRefreshTokenRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${application.security.refresh-token.legacy-table:false}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean consume(Long userId, String refreshToken) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return jdbcTemplate.update(CONSUME_SQL, refreshToken, userId) == 1;
+        } catch (DataAccessException e) {
+            log.warn("refresh_token 테이블에서 토큰을 확인하지 못했습니다. {}", e.getMessage());
+            return false;
+        }
+    }
+}
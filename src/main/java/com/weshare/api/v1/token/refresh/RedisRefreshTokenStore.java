@@ -0,0 +1,111 @@
+package com.weshare.api.v1.token.refresh;
+
+import com.weshare.api.v1.common.CustomUUID;
+import com.weshare.api.v1.token.TokenHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * refresh:token:{토큰 해시} = "{user_id}:{family_id}", refresh:family:{user_id} = "{family_id}:{현재 토큰 해시}" 로 저장한다.
+ * 두 key 모두 refresh token 유효 시간만큼 TTL 을 걸어서 만료된 토큰은 Redis 가 지운다.
+ * 발행은 두 key 를 스크립트 한번으로 함께 저장하고, 재발행은 스크립트 한번으로 토큰 조회, 현재 토큰 확인, 새 토큰 저장을 원자적으로 처리한다.
+ * 재발행에 쓰인 토큰 key 는 TTL 까지 남겨서 다시 쓰이면 재사용으로 판단한다.
+ */
+@Component
+@ConditionalOnProperty(name = "application.security.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+    private static final String TOKEN_KEY_PREFIX = "refresh:token:";
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    private static final String DELIMITER = ":";
+    private static final int FAMILY_ID_LENGTH = 32;
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then return 0 end
+            local delimiter = string.find(owner, ':', 1, true)
+            if string.sub(owner, 1, delimiter - 1) ~= ARGV[3] then return 0 end
+            local family = string.sub(owner, delimiter + 1) .. ':'
+            local current = redis.call('GET', KEYS[3])
+            if current == family .. ARGV[1] then
+                redis.call('SET', KEYS[2], owner, 'PX', ARGV[4])
+                redis.call('SET', KEYS[3], family .. ARGV[2], 'PX', ARGV[4])
+                return 1
+            end
+            if current and string.sub(current, 1, string.len(family)) == family then
+                redis.call('DEL', KEYS[3])
+                return -1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisRefreshTokenStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(refreshExpiration);
+    }
+
+    @Override
+    public void issue(Long userId, String refreshToken) {
+        final String familyId = CustomUUID.getCustomUUID(FAMILY_ID_LENGTH, "");
+        final String tokenHash = TokenHash.of(refreshToken);
+        redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + tokenHash, FAMILY_KEY_PREFIX + userId),
+                userId + DELIMITER + familyId, familyId + DELIMITER + tokenHash, String.valueOf(ttl.toMillis())
+        );
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(Long userId, String refreshToken, String reissuedToken) {
+        final String tokenHash = TokenHash.of(refreshToken);
+        final String reissuedHash = TokenHash.of(reissuedToken);
+        final Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + tokenHash, TOKEN_KEY_PREFIX + reissuedHash, FAMILY_KEY_PREFIX + userId),
+                tokenHash, reissuedHash, String.valueOf(userId), String.valueOf(ttl.toMillis())
+        );
+        if (result == null || result == 0) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        return result > 0 ? RefreshTokenRotation.ROTATED : RefreshTokenRotation.REUSED;
+    }
+
+    @Override
+    public Optional<Long> findUserId(String refreshToken) {
+        final String tokenHash = TokenHash.of(refreshToken);
+        final String owner = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + tokenHash);
+        if (owner == null) {
+            return Optional.empty();
+        }
+        final int delimiter = owner.indexOf(DELIMITER);
+        final String userId = owner.substring(0, delimiter);
+        final String familyId = owner.substring(delimiter + 1);
+        final String current = redisTemplate.opsForValue().get(FAMILY_KEY_PREFIX + userId);
+        if (!(familyId + DELIMITER + tokenHash).equals(current)) {
+            return Optional.empty();
+        }
+        return Optional.of(Long.valueOf(userId));
+    }
+
+    @Override
+    public void revoke(Long userId) {
+        redisTemplate.delete(FAMILY_KEY_PREFIX + userId);
+    }
+}
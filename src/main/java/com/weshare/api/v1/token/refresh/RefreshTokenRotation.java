@@ -0,0 +1,9 @@
+package com.weshare.api.v1.token.refresh;
+
+public enum RefreshTokenRotation {
+    ROTATED,
+    // 저장된 적이 없거나, 만료됐거나, 다시 로그인해서 폐기된 토큰
+    NOT_FOUND,
+    // 이미 재발행에 쓰인 토큰, family 를 폐기했다.
+    REUSED
+}
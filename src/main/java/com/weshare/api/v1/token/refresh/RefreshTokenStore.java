@@ -0,0 +1,20 @@
+package com.weshare.api.v1.token.refresh;
+
+import java.util.Optional;
+
+/**
+ * refresh token 을 토큰 해시로 저장한다. 로그인 한번이 하나의 token family 이고 사용자마다 가장 최근 family 만 유효하다.
+ * 재발행하면 같은 family 의 현재 토큰만 바뀌고, 이미 바뀐 토큰을 다시 쓰면 family 전체를 폐기한다.
+ */
+public interface RefreshTokenStore {
+
+    // 로그인, 새 family 를 시작하고 이전 family 는 폐기한다.
+    void issue(Long userId, String refreshToken);
+
+    RefreshTokenRotation rotate(Long userId, String refreshToken, String reissuedToken);
+
+    // 현재 유효한 토큰일 때만 사용자 id 를 돌려준다.
+    Optional<Long> findUserId(String refreshToken);
+
+    void revoke(Long userId);
+}
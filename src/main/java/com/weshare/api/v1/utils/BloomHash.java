@@ -0,0 +1,35 @@
+package com.weshare.api.v1.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 원소 하나를 128비트로 해시하고 두 해시의 선형 결합으로 k개의 비트 위치를 만든다.
+ */
+public final class BloomHash {
+
+    private BloomHash() {
+    }
+
+    public static long[] positions(String element, int hashCount, long bitSize) {
+        final ByteBuffer digest = ByteBuffer.wrap(md5(element));
+        final long first = digest.getLong();
+        final long second = digest.getLong();
+
+        final long[] positions = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            positions[i] = Math.floorMod(first + i * second, bitSize);
+        }
+        return positions;
+    }
+
+    private static byte[] md5(String element) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(element.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
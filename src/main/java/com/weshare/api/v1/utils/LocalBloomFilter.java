@@ -0,0 +1,51 @@
+package com.weshare.api.v1.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 프로세스 내부 Bloom filter.
+ */
+public class LocalBloomFilter {
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    public LocalBloomFilter(long bitSize, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    // 비트를 하나라도 새로 켰으면 처음 본 원소로 판단한다.
+    public boolean put(String element) {
+        boolean changed = false;
+        for (long position : BloomHash.positions(element, hashCount, bitSize)) {
+            changed |= setBit(position);
+        }
+        return changed;
+    }
+
+    // false 이면 넣은 적이 없는 원소다.
+    public boolean mightContain(String element) {
+        for (long position : BloomHash.positions(element, hashCount, bitSize)) {
+            if ((words.get((int) (position >>> 6)) & (1L << (position & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean setBit(long position) {
+        final int index = (int) (position >>> 6);
+        final long mask = 1L << (position & 63);
+        while (true) {
+            final long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.weshare.api.v1.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MapChunkUtil {
+    // 큰 증감 map 을 한 batch 로 보내지 않도록 chunkSize 개씩 나눈다.
+    public static <K, V> List<Map<K, V>> chunk(Map<K, V> values, int chunkSize) {
+        final List<Map<K, V>> chunks = new ArrayList<>();
+        Map<K, V> chunk = new HashMap<>();
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new HashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,15 @@
+-- 장소를 day 의 값 타입 컬렉션에서 엔티티로 바꾸면서 place_id, place_order 를 추가한다.
+-- 운영 DB 는 ddl-auto 가 none 이므로 배포 전에 한 번 실행한다.
+alter table places
+    add column place_id bigint not null auto_increment primary key first,
+    add column place_order int not null default 0;
+
+-- 기존 장소는 저장된 순서(place_id 순서)대로 날짜 안의 순서를 매긴다.
+update places p
+    join (select place_id, row_number() over (partition by day_id order by place_id) - 1 as place_order
+          from places) o on o.place_id = p.place_id
+set p.place_order = o.place_order;
+
+alter table places
+    modify column day_id bigint not null,
+    add index idx_places_day_order (day_id, place_order);
@@ -0,0 +1,17 @@
+-- day, places 의 id 를 @TableGenerator 로 미리 할당받는 테이블이다.
+-- 운영 DB 는 ddl-auto 가 none 이므로 배포 전에 한 번 실행한다.
+create table if not exists id_sequence
+(
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+);
+
+-- pooled optimizer 는 next_val 을 읽고 (next_val - 100, next_val] 범위의 id 를 쓴다.
+-- 기존 id 와 겹치지 않도록 현재 최대 id 보다 할당 크기(100) 이상 앞선 값으로 시작한다.
+insert into id_sequence (sequence_name, next_val)
+select 'day', coalesce(max(day_id), 0) + 101 from day;
+insert into id_sequence (sequence_name, next_val)
+select 'place', coalesce(max(place_id), 0) + 101 from places;
+
+-- day.day_id, places.place_id 의 auto_increment 는 그대로 둔다. 애플리케이션이 id 를 직접 넣으므로 쓰이지 않는다.
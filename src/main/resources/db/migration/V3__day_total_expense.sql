@@ -0,0 +1,7 @@
+-- 날짜별 경비 합계 컬럼을 추가하고 기존 날짜는 장소 경비 합으로 채운다.
+-- 운영 DB 는 ddl-auto 가 none 이므로 배포 전에 한 번 실행한다. 채우기 전에 배포하면 여행일정 경비가 0 으로 보인다.
+alter table day
+    add column total_expense bigint not null default 0;
+
+update day d
+set d.total_expense = (select coalesce(sum(p.expense), 0) from places p where p.day_id = d.day_id);
@@ -10,12 +10,10 @@ import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.domain.user.exception.EmailDuplicateException;
 import com.weshare.api.v1.domain.user.exception.UsernameDuplicateException;
 import com.weshare.api.v1.repository.user.UserRepository;
-import com.weshare.api.v1.token.RefreshToken;
-import com.weshare.api.v1.token.RefreshTokenRepository;
 import com.weshare.api.v1.token.TokenType;
 import com.weshare.api.v1.token.jwt.JwtService;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenFromRedis;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenRedisRepository;
+import com.weshare.api.v1.token.logout.LogoutTokenCache;
+import com.weshare.api.v1.token.refresh.RefreshTokenStore;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -29,7 +27,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Date;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -47,15 +44,14 @@ class AuthenticationControllerTest extends IntegrationMvcTestSupport {
     @Autowired
     private PasswordEncoder passwordEncoder;
     @Autowired
-    private RefreshTokenRepository tokenRepository;
+    private RefreshTokenStore refreshTokenStore;
     @Autowired
-    private LogoutAccessTokenRedisRepository logoutTokenRepository;
+    private LogoutTokenCache logoutTokenCache;
     @Autowired
     private JwtService jwtService;
 
     @AfterEach
     void tearDown() {
-        tokenRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
     }
 
@@ -193,15 +189,14 @@ class AuthenticationControllerTest extends IntegrationMvcTestSupport {
         String cookieName = "Refresh-Token";
         User user = createAndSaveUser("email@asd.com", "test4", "password");
         String refreshToken = jwtService.generateRefreshToken(user, new Date(System.nanoTime()));
-        createAndSaveToken(user, refreshToken);
+        refreshTokenStore.issue(user.getId(), refreshToken);
         // when // then
         mockMvc.perform(get(PREFIX_ENDPOINT + "/reissue-token")
                         .cookie(new Cookie(cookieName, refreshToken))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
 
-        String reissueRefreshToken = tokenRepository.findTokenByUser(user).get().getToken();
-        Assertions.assertFalse(refreshToken.equals(reissueRefreshToken));
+        Assertions.assertTrue(refreshTokenStore.findUserId(refreshToken).isEmpty());
     }
 
     @Test
@@ -217,8 +212,7 @@ class AuthenticationControllerTest extends IntegrationMvcTestSupport {
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        Optional<LogoutAccessTokenFromRedis> logoutToken = logoutTokenRepository.findById(accessToken);
-        assertTrue(logoutToken.isPresent());
+        assertTrue(logoutTokenCache.isRevoked(accessToken));
     }
 
     private SignupRequest createSignupRequest(String email, String name, String password, String birthDate) {
@@ -251,16 +245,6 @@ class AuthenticationControllerTest extends IntegrationMvcTestSupport {
         return userRepository.save(user);
     }
 
-    private RefreshToken createAndSaveToken(User user, String refreshToken) {
-        RefreshToken token = RefreshToken.builder()
-                .user(user)
-                .tokenType(TokenType.BEARER)
-                .token(refreshToken)
-                .build();
-
-        return tokenRepository.save(token);
-    }
-
     private String getContent(Object value) throws JsonProcessingException {
         return objectMapper.writeValueAsString(value);
     }
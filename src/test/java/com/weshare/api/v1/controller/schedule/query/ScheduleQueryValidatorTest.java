@@ -14,4 +14,10 @@ class ScheduleQueryValidatorTest {
         Assertions.assertDoesNotThrow(() -> queryValidator.validateExpenseCondition(condition));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 21})
+    public void 자동완성_조회_개수가_범위를_벗어나면_예외가_발생한다(int size) {
+        // when // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> queryValidator.validateSuggestSize(size));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.weshare.api.v1.domain.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class DayTest {
+
+    private static final LocalDate TRAVEL_DATE = LocalDate.of(2024, 12, 3);
+
+    @Test
+    public void 장소는_순서대로_날짜에_연결된다() {
+        // when
+        Day day = createDay(TRAVEL_DATE, createPlace("지역1", 1000), createPlace("지역2", 2000));
+        // then
+        assertThat(day.getPlaces())
+                .extracting(Place::getPlaceOrder, Place::getDay)
+                .containsExactly(tuple(0, day), tuple(1, day));
+        assertThat(day.getTotalExpense()).isEqualTo(3000);
+    }
+
+    @Test
+    public void 장소를_수정하면_id_가_같은_장소는_유지하고_요청_순서대로_다시_정렬한다() {
+        // given
+        Day day = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1000), createPlace(2L, "지역2", 2000), createPlace(3L, "지역3", 3000));
+        Place first = day.getPlaces().get(0);
+        Place second = day.getPlaces().get(1);
+        Day updateDay = createDay(TRAVEL_DATE, createPlace(2L, "수정된 지역2", 5000), createPlace(1L, "지역1", 1000));
+        // when
+        day.updatePlaces(updateDay);
+        // then
+        assertThat(day.getPlaces().get(0)).isSameAs(second);
+        assertThat(day.getPlaces().get(1)).isSameAs(first);
+        assertThat(day.getPlaces())
+                .extracting(Place::getTitle, Place::getPlaceOrder)
+                .containsExactly(tuple("수정된 지역2", 0), tuple("지역1", 1));
+    }
+
+    @Test
+    public void id_가_없는_장소는_추가된다() {
+        // given
+        Day day = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1000));
+        Place first = day.getPlaces().get(0);
+        Place added = createPlace("지역2", 2000);
+        Day updateDay = createDay(TRAVEL_DATE, added, createPlace(1L, "지역1", 1000));
+        // when
+        day.updatePlaces(updateDay);
+        // then
+        assertThat(day.getPlaces()).hasSize(2);
+        assertThat(day.getPlaces().get(0)).isSameAs(added);
+        assertThat(day.getPlaces().get(1)).isSameAs(first);
+        assertThat(added.getDay()).isSameAs(day);
+        assertThat(added.getPlaceOrder()).isEqualTo(0);
+        assertThat(first.getPlaceOrder()).isEqualTo(1);
+    }
+
+    @Test
+    public void 장소를_수정하면_경비_합계를_고치고_차이를_반환한다() {
+        // given
+        Day day = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1000), createPlace(2L, "지역2", 2000), createPlace(3L, "지역3", 3000));
+        Day updateDay = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1500), createPlace("지역4", 2000));
+        // when
+        long expenseDelta = day.updatePlaces(updateDay);
+        // then
+        assertThat(expenseDelta).isEqualTo(-2500);
+        assertThat(day.getTotalExpense()).isEqualTo(3500);
+    }
+
+    @Test
+    public void 저장된_경비_합계가_어긋나_있어도_장소_경비로_다시_계산한다() {
+        // given
+        Day day = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1000), createPlace(2L, "지역2", 2000));
+        ReflectionTestUtils.setField(day, "totalExpense", 0L);
+        Day updateDay = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1000));
+        // when
+        long expenseDelta = day.updatePlaces(updateDay);
+        // then
+        assertThat(expenseDelta).isEqualTo(-2000);
+        assertThat(day.getTotalExpense()).isEqualTo(1000);
+    }
+
+    @Test
+    public void 날짜에_없는_장소_id_로_수정할_수_없다() {
+        // given
+        Day day = createDay(TRAVEL_DATE, createPlace(1L, "지역1", 1000));
+        Day updateDay = createDay(TRAVEL_DATE, createPlace(99L, "지역1", 1000));
+        // when // then
+        assertThatThrownBy(() -> day.updatePlaces(updateDay))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("장소 정보가 올바르지 않습니다.");
+    }
+
+    @Test
+    public void 다른_날짜로_장소를_수정할_수_없다() {
+        // given
+        Day day = createDay(TRAVEL_DATE, createPlace("지역1", 1000));
+        Day updateDay = createDay(TRAVEL_DATE.plusDays(1), createPlace("지역1", 1000));
+        // when // then
+        assertThatThrownBy(() -> day.updatePlaces(updateDay))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("여행일정이 올바르지 않습니다.");
+    }
+
+    private Day createDay(LocalDate travelDate, Place... places) {
+        return Day.builder()
+                .travelDate(travelDate)
+                .places(List.of(places))
+                .build();
+    }
+
+    private Place createPlace(String title, long expense) {
+        return createPlace(null, title, expense);
+    }
+
+    private Place createPlace(Long id, String title, long expense) {
+        return Place.builder()
+                .id(id)
+                .title(title)
+                .time(LocalTime.of(12, 0))
+                .memo(title + " 입니다")
+                .expense(new Expense(expense))
+                .location(new Location(152.64, 123.67))
+                .build();
+    }
+}
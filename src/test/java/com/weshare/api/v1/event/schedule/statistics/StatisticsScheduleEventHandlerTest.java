@@ -3,7 +3,6 @@ package com.weshare.api.v1.event.schedule.statistics;
 import com.weshare.api.v1.domain.schedule.Destination;
 import com.weshare.api.v1.domain.schedule.Schedule;
 import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
-import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleTotalCount;
 import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.event.schedule.ScheduleCreatedEvent;
 import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
@@ -31,15 +30,13 @@ class StatisticsScheduleEventHandlerTest extends ScheduleTestSupport {
         // given
         User user = createUserAndSave("email@test.com", "testt", "password");
         Schedule schedule = createAndSaveSchedule("title", Destination.JEJU, user);
-        ScheduleCreatedEvent scheduleCreatedEvent = new ScheduleCreatedEvent(schedule.getId(), schedule.getTotalScheduleExpense());
+        ScheduleCreatedEvent scheduleCreatedEvent = new ScheduleCreatedEvent(schedule.getId(), schedule.getDestination(), schedule.getTotalScheduleExpense());
 
-        // JPA는 java 컬렉션 처럼 동작하기 때문에 before, after는 같은 참조값이라서 할당으로 해결
-        long beforeCount = scheduleTotalCountRepository.findFirstByOrderByModifiedDate()
-                .orElse(new StatisticsScheduleTotalCount()).getTotalCount();
+        long beforeCount = scheduleTotalCountRepository.sumTotalCount();
         // when
         statisticsScheduleEventHandler.scheduleCreated(scheduleCreatedEvent);
         // then
-        long afterCount = scheduleTotalCountRepository.findFirstByOrderByModifiedDate().orElseThrow().getTotalCount();
+        long afterCount = scheduleTotalCountRepository.sumTotalCount();
         assertThat(afterCount).isEqualTo(beforeCount + 1);
         StatisticsScheduleDetails statisticsScheduleDetails = scheduleDetailsRepository.findByScheduleId(schedule.getId()).orElseThrow();
 
@@ -0,0 +1,78 @@
+package com.weshare.api.v1.repository.outbox;
+
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.domain.outbox.OutboxDeadLetter;
+import com.weshare.api.v1.domain.outbox.OutboxEvent;
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxClaimRepositoryTest extends ScheduleTestSupport {
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private OutboxClaimRepository claimRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void 앞선_이벤트를_잠근_aggregate_의_남은_이벤트를_순서대로_함께_가져온다() {
+        // given
+        OutboxEvent first = outboxEventRepository.save(new OutboxEvent(AggregateType.SCHEDULE, -1L, "ScheduleLikedEvent", "{}"));
+        OutboxEvent other = outboxEventRepository.save(new OutboxEvent(AggregateType.SCHEDULE, -2L, "ScheduleLikedEvent", "{}"));
+        OutboxEvent second = outboxEventRepository.save(new OutboxEvent(AggregateType.SCHEDULE, -1L, "ScheduleUnlikedEvent", "{}"));
+        entityManager.flush();
+        // when
+        List<Long> claimedIds = claimRepository.claim(LocalDateTime.now().plusSeconds(1), 1000)
+                .stream()
+                .map(ClaimedOutboxEvent::id)
+                .toList();
+        // then
+        assertThat(claimedIds).containsSubsequence(first.getId(), other.getId(), second.getId());
+    }
+
+    @Test
+    @Transactional
+    public void 재시도를_기다리는_이벤트_뒤의_같은_aggregate_이벤트는_가져가지_않는다() {
+        // given
+        OutboxEvent first = outboxEventRepository.save(new OutboxEvent(AggregateType.SCHEDULE, -1L, "ScheduleLikedEvent", "{}"));
+        OutboxEvent waiting = outboxEventRepository.save(new OutboxEvent(AggregateType.SCHEDULE, -1L, "ScheduleUnlikedEvent", "{}"));
+        OutboxEvent third = outboxEventRepository.save(new OutboxEvent(AggregateType.SCHEDULE, -1L, "ScheduleLikedEvent", "{}"));
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        claimRepository.retryLater(waiting.getId(), now, now.plusMinutes(1), "error");
+        // when
+        List<Long> claimedIds = claimRepository.claim(now, 1000)
+                .stream()
+                .map(ClaimedOutboxEvent::id)
+                .toList();
+        // then
+        assertThat(claimedIds).contains(first.getId()).doesNotContain(waiting.getId(), third.getId());
+    }
+
+    @Test
+    @Transactional
+    public void 재시도를_기다리는_이벤트는_가져가지_않고_횟수를_넘기면_dead_letter_로_옮긴다() {
+        // given
+        OutboxEvent event = outboxEventRepository.save(new OutboxEvent(AggregateType.COMMENT, -1L, "CommentLikedEvent", "{}"));
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        // when
+        claimRepository.retryLater(event.getId(), now, now.plusMinutes(1), "error");
+        boolean claimedBeforeBackoff = claimRepository.claimById(event.getId(), now).isPresent();
+        claimRepository.moveToDeadLetter(event.getId(), now, "error");
+        // then
+        assertThat(claimedBeforeBackoff).isFalse();
+        assertThat(claimRepository.claimById(event.getId(), now.plusMinutes(2))).isEmpty();
+        assertThat(entityManager.find(OutboxDeadLetter.class, event.getId()).getAttempts())
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,247 @@
+package com.weshare.api.v1.repository.schedule;
+
+import com.weshare.api.v1.domain.schedule.Day;
+import com.weshare.api.v1.domain.schedule.Days;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.Expense;
+import com.weshare.api.v1.domain.schedule.Location;
+import com.weshare.api.v1.domain.schedule.Place;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.repository.user.UserRepository;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10일, 하루 장소 8개인 여행일정 저장의 처리량과 저장 한 번에 준비되는 statement 수를 측정한다.
+ * 비교 기준으로 day, place 와 같은 모양이지만 id 를 IDENTITY 로 만드는 엔티티의 저장도 같은 방식으로 측정한다.
+ * IDENTITY 는 insert 마다 생성된 키를 읽어야 해서 묶어 보낼 수 없다.
+ * ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ScheduleCreateBenchmarkTest extends ScheduleTestSupport {
+    private static final int DAY_COUNT = 10;
+    private static final int PLACE_COUNT = 8;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User user;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // 이메일이 unique 이므로 측정 메서드들이 같은 회원을 쓴다.
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByEmail("bench@asd.com")
+                .orElseGet(() -> createUserAndSave("bench@asd.com", "bench", "bench"));
+    }
+
+    @Test
+    void 여행일정_저장_처리량을_측정한다() {
+        // when
+        Statistics statistics = measure("table generator", this::save);
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo((long) ITERATIONS * (1 + DAY_COUNT + DAY_COUNT * PLACE_COUNT));
+    }
+
+    // 여행일정 row 는 두 방식 모두 IDENTITY 로 같으므로 미리 하나 저장해 두고 날짜, 장소만 IDENTITY 로 저장한다.
+    @Test
+    void IDENTITY_로_날짜와_장소를_저장하는_처리량을_측정한다() {
+        // given
+        Long scheduleId = transactionTemplate.execute(status -> {
+            Schedule schedule = createSchedule();
+            schedule.initDays();
+            return scheduleRepository.save(schedule).getId();
+        });
+        // when
+        Statistics statistics = measure("identity", () -> saveWithIdentity(scheduleId));
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo((long) ITERATIONS * (DAY_COUNT + DAY_COUNT * PLACE_COUNT));
+    }
+
+    private Statistics measure(String label, Runnable save) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < WARMUP; i++) {
+            save.run();
+        }
+        statistics.clear();
+
+        long[] elapsed = new long[ITERATIONS];
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long begin = System.nanoTime();
+            save.run();
+            elapsed[i] = System.nanoTime() - begin;
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Arrays.sort(elapsed);
+
+        System.out.printf("[%s] schedules/s = %.1f, p50 = %.3fms, p99 = %.3fms%n",
+                label, ITERATIONS / seconds, percentile(elapsed, 50), percentile(elapsed, 99));
+        System.out.printf("[%s] statements/schedule = %.1f, inserts/schedule = %.1f%n",
+                label,
+                (double) statistics.getPrepareStatementCount() / ITERATIONS,
+                (double) statistics.getEntityInsertCount() / ITERATIONS);
+        return statistics;
+    }
+
+    private void save() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Schedule schedule = createSchedule();
+            schedule.initDays();
+            scheduleRepository.save(schedule);
+        });
+    }
+
+    private void saveWithIdentity(Long scheduleId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDate startDate = LocalDate.of(2024, 12, 1);
+            for (int i = 0; i < DAY_COUNT; i++) {
+                IdentityDay day = new IdentityDay(scheduleId, startDate.plusDays(i));
+                for (int order = 0; order < PLACE_COUNT; order++) {
+                    day.addPlace(new IdentityPlace("지역" + (order + 1), "지역 " + (order + 1) + "입니다", 1000, order));
+                }
+                entityManager.persist(day);
+            }
+        });
+    }
+
+    private Schedule createSchedule() {
+        return Schedule.builder()
+                .title("제목")
+                .user(user)
+                .destination(Destination.SEOUL)
+                .days(createDays())
+                .build();
+    }
+
+    private Days createDays() {
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        List<Day> days = IntStream.range(0, DAY_COUNT)
+                .mapToObj(i -> Day.builder()
+                        .travelDate(startDate.plusDays(i))
+                        .places(createPlaces())
+                        .build())
+                .toList();
+        return new Days(days, startDate, startDate.plusDays(DAY_COUNT - 1));
+    }
+
+    private List<Place> createPlaces() {
+        List<Place> places = new ArrayList<>(PLACE_COUNT);
+        for (int i = 1; i <= PLACE_COUNT; i++) {
+            places.add(Place.builder()
+                    .title("지역" + i)
+                    .time(LocalTime.of(12, 0))
+                    .memo("지역 " + i + "입니다")
+                    .expense(new Expense(1000))
+                    .location(new Location(152.64, 123.67))
+                    .build());
+        }
+        return places;
+    }
+
+    private double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @Entity
+    @Table(name = "benchmark_identity_day")
+    static class IdentityDay {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(nullable = false)
+        private Long scheduleId;
+        @Column(nullable = false)
+        private LocalDate travelDate;
+        @OneToMany(mappedBy = "day", cascade = CascadeType.ALL)
+        private List<IdentityPlace> places = new ArrayList<>();
+
+        protected IdentityDay() {
+        }
+
+        IdentityDay(Long scheduleId, LocalDate travelDate) {
+            this.scheduleId = scheduleId;
+            this.travelDate = travelDate;
+        }
+
+        void addPlace(IdentityPlace place) {
+            place.day = this;
+            places.add(place);
+        }
+    }
+
+    @Entity
+    @Table(name = "benchmark_identity_place")
+    static class IdentityPlace {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(nullable = false)
+        private String title;
+        @Column(nullable = false)
+        private LocalTime time;
+        private String memo;
+        private long expense;
+        private double latitude;
+        private double longitude;
+        private int placeOrder;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "day_id", nullable = false)
+        private IdentityDay day;
+
+        protected IdentityPlace() {
+        }
+
+        IdentityPlace(String title, String memo, long expense, int placeOrder) {
+            this.title = title;
+            this.time = LocalTime.of(12, 0);
+            this.memo = memo;
+            this.expense = expense;
+            this.latitude = 152.64;
+            this.longitude = 123.67;
+            this.placeOrder = placeOrder;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.weshare.api.v1.repository.schedule;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleViewCountRepositoryTest extends ScheduleTestSupport {
+    @Autowired
+    private ScheduleViewCountRepository viewCountRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void 여러_여행일정의_조회수를_한번에_더할_수_있다() {
+        // given
+        User user = createUserAndSave("test@asd.com", "test", "test");
+        Schedule first = createAndSaveSchedule("제목1", Destination.SEOUL, user);
+        Schedule second = createAndSaveSchedule("제목2", Destination.SEOUL, user);
+        // when
+        viewCountRepository.addViewCounts(Map.of(first.getId(), 3L, second.getId(), 1L));
+        entityManager.clear();
+        // then
+        assertThat(scheduleRepository.findById(first.getId()).orElseThrow().getViewCount()).isEqualTo(3);
+        assertThat(scheduleRepository.findById(second.getId()).orElseThrow().getViewCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,111 @@
+package com.weshare.api.v1.repository.schedule.card;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.card.ScheduleCard;
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleCursor;
+import com.weshare.api.v1.service.schedule.card.ScheduleCardRebuildService;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleCardRepositoryTest extends ScheduleTestSupport {
+    @Autowired
+    private ScheduleCardRepository scheduleCardRepository;
+    @Autowired
+    private ScheduleCardRebuildService scheduleCardRebuildService;
+
+    @Test
+    @Transactional
+    public void 원본_테이블로부터_카드를_다시_만들_수_있다() {
+        // given
+        ScheduleIds scheduleIds = getIdsAndSaveSchedule();
+        // when
+        int rebuildCount = scheduleCardRebuildService.rebuild();
+        ScheduleCard scheduleCard = scheduleCardRepository.findById(scheduleIds.scheduleIdFirst()).orElseThrow();
+        // then
+        assertThat(rebuildCount).isEqualTo(2);
+        assertThat(scheduleCard)
+                .extracting("title", "userName", "totalExpense", "likeCount", "commentCount")
+                .containsExactly("제목1", "test1", 9000L, 1, 1);
+    }
+
+    @Test
+    @Transactional
+    public void 카드_피드는_최신글_순으로_조회된다() {
+        // given
+        ScheduleIds scheduleIds = getIdsAndSaveSchedule();
+        scheduleCardRebuildService.rebuild();
+        Pageable pageRequest = PageRequest.of(0, 2, Sort.by("created-date").descending());
+        // when
+        Page<ScheduleCard> scheduleCardPage = scheduleCardRepository.findScheduleCardPage(createScheduleConditionPageDto(pageRequest));
+        // then
+        assertThat(scheduleCardPage.getContent())
+                .hasSize(2)
+                .extracting("scheduleId", "title")
+                .containsExactly(
+                        Tuple.tuple(scheduleIds.scheduleIdLast(), "제목2"),
+                        Tuple.tuple(scheduleIds.scheduleIdFirst(), "제목1")
+                );
+    }
+
+    @Test
+    @Transactional
+    public void 좋아요_수를_원자적으로_변경할_수_있다() {
+        // given
+        ScheduleIds scheduleIds = getIdsAndSaveSchedule();
+        scheduleCardRebuildService.rebuild();
+        // when
+        scheduleCardRepository.addLikeCount(scheduleIds.scheduleIdFirst(), 1);
+        scheduleCardRepository.addLikeCount(scheduleIds.scheduleIdFirst(), 1);
+        scheduleCardRepository.addLikeCount(scheduleIds.scheduleIdFirst(), -1);
+        ScheduleCard scheduleCard = scheduleCardRepository.findById(scheduleIds.scheduleIdFirst()).orElseThrow();
+        // then
+        assertThat(scheduleCard.getLikeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    public void 카드_피드는_좋아요_순으로_커서를_이어서_조회된다() {
+        // given
+        ScheduleIds scheduleIds = getIdsAndSaveSchedule();
+        scheduleCardRebuildService.rebuild();
+        scheduleCardRepository.addLikeCount(scheduleIds.scheduleIdLast(), 10);
+        Sort.Order order = Sort.Order.desc("like-count");
+        Pageable pageRequest = PageRequest.of(0, 1, Sort.by(order));
+        // when
+        Slice<ScheduleCard> firstSlice = scheduleCardRepository.findScheduleCardCursorPage(createScheduleConditionPageDto(pageRequest));
+        ScheduleCursor cursor = ScheduleCursor.of(order, firstSlice.getContent().get(0));
+        Slice<ScheduleCard> secondSlice = scheduleCardRepository.findScheduleCardCursorPage(createScheduleConditionPageDto(pageRequest, cursor));
+        // then
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(firstSlice.getContent()).extracting("scheduleId").containsExactly(scheduleIds.scheduleIdLast());
+        assertThat(secondSlice.hasNext()).isFalse();
+        assertThat(secondSlice.getContent()).extracting("scheduleId").containsExactly(scheduleIds.scheduleIdFirst());
+    }
+
+    private ScheduleConditionPageDto createScheduleConditionPageDto(Pageable pageRequest) {
+        return createScheduleConditionPageDto(pageRequest, null);
+    }
+
+    private ScheduleConditionPageDto createScheduleConditionPageDto(Pageable pageRequest, ScheduleCursor cursor) {
+        return ScheduleConditionPageDto.builder()
+                .destinations(List.of(Destination.EMPTY))
+                .expenseCondition(new ExpenseCondition(null, null))
+                .pageable(pageRequest)
+                .cursor(cursor)
+                .build();
+    }
+}
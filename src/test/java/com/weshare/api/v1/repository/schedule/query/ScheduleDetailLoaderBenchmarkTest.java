@@ -0,0 +1,85 @@
+package com.weshare.api.v1.repository.schedule.query;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티를 거치는 상세 조회와 DTO 로 바로 옮기는 상세 조회의 요청당 할당량, 지연시간을 비교한다.
+ * ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class ScheduleDetailLoaderBenchmarkTest extends ScheduleTestSupport {
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private ScheduleQueryRepository scheduleQueryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        User user = createUserAndSave("bench@asd.com", "bench", "bench");
+        scheduleId = createAndSaveSchedule("제목", Destination.SEOUL, user).getId();
+    }
+
+    @Test
+    void 엔티티_조회와_DTO_직접_조회의_요청당_할당량을_비교한다() {
+        // given
+        Supplier<ScheduleDetailDto> entityLoader = () -> scheduleQueryRepository.findScheduleDetailById(scheduleId)
+                .map(ScheduleDetailDto::from)
+                .orElseThrow();
+        Supplier<ScheduleDetailDto> dtoLoader = () -> scheduleQueryRepository.findScheduleDetailDtoById(scheduleId)
+                .orElseThrow();
+        // when
+        Result entity = measure(entityLoader);
+        Result dto = measure(dtoLoader);
+        // then
+        System.out.printf("entity alloc = %d bytes/op, p50 = %.3fms, p99 = %.3fms%n", entity.bytesPerOp(), entity.p50(), entity.p99());
+        System.out.printf("dto    alloc = %d bytes/op, p50 = %.3fms, p99 = %.3fms%n", dto.bytesPerOp(), dto.p50(), dto.p99());
+        assertThat(dto.bytesPerOp()).isPositive();
+        assertThat(entity.bytesPerOp()).isPositive();
+    }
+
+    // 요청마다 새 영속성 컨텍스트에서 조회하도록 트랜잭션을 나눈다.
+    private Result measure(Supplier<ScheduleDetailDto> loader) {
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> loader.get());
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] elapsed = new long[ITERATIONS];
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> loader.get());
+            elapsed[i] = System.nanoTime() - start;
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        Arrays.sort(elapsed);
+        return new Result(allocated / ITERATIONS, percentile(elapsed, 50), percentile(elapsed, 99));
+    }
+
+    private double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(long bytesPerOp, double p50, double p99) {
+    }
+}
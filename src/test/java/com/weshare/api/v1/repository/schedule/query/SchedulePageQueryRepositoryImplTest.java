@@ -5,6 +5,7 @@ import com.weshare.api.v1.domain.schedule.Schedule;
 import com.weshare.api.v1.init.statistics.InitStatisticsScheduleTotalCount;
 import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
 import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleCursor;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -116,4 +118,32 @@ class SchedulePageQueryRepositoryImplTest extends ScheduleTestSupport {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    @Transactional
+    public void 커서로_다음_페이지를_이어서_조회할_수_있다() {
+        // given
+        ScheduleIds scheduleIds = getIdsAndSaveSchedule();
+        Pageable pageRequest = PageRequest.of(0, 1, Sort.by("created-date").descending());
+        ScheduleConditionPageDto firstPageDto = createScheduleConditionPageDto(pageRequest);
+        Slice<Schedule> firstSlice = schedulePageQueryRepository.findScheduleCursorPage(firstPageDto);
+        ScheduleCursor cursor = ScheduleCursor.of(Sort.Order.desc("created-date"), firstSlice.getContent().get(0));
+        // when
+        ScheduleConditionPageDto nextPageDto = ScheduleConditionPageDto.builder()
+                .destinations(List.of(Destination.EMPTY))
+                .expenseCondition(new ExpenseCondition(null, null))
+                .pageable(pageRequest)
+                .cursor(cursor)
+                .build();
+        Slice<Schedule> nextSlice = schedulePageQueryRepository.findScheduleCursorPage(nextPageDto);
+        // then
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(firstSlice.getContent())
+                .extracting("id")
+                .containsExactly(scheduleIds.scheduleIdLast());
+        assertThat(nextSlice.hasNext()).isFalse();
+        assertThat(nextSlice.getContent())
+                .extracting("id")
+                .containsExactly(scheduleIds.scheduleIdFirst());
+    }
+
+}
@@ -5,10 +5,16 @@ import com.weshare.api.v1.domain.schedule.Schedule;
 import com.weshare.api.v1.domain.schedule.exception.ScheduleNotFoundException;
 import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import com.weshare.api.v1.service.schedule.query.dto.DayDetailDto;
+import com.weshare.api.v1.service.schedule.query.dto.PlaceDetailDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleDetailDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -34,6 +40,39 @@ class SimpleScheduleQueryRepositoryTest extends ScheduleTestSupport {
         assertThat(findSchedule.getUser()).isEqualTo(user);
     }
 
+    @Test
+    @Transactional
+    public void 여행일정_상세를_한번의_조회로_날짜_순서대로_조회한다() {
+        // given
+        User user = createUserAndSave("test1@asd.com", "test1", "test1");
+        Schedule schedule = createAndSaveSchedule("제목", Destination.SEOUL, user);
+        Long scheduleId = schedule.getId();
+        // when
+        ScheduleDetailDto findScheduleDetail = scheduleQueryRepository.findScheduleDetailDtoById(scheduleId).orElseThrow();
+        // then
+        assertThat(findScheduleDetail.getScheduleId()).isEqualTo(scheduleId);
+        assertThat(findScheduleDetail.getTitle()).isEqualTo("제목");
+        assertThat(findScheduleDetail.getDestination()).isEqualTo(Destination.SEOUL.getName());
+        assertThat(findScheduleDetail.getUserName()).isEqualTo("test1");
+        assertThat(findScheduleDetail.getStartDate()).isEqualTo(LocalDate.of(2024, 12, 3));
+        assertThat(findScheduleDetail.getEndDate()).isEqualTo(LocalDate.of(2024, 12, 5));
+        assertThat(findScheduleDetail.getDayDetail())
+                .extracting(DayDetailDto::getTravelDate)
+                .containsExactly(LocalDate.of(2024, 12, 3), LocalDate.of(2024, 12, 4), LocalDate.of(2024, 12, 5));
+        assertThat(findScheduleDetail.getDayDetail())
+                .allSatisfy(day -> assertThat(day.getPlaces())
+                        .extracting(PlaceDetailDto::getTitle)
+                        .containsExactlyInAnyOrder("지역1", "지역2", "지역3"));
+    }
+
+    @Test
+    public void 존재하지_않는_여행일정_상세는_빈값을_반환한다() {
+        // when
+        Optional<ScheduleDetailDto> findScheduleDetail = scheduleQueryRepository.findScheduleDetailDtoById(0L);
+        // then
+        assertThat(findScheduleDetail).isEmpty();
+    }
+
     @Test
     public void 존재하지_않는_여행일정_조회시_예외발생() {
         // when // then
@@ -0,0 +1,41 @@
+package com.weshare.api.v1.repository.schedule.query.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleCursorTest {
+
+    @Test
+    public void 인코딩한_커서를_다시_디코딩할_수_있다() {
+        // given
+        ScheduleCursor cursor = new ScheduleCursor("title", Sort.Direction.ASC, "제주|여행", 15L);
+        // when
+        ScheduleCursor decoded = ScheduleCursor.decode(cursor.encode());
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    public void 정렬_조건이_같은지_확인할_수_있다() {
+        // given
+        ScheduleCursor cursor = new ScheduleCursor("created-date", Sort.Direction.DESC, "2024-01-01T10:00", 1L);
+        // when // then
+        assertThat(cursor.isSameOrder(Sort.Order.desc("created-date"))).isTrue();
+        assertThat(cursor.isSameOrder(Sort.Order.asc("created-date"))).isFalse();
+        assertThat(cursor.isSameOrder(Sort.Order.desc("view-count"))).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid", "!!!", "dGl0bGV8QVNDfGlkfHZhbHVl"})
+    public void 올바르지_않은_커서는_예외가_발생한다(String cursor) {
+        // when // then
+        assertThatThrownBy(() -> ScheduleCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("커서가 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,77 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.statistics.ExpenseBuckets;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.statistics.ScheduleFilterCountMatrix.FilterCount;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleFilterCountRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleFilterCountMatrixTest {
+    // [0], (0, 10000), [10000], (10000, 50000), [50000], (50000, ~)
+    private final ExpenseBuckets expenseBuckets = new ExpenseBuckets(List.of(0L, 10000L, 50000L));
+    private final ScheduleFilterCountMatrix matrix = ScheduleFilterCountMatrix.of(expenseBuckets, List.of(
+            new ScheduleFilterCountRow(Destination.SEOUL, 1, 3),
+            new ScheduleFilterCountRow(Destination.SEOUL, 2, 5),
+            new ScheduleFilterCountRow(Destination.JEJU, 3, 7),
+            new ScheduleFilterCountRow(Destination.JEJU, 4, 2),
+            new ScheduleFilterCountRow(Destination.JEJU, 5, 11)
+    ));
+
+    @Test
+    public void 경비를_경계값과_경계값_사이_구간으로_나눈다() {
+        assertThat(expenseBuckets.size()).isEqualTo(6);
+        assertThat(expenseBuckets.bucketOf(0)).isEqualTo(0);
+        assertThat(expenseBuckets.bucketOf(9999)).isEqualTo(1);
+        assertThat(expenseBuckets.bucketOf(10000)).isEqualTo(2);
+        assertThat(expenseBuckets.bucketOf(10001)).isEqualTo(3);
+        assertThat(expenseBuckets.bucketOf(50000)).isEqualTo(4);
+        assertThat(expenseBuckets.bucketOf(Long.MAX_VALUE)).isEqualTo(5);
+    }
+
+    @Test
+    public void 목적지_조건만_있으면_메모리에서_모두_더한다() {
+        // when
+        FilterCount filterCount = matrix.count(List.of(Destination.SEOUL, Destination.JEJU), new ExpenseCondition(null, null));
+        // then
+        assertThat(filterCount.count()).isEqualTo(28);
+        assertThat(filterCount.partialRanges()).isEmpty();
+    }
+
+    @Test
+    public void 경계값을_양_끝으로_포함하는_경비_조건은_메모리에서_더한다() {
+        // when
+        FilterCount between = matrix.count(List.of(Destination.EMPTY), new ExpenseCondition(10000L, 50000L));
+        FilterCount upTo = matrix.count(List.of(Destination.EMPTY), new ExpenseCondition(null, 10000L));
+        // then
+        assertThat(between.count()).isEqualTo(14);
+        assertThat(between.partialRanges()).isEmpty();
+        assertThat(upTo.count()).isEqualTo(8);
+        assertThat(upTo.partialRanges()).isEmpty();
+    }
+
+    @Test
+    public void 구간_중간에_걸친_경비_조건은_걸친_범위만_돌려준다() {
+        // when
+        FilterCount filterCount = matrix.count(List.of(Destination.JEJU), new ExpenseCondition(9000L, 60000L));
+        // then
+        assertThat(filterCount.count()).isEqualTo(9);
+        assertThat(filterCount.partialRanges()).containsExactly(
+                new ExpenseCondition(9000L, 9999L),
+                new ExpenseCondition(50001L, 60000L)
+        );
+    }
+
+    @Test
+    public void 최소_경비가_최대_경비보다_크면_0이다() {
+        // when
+        FilterCount filterCount = matrix.count(List.of(Destination.EMPTY), new ExpenseCondition(20000L, 10000L));
+        // then
+        assertThat(filterCount.count()).isEqualTo(0);
+        assertThat(filterCount.partialRanges()).isEmpty();
+    }
+}
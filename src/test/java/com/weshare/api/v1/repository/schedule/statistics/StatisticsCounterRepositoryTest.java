@@ -0,0 +1,59 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.repository.like.CommentLikeTotalCountRepository;
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsCounterRepositoryTest extends ScheduleTestSupport {
+    @Autowired
+    private StatisticsCounterRepository counterRepository;
+    @Autowired
+    private StatisticsScheduleDetailsRepository scheduleDetailsRepository;
+    @Autowired
+    private CommentLikeTotalCountRepository commentLikeTotalCountRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void 여행일정_좋아요_수를_한번에_더하고_음수가_되지_않는다() {
+        // given
+        User user = createUserAndSave("test@asd.com", "test", "test");
+        Schedule first = createAndSaveSchedule("제목1", Destination.SEOUL, user);
+        Schedule second = createAndSaveSchedule("제목2", Destination.SEOUL, user);
+        scheduleDetailsRepository.save(new StatisticsScheduleDetails(first.getId()));
+        scheduleDetailsRepository.save(new StatisticsScheduleDetails(second.getId()));
+        entityManager.flush();
+        // when
+        counterRepository.addCounts(StatisticsCounterType.SCHEDULE_LIKE, Map.of(first.getId(), 3L, second.getId(), -1L));
+        entityManager.clear();
+        // then
+        assertThat(scheduleDetailsRepository.findByScheduleId(first.getId()).orElseThrow().getTotalLikeCount()).isEqualTo(3);
+        assertThat(scheduleDetailsRepository.findByScheduleId(second.getId()).orElseThrow().getTotalLikeCount()).isEqualTo(0);
+    }
+
+    @Test
+    @Transactional
+    public void 댓글_좋아요_통계가_없으면_만들고_있으면_더한다() {
+        // given
+        final Long commentId = 1L;
+        counterRepository.addCounts(StatisticsCounterType.COMMENT_LIKE, Map.of(commentId, 2L));
+        // when
+        counterRepository.addCounts(StatisticsCounterType.COMMENT_LIKE, Map.of(commentId, -1L));
+        entityManager.clear();
+        // then
+        assertThat(commentLikeTotalCountRepository.findByCommentId(commentId).orElseThrow().getLikeTotalCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.schedule.Schedule;
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsScheduleDetails;
+import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import com.weshare.api.v1.repository.schedule.statistics.dto.ScheduleStatisticsRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsReconciliationRepositoryTest extends ScheduleTestSupport {
+    @Autowired
+    private StatisticsReconciliationRepository reconciliationRepository;
+    @Autowired
+    private StatisticsScheduleDetailsRepository scheduleDetailsRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void 원본_테이블에서_여행일정_통계를_집계한다() {
+        // given
+        User user = createUserAndSave("test@asd.com", "test", "test");
+        User liker = createUserAndSave("liker@asd.com", "liker", "test");
+        Schedule schedule = createAndSaveSchedule("제목", Destination.SEOUL, user);
+        createAndSaveLike(schedule.getId(), user.getId());
+        createAndSaveLike(schedule.getId(), liker.getId());
+        createAndSaveComment(schedule.getId(), liker.getId());
+        entityManager.flush();
+        // when
+        List<ScheduleStatisticsRow> rows = reconciliationRepository.findExpectedStatistics(schedule.getId(), schedule.getId());
+        // then
+        assertThat(rows).containsExactly(new ScheduleStatisticsRow(schedule.getId(), 0, 2, 1, 9000L));
+    }
+
+    @Test
+    @Transactional
+    public void 어긋난_통계를_덮어쓴다() {
+        // given
+        User user = createUserAndSave("test@asd.com", "test", "test");
+        Schedule schedule = createAndSaveSchedule("제목", Destination.SEOUL, user);
+        scheduleDetailsRepository.save(new StatisticsScheduleDetails(schedule.getId()));
+        entityManager.flush();
+        ScheduleStatisticsRow expected = new ScheduleStatisticsRow(schedule.getId(), 3, 2, 1, 9000L);
+        // when
+        reconciliationRepository.upsert(List.of(expected));
+        // then
+        assertThat(reconciliationRepository.findCurrentStatistics(schedule.getId(), schedule.getId()))
+                .containsEntry(schedule.getId(), expected);
+    }
+}
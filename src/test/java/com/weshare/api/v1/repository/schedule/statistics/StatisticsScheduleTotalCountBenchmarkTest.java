@@ -0,0 +1,89 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여행일정 생성 트랜잭션을 흉내 내서 한 row 카운터와 shard 카운터의 동시 생성 처리량을 비교한다. ./gradlew benchmark 로만 실행된다.
+ * 생성 트랜잭션은 카운터를 올린 뒤에도 커밋까지 잠금을 잡고 있으므로 커밋 전 작업 시간을 sleep 으로 넣는다.
+ */
+@Tag("benchmark")
+class StatisticsScheduleTotalCountBenchmarkTest extends ScheduleTestSupport {
+    private static final int THREADS = 8;
+    private static final int CREATES_PER_THREAD = 100;
+    private static final long WORK_IN_TRANSACTION_MS = 2;
+    private static final int SHARDS = 16;
+
+    @Autowired
+    private StatisticsScheduleTotalCountRepository scheduleTotalCountRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 한_row_카운터와_shard_카운터의_동시_생성_처리량을_비교한다() throws Exception {
+        // when
+        double single = measure(scheduleId -> 0);
+        double sharded = measure(scheduleId -> (int) (scheduleId % SHARDS));
+        // then
+        System.out.printf("single row creates/s = %.1f%n", single);
+        System.out.printf("%d shards  creates/s = %.1f%n", SHARDS, sharded);
+    }
+
+    private double measure(LongToIntFunction shardOf) throws Exception {
+        // 커넥션 풀(기본 10개)보다 적은 스레드로 재서 커넥션 대기가 아닌 row 잠금 대기만 비교한다.
+        transactionTemplate.executeWithoutResult(status -> {
+            scheduleTotalCountRepository.resetTotalCounts();
+            for (int shard = 0; shard < SHARDS; shard++) {
+                scheduleTotalCountRepository.addTotalCount(shard, 0);
+            }
+        });
+        final AtomicLong scheduleIds = new AtomicLong();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final long start = System.nanoTime();
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < CREATES_PER_THREAD; j++) {
+                        final long scheduleId = scheduleIds.incrementAndGet();
+                        transactionTemplate.executeWithoutResult(status -> {
+                            scheduleTotalCountRepository.addTotalCount(shardOf.applyAsInt(scheduleId), 1);
+                            sleep();
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            assertThat(scheduleTotalCountRepository.sumTotalCount()).isEqualTo((long) THREADS * CREATES_PER_THREAD);
+            return THREADS * CREATES_PER_THREAD / seconds;
+        } finally {
+            executor.shutdown();
+            transactionTemplate.executeWithoutResult(status -> scheduleTotalCountRepository.resetTotalCounts());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(WORK_IN_TRANSACTION_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
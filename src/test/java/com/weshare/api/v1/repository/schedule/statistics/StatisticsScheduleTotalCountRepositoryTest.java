@@ -0,0 +1,53 @@
+package com.weshare.api.v1.repository.schedule.statistics;
+
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsScheduleTotalCountRepositoryTest extends ScheduleTestSupport {
+    @Autowired
+    private StatisticsScheduleTotalCountRepository scheduleTotalCountRepository;
+
+    @Test
+    @Transactional
+    public void 여러_shard_에_더한_개수의_합을_읽는다() {
+        // given
+        scheduleTotalCountRepository.resetTotalCounts();
+        // when
+        scheduleTotalCountRepository.addTotalCount(0, 1);
+        scheduleTotalCountRepository.addTotalCount(1, 1);
+        scheduleTotalCountRepository.addTotalCount(1, 1);
+        scheduleTotalCountRepository.addTotalCount(2, 1);
+        // then
+        assertThat(scheduleTotalCountRepository.sumTotalCount()).isEqualTo(4);
+    }
+
+    @Test
+    @Transactional
+    public void 전체_개수는_음수가_되지_않는다() {
+        // given
+        scheduleTotalCountRepository.resetTotalCounts();
+        scheduleTotalCountRepository.addTotalCount(0, 1);
+        // when
+        scheduleTotalCountRepository.addTotalCount(0, -1);
+        scheduleTotalCountRepository.addTotalCount(0, -1);
+        scheduleTotalCountRepository.addTotalCount(3, -1);
+        // then
+        assertThat(scheduleTotalCountRepository.sumTotalCount()).isEqualTo(0);
+    }
+
+    @Test
+    @Transactional
+    public void 다른_shard_에서_센_여행일정의_삭제도_전체_개수에서_빠진다() {
+        // given
+        scheduleTotalCountRepository.resetTotalCounts();
+        scheduleTotalCountRepository.addTotalCount(0, 3);
+        // when
+        scheduleTotalCountRepository.addTotalCount(5, -1);
+        // then
+        assertThat(scheduleTotalCountRepository.sumTotalCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.weshare.api.v1.repository.schedule.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingDecayTest {
+
+    @Test
+    public void 반감기가_지날때마다_새로_더하는_점수의_배율이_두배가_된다() {
+        // given
+        TrendingDecay decay = new TrendingDecay(Duration.ofHours(1));
+        Instant generationStart = Instant.ofEpochMilli(Duration.ofHours(16).toMillis() * 100);
+        // when
+        double start = decay.growthAt(generationStart);
+        double oneHourLater = decay.growthAt(generationStart.plus(Duration.ofHours(1)));
+        double threeHoursLater = decay.growthAt(generationStart.plus(Duration.ofHours(3)));
+        // then
+        assertThat(start).isEqualTo(1.0);
+        assertThat(oneHourLater).isCloseTo(2.0, within(1e-9));
+        assertThat(threeHoursLater).isCloseTo(8.0, within(1e-9));
+    }
+
+    @Test
+    public void 이전_세대_점수는_새_세대_시작_시점_기준으로_줄어든다() {
+        // given
+        TrendingDecay decay = new TrendingDecay(Duration.ofHours(1));
+        Instant lastMoment = Instant.ofEpochMilli(Duration.ofHours(16).toMillis() * 101 - 1);
+        Instant nextGeneration = lastMoment.plusMillis(1);
+        // when
+        double rebased = decay.growthAt(lastMoment) * decay.rebaseFactor();
+        // then
+        assertThat(decay.generationOf(nextGeneration)).isEqualTo(decay.generationOf(lastMoment) + 1);
+        assertThat(rebased).isCloseTo(decay.growthAt(nextGeneration), within(1e-6));
+    }
+
+    @Test
+    public void 반감기가_0이면_예외가_발생한다() {
+        // when then
+        assertThatThrownBy(() -> new TrendingDecay(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -11,12 +11,10 @@ import com.weshare.api.v1.domain.user.User;
 import com.weshare.api.v1.domain.user.exception.UsernameDuplicateException;
 import com.weshare.api.v1.repository.user.UserRepository;
 import com.weshare.api.v1.service.auth.login.AuthLoginService;
-import com.weshare.api.v1.token.RefreshToken;
-import com.weshare.api.v1.token.RefreshTokenRepository;
-import com.weshare.api.v1.token.TokenType;
+import com.weshare.api.v1.token.exception.InvalidTokenException;
 import com.weshare.api.v1.token.jwt.JwtService;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenFromRedis;
-import com.weshare.api.v1.token.logout.LogoutAccessTokenRedisRepository;
+import com.weshare.api.v1.token.logout.LogoutTokenCache;
+import com.weshare.api.v1.token.refresh.RefreshTokenStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,16 +42,14 @@ class AuthenticationServiceTest extends IntegrationTestSupport {
     @Autowired
     private PasswordEncoder passwordEncoder;
     @Autowired
-    private RefreshTokenRepository tokenRepository;
+    private RefreshTokenStore refreshTokenStore;
     @Autowired
     private JwtService jwtService;
     @Autowired
-    private LogoutAccessTokenRedisRepository logoutTokenRepository;
+    private LogoutTokenCache logoutTokenCache;
 
     @AfterEach
     void tearDown(){
-        logoutTokenRepository.deleteAll();
-        tokenRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
     }
 
@@ -149,8 +145,8 @@ class AuthenticationServiceTest extends IntegrationTestSupport {
         // when
         Optional<UserLoginDto> response = authLoginService.login(request, new Date(System.nanoTime()));
         // then
-        RefreshToken refreshToken = tokenRepository.findTokenByUser(user).get();
-        assertEquals(response.get().refreshToken(), refreshToken.getToken());
+        Optional<Long> userId = refreshTokenStore.findUserId(response.get().refreshToken());
+        assertEquals(user.getId(), userId.get());
     }
 
     @Test
@@ -176,7 +172,7 @@ class AuthenticationServiceTest extends IntegrationTestSupport {
         // given
         User user = createAndSaveUser("email@naver.com", "test5", "password");
         String refreshToken = jwtService.generateRefreshToken(user, new Date(System.nanoTime()));
-        createAndSaveRefreshToken(user, refreshToken);
+        refreshTokenStore.issue(user.getId(), refreshToken);
         // when
         UserLoginDto response = authService.reissueToken(Optional.ofNullable(refreshToken), new Date(System.nanoTime()));
         // then
@@ -190,17 +186,32 @@ class AuthenticationServiceTest extends IntegrationTestSupport {
         // given
         User user = createAndSaveUser("email@naver.com", "test6","password");
         String refreshToken = jwtService.generateRefreshToken(user, new Date(System.nanoTime()));
-        createAndSaveRefreshToken(user, refreshToken);
+        refreshTokenStore.issue(user.getId(), refreshToken);
         // when
         UserLoginDto response = authService.reissueToken(Optional.ofNullable(refreshToken), new Date(System.nanoTime()));
         // then
-        Optional<RefreshToken> userByOldToken = tokenRepository.findByTokenWithUser(refreshToken);
-        Optional<RefreshToken> userByNewToken = tokenRepository.findByTokenWithUser(response.refreshToken());
+        Optional<Long> userByOldToken = refreshTokenStore.findUserId(refreshToken);
+        Optional<Long> userByNewToken = refreshTokenStore.findUserId(response.refreshToken());
 
         assertTrue(userByOldToken.isEmpty());
         assertTrue(userByNewToken.isPresent());
     }
 
+    @Test
+    @DisplayName("재발행에 이미 사용된 refresh 토큰을 다시 사용하면 예외가 발생하고 새 refresh 토큰도 폐기된다.")
+    public void refreshToken_reuse() {
+        // given
+        User user = createAndSaveUser("email@naver.com", "test8", "password");
+        String refreshToken = jwtService.generateRefreshToken(user, new Date(System.nanoTime()));
+        refreshTokenStore.issue(user.getId(), refreshToken);
+        UserLoginDto response = authService.reissueToken(Optional.of(refreshToken), new Date(System.nanoTime()));
+        // when // then
+        assertThatThrownBy(() -> authService.reissueToken(Optional.of(refreshToken), new Date(System.nanoTime())))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("토큰이 유효하지 않습니다.");
+        assertTrue(refreshTokenStore.findUserId(response.refreshToken()).isEmpty());
+    }
+
     @Test
     @DisplayName("사용자는 로그아웃을 할 수 있다.")
     public void logout() {
@@ -212,14 +223,13 @@ class AuthenticationServiceTest extends IntegrationTestSupport {
         String jwt = jwtService.generateAccessToken(user, new Date(System.nanoTime()));
 
         LoginRequest loginRequest = createLoginRequest(email, password);
-        authLoginService.login(loginRequest, new Date(System.nanoTime()));
+        Optional<UserLoginDto> loginResponse = authLoginService.login(loginRequest, new Date(System.nanoTime()));
         // when
         authService.logout(jwt);
         // then
-        Optional<LogoutAccessTokenFromRedis> logoutToken = logoutTokenRepository.findById(jwt);
-        Optional<RefreshToken> refreshToken = tokenRepository.findTokenByUser(user);
+        Optional<Long> refreshToken = refreshTokenStore.findUserId(loginResponse.get().refreshToken());
 
-        assertTrue(logoutToken.isPresent());
+        assertTrue(logoutTokenCache.isRevoked(jwt));
         assertTrue(refreshToken.isEmpty());
     }
 
@@ -252,14 +262,4 @@ class AuthenticationServiceTest extends IntegrationTestSupport {
                 .password(password)
                 .build();
     }
-
-    private RefreshToken createAndSaveRefreshToken(User user, String refreshToken) {
-        RefreshToken token = RefreshToken.builder()
-                .token(refreshToken)
-                .tokenType(TokenType.BEARER)
-                .user(user)
-                .build();
-
-        return tokenRepository.save(token);
-    }
-}
\ No newline at end of file
+}
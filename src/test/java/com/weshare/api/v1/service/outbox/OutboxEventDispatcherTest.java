@@ -0,0 +1,59 @@
+package com.weshare.api.v1.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weshare.api.v1.domain.outbox.AggregateType;
+import com.weshare.api.v1.event.schedule.ScheduleLikedEvent;
+import com.weshare.api.v1.event.schedule.ScheduleUnlikedEvent;
+import com.weshare.api.v1.repository.outbox.ClaimedOutboxEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxEventDispatcherTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void 같은_타입이_연속된_이벤트는_기록된_순서대로_한번에_전달된다() {
+        // given
+        List<List<Object>> runs = new ArrayList<>();
+        OutboxEventHandler handler = registry -> {
+            registry.on(ScheduleLikedEvent.class, events -> runs.add(List.copyOf(events)));
+            registry.on(ScheduleUnlikedEvent.class, events -> runs.add(List.copyOf(events)));
+        };
+        OutboxEventDispatcher dispatcher = new OutboxEventDispatcher(objectMapper, List.of(handler));
+        List<ClaimedOutboxEvent> events = List.of(
+                claimed(1L, dispatcher, new ScheduleLikedEvent(1L)),
+                claimed(2L, dispatcher, new ScheduleLikedEvent(2L)),
+                claimed(3L, dispatcher, new ScheduleUnlikedEvent(1L)),
+                claimed(4L, dispatcher, new ScheduleLikedEvent(1L))
+        );
+        // when
+        dispatcher.dispatch(events);
+        // then
+        assertThat(runs).containsExactly(
+                List.of(new ScheduleLikedEvent(1L), new ScheduleLikedEvent(2L)),
+                List.of(new ScheduleUnlikedEvent(1L)),
+                List.of(new ScheduleLikedEvent(1L))
+        );
+    }
+
+    @Test
+    public void 처리할_핸들러가_없는_이벤트는_예외가_발생한다() {
+        // given
+        OutboxEventDispatcher dispatcher = new OutboxEventDispatcher(objectMapper, List.of());
+        ClaimedOutboxEvent event = claimed(1L, dispatcher, new ScheduleLikedEvent(1L));
+        // when, then
+        assertThatThrownBy(() -> dispatcher.dispatch(List.of(event)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ClaimedOutboxEvent claimed(Long id, OutboxEventDispatcher dispatcher, Object event) {
+        return new ClaimedOutboxEvent(id, AggregateType.SCHEDULE, 1L, dispatcher.getEventType(event),
+                dispatcher.serialize(event), 0, LocalDateTime.now());
+    }
+}
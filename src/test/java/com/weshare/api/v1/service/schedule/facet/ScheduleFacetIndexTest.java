@@ -0,0 +1,122 @@
+package com.weshare.api.v1.service.schedule.facet;
+
+import com.weshare.api.v1.config.schedule.ScheduleFilterCountProperties;
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.DurationCondition;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.TripDateCondition;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleFacetDto;
+import com.weshare.api.v1.service.schedule.facet.ScheduleFacetCounts.RangeCount;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleFacetIndexTest {
+
+    @Test
+    public void 목적지와_경비_조건을_비트맵_교집합으로_찾는다() {
+        // given
+        ScheduleFacetIndex index = createIndex();
+        index.upsert(createScheduleFacet(1L, 1L, Destination.SEOUL, 30000, "2024-01-10", "2024-01-11"));
+        index.upsert(createScheduleFacet(2L, 1L, Destination.SEOUL, 120000, "2024-01-10", "2024-01-11"));
+        index.upsert(createScheduleFacet(3L, 2L, Destination.JEJU, 30000, "2024-01-10", "2024-01-11"));
+        // when
+        ScheduleFacetQuery query = createQuery(List.of(Destination.SEOUL), new ExpenseCondition(null, 50000L), TripDateCondition.none(), DurationCondition.none());
+        // then
+        assertThat(index.match(query).toArray()).containsExactly(1);
+    }
+
+    @Test
+    public void 구간에_일부만_걸친_경비와_시작일은_여행일정_값으로_다시_거른다() {
+        // given
+        ScheduleFacetIndex index = createIndex();
+        index.upsert(createScheduleFacet(1L, 1L, Destination.SEOUL, 60000, "2024-03-05", "2024-03-06"));
+        index.upsert(createScheduleFacet(2L, 1L, Destination.SEOUL, 90000, "2024-03-20", "2024-03-21"));
+        index.upsert(createScheduleFacet(3L, 1L, Destination.SEOUL, 70000, "2024-03-15", "2024-03-16"));
+        // when
+        ScheduleFacetQuery query = createQuery(
+                List.of(Destination.EMPTY),
+                new ExpenseCondition(65000L, 95000L),
+                new TripDateCondition(LocalDate.parse("2024-03-10"), LocalDate.parse("2024-03-31")),
+                DurationCondition.none()
+        );
+        // then
+        assertThat(index.match(query).toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    public void 최대_기간_구간을_넘는_기간_조건도_정확하게_거른다() {
+        // given
+        ScheduleFacetIndex index = createIndex();
+        index.upsert(createScheduleFacet(1L, 1L, Destination.SEOUL, 0, "2024-01-01", "2024-01-03"));
+        index.upsert(createScheduleFacet(2L, 1L, Destination.SEOUL, 0, "2024-01-01", "2024-01-16"));
+        index.upsert(createScheduleFacet(3L, 1L, Destination.SEOUL, 0, "2024-01-01", "2024-01-25"));
+        // when then
+        assertThat(index.match(durationQuery("3~")).toArray()).containsExactly(1, 2, 3);
+        assertThat(index.match(durationQuery("16~20")).toArray()).containsExactly(2);
+        assertThat(index.match(durationQuery("~3")).toArray()).containsExactly(1);
+    }
+
+    @Test
+    public void 필터_개수는_자기_조건을_뺀_나머지_조건으로_센다() {
+        // given
+        ScheduleFacetIndex index = createIndex();
+        index.upsert(createScheduleFacet(1L, 1L, Destination.SEOUL, 30000, "2024-01-10", "2024-01-11"));
+        index.upsert(createScheduleFacet(2L, 1L, Destination.JEJU, 30000, "2024-01-10", "2024-01-12"));
+        index.upsert(createScheduleFacet(3L, 2L, Destination.JEJU, 120000, "2024-01-10", "2024-01-10"));
+        // when
+        ScheduleFacetCounts counts = index.facetCounts(createQuery(
+                List.of(Destination.SEOUL),
+                new ExpenseCondition(null, 50000L),
+                TripDateCondition.none(),
+                DurationCondition.none()
+        ));
+        // then
+        assertThat(counts.totalCount()).isEqualTo(1);
+        assertThat(counts.destinations().get(Destination.SEOUL)).isEqualTo(1);
+        assertThat(counts.destinations().get(Destination.JEJU)).isEqualTo(1);
+        assertThat(counts.expenses()).contains(new RangeCount(0, 49999L, 1), new RangeCount(100000, 199999L, 0));
+        assertThat(counts.durations()).contains(new RangeCount(2, 2L, 1), new RangeCount(3, 3L, 0));
+    }
+
+    @Test
+    public void 수정되거나_삭제된_여행일정은_이전_조건으로_찾지_않는다() {
+        // given
+        ScheduleFacetIndex index = createIndex();
+        index.upsert(createScheduleFacet(1L, 1L, Destination.SEOUL, 30000, "2024-01-10", "2024-01-11"));
+        index.upsert(createScheduleFacet(2L, 2L, Destination.SEOUL, 30000, "2024-01-10", "2024-01-11"));
+        // when
+        index.upsert(createScheduleFacet(1L, 1L, Destination.JEJU, 30000, "2024-01-10", "2024-01-11"));
+        index.removeByUserId(2L);
+        // then
+        ScheduleFacetQuery seoul = createQuery(List.of(Destination.SEOUL), new ExpenseCondition(null, null), TripDateCondition.none(), DurationCondition.none());
+        ScheduleFacetQuery jeju = createQuery(List.of(Destination.JEJU), new ExpenseCondition(null, null), TripDateCondition.none(), DurationCondition.none());
+        assertThat(index.match(seoul).isEmpty()).isTrue();
+        assertThat(index.match(jeju).toArray()).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private ScheduleFacetIndex createIndex() {
+        return new ScheduleFacetIndex(new ScheduleFilterCountProperties(List.of(0L, 50000L, 100000L, 200000L), 1000));
+    }
+
+    private ScheduleFacetQuery durationQuery(String duration) {
+        return createQuery(List.of(Destination.EMPTY), new ExpenseCondition(null, null), TripDateCondition.none(), DurationCondition.convert(duration));
+    }
+
+    private ScheduleFacetQuery createQuery(
+            List<Destination> destinations,
+            ExpenseCondition expenseCondition,
+            TripDateCondition tripDateCondition,
+            DurationCondition durationCondition
+    ) {
+        return new ScheduleFacetQuery(destinations, expenseCondition, tripDateCondition, durationCondition);
+    }
+
+    private ScheduleFacetDto createScheduleFacet(Long scheduleId, Long userId, Destination destination, long totalExpense, String startDate, String endDate) {
+        return new ScheduleFacetDto(scheduleId, userId, destination, totalExpense, LocalDate.parse(startDate), LocalDate.parse(endDate));
+    }
+}
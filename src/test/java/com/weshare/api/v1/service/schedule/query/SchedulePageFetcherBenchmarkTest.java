@@ -0,0 +1,83 @@
+package com.weshare.api.v1.service.schedule.query;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.domain.user.User;
+import com.weshare.api.v1.repository.schedule.ScheduleTestSupport;
+import com.weshare.api.v1.repository.schedule.query.ExpenseCondition;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleConditionPageDto;
+import com.weshare.api.v1.service.schedule.query.dto.SchedulePageFetchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 직렬 조회와 동시 조회의 피드 한 페이지 지연시간을 비교한다. ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class SchedulePageFetcherBenchmarkTest extends ScheduleTestSupport {
+    private static final int SCHEDULE_COUNT = 2_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private SerialSchedulePageFetcher serialSchedulePageFetcher;
+    @Autowired
+    private ConcurrentSchedulePageFetcher concurrentSchedulePageFetcher;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUserAndSave("bench@asd.com", "bench", "bench");
+        for (int i = 1; i <= SCHEDULE_COUNT; i++) {
+            createAndSaveSchedule("제목" + i, Destination.SEOUL, user);
+        }
+    }
+
+    @Test
+    void 직렬_조회와_동시_조회의_지연시간을_비교한다() {
+        // given
+        ScheduleConditionPageDto pageDto = ScheduleConditionPageDto.builder()
+                .userId(user.getId())
+                .destinations(List.of(Destination.EMPTY))
+                .expenseCondition(new ExpenseCondition(null, null))
+                .pageable(PageRequest.of(3, 12, Sort.by("created-date").descending()))
+                .build();
+        // when
+        long[] serial = measure(serialSchedulePageFetcher::fetchSchedulePage, pageDto);
+        long[] concurrent = measure(concurrentSchedulePageFetcher::fetchSchedulePage, pageDto);
+        // then
+        System.out.printf("serial     p50 = %.3fms, p99 = %.3fms%n", percentile(serial, 50), percentile(serial, 99));
+        System.out.printf("concurrent p50 = %.3fms, p99 = %.3fms%n", percentile(concurrent, 50), percentile(concurrent, 99));
+        assertThat(serial).hasSize(ITERATIONS);
+        assertThat(concurrent).hasSize(ITERATIONS);
+    }
+
+    private long[] measure(Function<ScheduleConditionPageDto, SchedulePageFetchResult> fetcher, ScheduleConditionPageDto pageDto) {
+        for (int i = 0; i < WARMUP; i++) {
+            fetcher.apply(pageDto);
+        }
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            fetcher.apply(pageDto).schedulePage().getTotalElements();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.weshare.api.v1.service.schedule.query.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleDetailResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void 캐시된_본문에_조회수와_좋아요_여부를_붙여_응답_형태로_쓴다() throws IOException {
+        // given
+        ScheduleDetailBody body = ScheduleDetailBody.of("{\"scheduleId\":1,\"title\":\"제목\"}".getBytes(StandardCharsets.UTF_8));
+        ScheduleDetailResponse response = new ScheduleDetailResponse(10, true, body);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // when
+        response.writeTo(outputStream);
+        JsonNode written = objectMapper.readTree(outputStream.toByteArray());
+        // then
+        assertThat(outputStream.size()).isEqualTo(response.contentLength());
+        assertThat(written.get("state").asInt()).isEqualTo(200);
+        assertThat(written.get("message").isNull()).isTrue();
+        assertThat(written.at("/data/scheduleId").asLong()).isEqualTo(1L);
+        assertThat(written.at("/data/title").asText()).isEqualTo("제목");
+        assertThat(written.at("/data/liked").asBoolean()).isTrue();
+        assertThat(written.at("/data/viewCount").asInt()).isEqualTo(10);
+    }
+
+    @Test
+    public void ETag_는_본문_내용이_같으면_조회수_좋아요_여부와_상관없이_같고_본문이_다르면_달라진다() {
+        // given
+        byte[] json = "{\"scheduleId\":1,\"title\":\"제목\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] changed = "{\"scheduleId\":1,\"title\":\"수정된 제목\"}".getBytes(StandardCharsets.UTF_8);
+        // when
+        String eTag = new ScheduleDetailResponse(10, false, ScheduleDetailBody.of(json)).getETag();
+        String sameETag = new ScheduleDetailResponse(11, false, ScheduleDetailBody.of(json.clone())).getETag();
+        String likedETag = new ScheduleDetailResponse(10, true, ScheduleDetailBody.of(json)).getETag();
+        String changedETag = new ScheduleDetailResponse(10, false, ScheduleDetailBody.of(changed)).getETag();
+        // then
+        assertThat(eTag).startsWith("W/\"").endsWith("\"");
+        assertThat(sameETag).isEqualTo(eTag);
+        assertThat(likedETag).isEqualTo(eTag);
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    public void JSON_객체가_아닌_본문은_캐시할_수_없다() {
+        // given
+        byte[] json = "[1,2]".getBytes(StandardCharsets.UTF_8);
+        // when // then
+        assertThatThrownBy(() -> ScheduleDetailBody.of(json))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("여행일정 상세 JSON 객체가 아닙니다.");
+    }
+}
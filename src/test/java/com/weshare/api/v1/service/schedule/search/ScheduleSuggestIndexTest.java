@@ -0,0 +1,66 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
+import com.weshare.api.v1.service.schedule.query.dto.ScheduleSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ScheduleSuggestIndexTest {
+
+    @Test
+    public void 입력_중인_한글도_접두어로_일치시킨다() {
+        // given
+        ScheduleSuggestIndex index = new ScheduleSuggestIndex();
+        index.addIfAbsent(createScheduleTitle(1L, "제주 한달 살기", Destination.JEJU, 1L), 0);
+        // when
+        List<ScheduleSuggestionDto> typingFinalConsonant = index.suggest("젲", 10);
+        List<ScheduleSuggestionDto> typingInitialConsonant = index.suggest("제ㅈ", 10);
+        List<ScheduleSuggestionDto> notMatched = index.suggest("주", 10);
+        // then
+        assertThat(typingFinalConsonant).extracting("text", "type")
+                .containsExactlyInAnyOrder(
+                        tuple("제주 한달 살기", ScheduleSuggestionDto.Type.TITLE),
+                        tuple("제주도", ScheduleSuggestionDto.Type.DESTINATION)
+                );
+        assertThat(typingInitialConsonant).hasSize(2);
+        assertThat(notMatched).isEmpty();
+    }
+
+    @Test
+    public void 인기도가_높은_순으로_상위_K개를_반환한다() {
+        // given
+        ScheduleSuggestIndex index = new ScheduleSuggestIndex();
+        index.addIfAbsent(createScheduleTitle(1L, "서울 맛집", Destination.GYEONGGI, 1L), 5);
+        index.addIfAbsent(createScheduleTitle(2L, "서울 야경", Destination.GYEONGGI, 1L), 1);
+        index.addIfAbsent(createScheduleTitle(3L, "서울 카페", Destination.GYEONGGI, 1L), 3);
+        // when
+        index.addPopularity(2L, ScheduleSuggestIndex.LIKE_WEIGHT);
+        List<ScheduleSuggestionDto> suggestions = index.suggest("서울", 2);
+        // then
+        assertThat(suggestions).extracting("text")
+                .containsExactly("서울 야경", "서울 맛집");
+    }
+
+    @Test
+    public void 제목이_수정되면_이전_제목은_추천하지_않고_인기도는_유지한다() {
+        // given
+        ScheduleSuggestIndex index = new ScheduleSuggestIndex();
+        index.addIfAbsent(createScheduleTitle(1L, "부산 여행", Destination.GYEONGSANG, 1L), 7);
+        index.addIfAbsent(createScheduleTitle(2L, "부여 여행", Destination.CHUNGCHEONG, 1L), 3);
+        // when
+        index.upsert(createScheduleTitle(1L, "부여 맛집", Destination.CHUNGCHEONG, 1L));
+        List<ScheduleSuggestionDto> suggestions = index.suggest("부", 10);
+        // then
+        assertThat(suggestions).extracting("text")
+                .containsExactly("부여 맛집", "부여 여행");
+    }
+
+    private ScheduleTitleDto createScheduleTitle(Long scheduleId, String title, Destination destination, Long userId) {
+        return new ScheduleTitleDto(scheduleId, title, destination, userId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.weshare.api.v1.service.schedule.search;
+
+import com.weshare.api.v1.domain.schedule.Destination;
+import com.weshare.api.v1.repository.schedule.query.dto.ScheduleTitleDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleTitleIndexTest {
+
+    @Test
+    public void 검색어를_포함하는_제목의_id를_오름차순으로_찾는다() {
+        // given
+        ScheduleTitleIndex index = new ScheduleTitleIndex();
+        index.upsert(createScheduleTitle(3L, "제주도 여행", 1L));
+        index.upsert(createScheduleTitle(1L, "제주 맛집 투어", 1L));
+        index.upsert(createScheduleTitle(2L, "부산 여행", 2L));
+        // when
+        long[] result = index.search("제주");
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    public void bigram이_모두_포함되어도_연속되지_않으면_찾지_않는다() {
+        // given
+        ScheduleTitleIndex index = new ScheduleTitleIndex();
+        index.upsert(createScheduleTitle(1L, "abcab", 1L));
+        index.upsert(createScheduleTitle(2L, "xabcx", 1L));
+        // when
+        long[] result = index.search("abca");
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    public void 한_글자와_대소문자가_다른_검색어도_찾는다() {
+        // given
+        ScheduleTitleIndex index = new ScheduleTitleIndex();
+        index.upsert(createScheduleTitle(1L, "Seoul Trip", 1L));
+        // when then
+        assertThat(index.search("seoul")).containsExactly(1L);
+        assertThat(index.search("T")).containsExactly(1L);
+    }
+
+    @Test
+    public void 빈_검색어와_와일드카드가_포함된_검색어는_색인으로_검색하지_않는다() {
+        // given
+        ScheduleTitleIndex index = new ScheduleTitleIndex();
+        // when then
+        assertThat(index.canSearch(null)).isFalse();
+        assertThat(index.canSearch("")).isFalse();
+        assertThat(index.canSearch("50%")).isFalse();
+        assertThat(index.canSearch("a_b")).isFalse();
+        assertThat(index.canSearch("제")).isTrue();
+        assertThat(index.canSearch(" ")).isTrue();
+    }
+
+    @Test
+    public void 제목이_수정되거나_삭제되면_이전_제목으로는_찾지_않는다() {
+        // given
+        ScheduleTitleIndex index = new ScheduleTitleIndex();
+        index.upsert(createScheduleTitle(1L, "서울 여행", 1L));
+        index.upsert(createScheduleTitle(2L, "서울 맛집", 2L));
+        // when
+        index.upsert(createScheduleTitle(1L, "강릉 여행", 1L));
+        index.removeByUserId(2L);
+        // then
+        assertThat(index.search("서울")).isEmpty();
+        assertThat(index.search("강릉")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private ScheduleTitleDto createScheduleTitle(Long scheduleId, String title, Long userId) {
+        return new ScheduleTitleDto(scheduleId, title, Destination.SEOUL, userId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType.COMMENT_LIKE;
+import static com.weshare.api.v1.domain.schedule.statistics.StatisticsCounterType.SCHEDULE_LIKE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class StatisticsCounterBufferTest {
+
+    @Test
+    public void 증감은_카운터_종류와_id별로_합산되고_0이면_제외된다() {
+        // given
+        StatisticsCounterBuffer buffer = new StatisticsCounterBuffer();
+        buffer.add(SCHEDULE_LIKE, 1L, 1);
+        buffer.add(SCHEDULE_LIKE, 1L, 1);
+        buffer.add(SCHEDULE_LIKE, 2L, 1);
+        buffer.add(SCHEDULE_LIKE, 2L, -1);
+        buffer.add(COMMENT_LIKE, Map.of(1L, -1L));
+        // when
+        Map<StatisticsCounterType, Map<Long, Long>> deltas = buffer.drain();
+        // then
+        assertThat(deltas.get(SCHEDULE_LIKE)).containsOnly(entry(1L, 2L));
+        assertThat(deltas.get(COMMENT_LIKE)).containsOnly(entry(1L, -1L));
+        assertThat(buffer.pendingSize()).isZero();
+    }
+
+    @Test
+    public void 삭제된_카운터의_남은_증감은_버려진다() {
+        // given
+        StatisticsCounterBuffer buffer = new StatisticsCounterBuffer();
+        buffer.add(COMMENT_LIKE, 1L, 1);
+        buffer.add(COMMENT_LIKE, 2L, 1);
+        // when
+        buffer.discard(COMMENT_LIKE, 1L);
+        Map<StatisticsCounterType, Map<Long, Long>> deltas = buffer.drain();
+        // then
+        assertThat(deltas.get(COMMENT_LIKE)).containsOnly(entry(2L, 1L));
+    }
+}
@@ -0,0 +1,50 @@
+package com.weshare.api.v1.service.schedule.statistics;
+
+import com.weshare.api.v1.service.outbox.OutboxRelay;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "application.schedule.statistics.reconciliation.cron=* * * * * *")
+class StatisticsReconciliationJobTest {
+
+    @MockBean
+    private StatisticsReconciliationService reconciliationService;
+    @SpyBean
+    private OutboxRelay outboxRelay;
+
+    @Test
+    void 통계_보정이_실행되는_동안에도_outbox_릴레이는_계속_실행된다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        given(reconciliationService.reconcile()).willAnswer(invocation -> {
+            started.countDown();
+            finished.await();
+            return null;
+        });
+
+        try {
+            // when
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            clearInvocations(outboxRelay);
+
+            // then
+            verify(outboxRelay, timeout(3000).atLeast(2)).relay();
+        } finally {
+            finished.countDown();
+        }
+    }
+}
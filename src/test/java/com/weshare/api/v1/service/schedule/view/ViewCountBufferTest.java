@@ -0,0 +1,52 @@
+package com.weshare.api.v1.service.schedule.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ViewCountBufferTest {
+
+    @Test
+    public void 조회수는_한_주기_뒤에_합산되어_반환된다() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+        // when
+        Map<Long, Long> first = buffer.drain();
+        Map<Long, Long> second = buffer.drain();
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).containsOnly(entry(1L, 2L), entry(2L, 1L));
+    }
+
+    @Test
+    public void 종료시에는_남아있는_조회수를_모두_반환한다() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.increment(1L);
+        buffer.drain();
+        buffer.increment(1L);
+        buffer.increment(3L);
+        // when
+        Map<Long, Long> remain = buffer.drainAll();
+        // then
+        assertThat(remain).containsOnly(entry(1L, 2L), entry(3L, 1L));
+        assertThat(buffer.drainAll()).isEmpty();
+    }
+
+    @Test
+    public void 반영에_실패한_조회수는_되돌려서_다시_반환한다() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.increment(1L);
+        // when
+        buffer.restore(Map.of(1L, 5L));
+        // then
+        assertThat(buffer.drainAll()).containsOnly(entry(1L, 6L));
+    }
+}
@@ -1,6 +1,7 @@
 package com.weshare.api.v1.token.jwt;
 
 import com.weshare.api.IntegrationTestSupport;
+import com.weshare.api.v1.domain.user.LoginUser;
 import com.weshare.api.v1.domain.user.Role;
 import com.weshare.api.v1.domain.user.Social;
 import com.weshare.api.v1.domain.user.User;
@@ -115,6 +116,53 @@ class JwtServiceImplTest extends IntegrationTestSupport {
                 .hasMessage("토큰이 유효하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("토큰의 claim 으로 인증 사용자를 만들 수 있다.")
+    public void extractLoginUser() {
+        // given
+        User user = createAndSaveUser("email@ggg.com", "pass", "kk");
+        String accessToken = jwtService.generateAccessToken(user, new Date(System.nanoTime()));
+        // when
+        LoginUser loginUser = jwtService.extractLoginUser(accessToken);
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(user.getId(), loginUser.getId()),
+                () -> Assertions.assertEquals(user.getEmail(), loginUser.getEmail()),
+                () -> Assertions.assertEquals(user.getRole(), loginUser.getRole())
+        );
+    }
+
+    @Test
+    @DisplayName("토큰을 한번 검증해서 이메일, id, 권한, 만료 시간을 가져올 수 있다.")
+    public void verify() {
+        // given
+        User user = createAndSaveUser("email@ggg.com", "pass", "kk");
+        Date issuedAt = new Date();
+        String accessToken = jwtService.generateAccessToken(user, issuedAt);
+        // when
+        VerifiedToken verifiedToken = jwtService.verify(accessToken);
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(user.getEmail(), verifiedToken.subject()),
+                () -> Assertions.assertEquals(user.getId(), verifiedToken.id()),
+                () -> Assertions.assertEquals(user.getRole(), verifiedToken.role()),
+                () -> Assertions.assertEquals(jwtService.getExpireTimeFromToken(accessToken), verifiedToken.expiration()),
+                () -> Assertions.assertFalse(verifiedToken.isExpiredAt(issuedAt.getTime()))
+        );
+    }
+
+    @Test
+    @DisplayName("만료된 토큰으로 인증 사용자를 만들면 예외가 발생한다.")
+    public void extractLoginUserTimeOutTest() {
+        // given
+        User user = createAndSaveUser("email@ggg.com", "pass", "kk");
+        String accessToken = jwtService.generateAccessToken(user, DateUtil.yesterday());
+        // when // then
+        assertThatThrownBy(() -> jwtService.extractLoginUser(accessToken))
+                .isInstanceOf(TokenTimeOutException.class)
+                .hasMessage("만료된 토큰 입니다.");
+    }
+
     @Test
     @DisplayName("토큰이 유효하면 true를 반환한다.")
     public void isTokenValid() {
@@ -0,0 +1,105 @@
+package com.weshare.api.v1.token.jwt;
+
+import com.weshare.api.v1.domain.user.Role;
+import com.weshare.api.v1.domain.user.Social;
+import com.weshare.api.v1.domain.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 한번에 토큰을 세번 파싱하던 방식과 한번만 검증하는 방식의 요청당 CPU 시간을 비교한다.
+ * ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class JwtVerifyBenchmarkTest {
+    private static final String SECRET_KEY = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaasdf";
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+
+    private String token;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("bench@asd.com")
+                .name("bench")
+                .password("bench")
+                .role(Role.USER)
+                .social(Social.DEFAULT)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        token = createJwtService(Duration.ZERO).generateAccessToken(user, new Date());
+        email = user.getEmail();
+    }
+
+    @Test
+    void 토큰을_세번_파싱할때와_한번_검증할때의_요청당_CPU_시간을_비교한다() {
+        // given
+        JwtServiceImpl jwtService = createJwtService(Duration.ZERO);
+        JwtServiceImpl cachedJwtService = createJwtService(Duration.ofSeconds(10));
+
+        // when
+        double legacy = measure(this::parseThreeTimes);
+        double single = measure(jwt -> jwtService.verify(jwt));
+        double cached = measure(jwt -> cachedJwtService.verify(jwt));
+
+        // then
+        System.out.printf("parse x3 (key rebuilt) cpu = %.1fus/op%n", legacy);
+        System.out.printf("verify once           cpu = %.1fus/op%n", single);
+        System.out.printf("verify cached         cpu = %.1fus/op%n", cached);
+        assertThat(jwtService.verify(token).subject()).isEqualTo(email);
+    }
+
+    // 예전 필터 흐름: extractEmail 후 isTokenValid 에서 extractEmail, extractExpiration 을 다시 호출했다.
+    private void parseThreeTimes(String jwt) {
+        String subject = parseWithNewKey(jwt).getSubject();
+        boolean valid = parseWithNewKey(jwt).getSubject().equals(subject)
+                && !parseWithNewKey(jwt).getExpiration().before(new Date());
+        assertThat(valid).isTrue();
+    }
+
+    private Claims parseWithNewKey(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+
+    private double measure(Consumer<String> verifier) {
+        for (int i = 0; i < WARMUP; i++) {
+            verifier.accept(token);
+        }
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long start = threadBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            verifier.accept(token);
+        }
+        return (threadBean.getCurrentThreadCpuTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private JwtServiceImpl createJwtService(Duration verifiedTokenCacheTtl) {
+        JwtServiceImpl jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "accessExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCacheTtl", verifiedTokenCacheTtl);
+        jwtService.init();
+        return jwtService;
+    }
+}
@@ -0,0 +1,86 @@
+package com.weshare.api.v1.token.logout;
+
+import com.weshare.api.IntegrationTestSupport;
+import com.weshare.api.v1.token.TokenHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class LogoutTokenCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LogoutTokenCache logoutTokenCache;
+
+    @Autowired
+    private LogoutAccessTokenRedisRepository logoutAccessTokenRedisRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        logoutAccessTokenRedisRepository.deleteAll();
+        redisTemplate.delete(LogoutTokenCache.REVOKED_KEY);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 Redis 에 저장하고 로컬에서 확인할 수 있다.")
+    public void revoke() {
+        // given
+        String token = "logoutAccessToken";
+        // when
+        logoutTokenCache.revoke(token, System.currentTimeMillis() + 60_000);
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(logoutTokenCache.isRevoked(token)),
+                () -> Assertions.assertFalse(logoutTokenCache.isRevoked("otherAccessToken")),
+                () -> Assertions.assertNotNull(redisTemplate.opsForZSet().score(LogoutTokenCache.REVOKED_KEY, TokenHash.of(token)))
+        );
+    }
+
+    @Test
+    @DisplayName("Bloom filter 를 다시 만들어도 로그아웃한 토큰은 그대로 확인할 수 있다.")
+    public void resync() {
+        // given
+        String token = "resyncAccessToken";
+        logoutTokenCache.revoke(token, System.currentTimeMillis() + 60_000);
+        // when
+        logoutTokenCache.resync();
+        // then
+        Assertions.assertTrue(logoutTokenCache.isRevoked(token));
+    }
+
+    @Test
+    @DisplayName("다시 읽을 때 만료된 로그아웃 토큰은 Redis 에서 지운다.")
+    public void resyncRemovesExpiredTokens() {
+        // given
+        String expiredHash = TokenHash.of("expiredAccessToken");
+        redisTemplate.opsForZSet().add(LogoutTokenCache.REVOKED_KEY, expiredHash, System.currentTimeMillis() - 1_000);
+        // when
+        logoutTokenCache.resync();
+        // then
+        Assertions.assertNull(redisTemplate.opsForZSet().score(LogoutTokenCache.REVOKED_KEY, expiredHash));
+    }
+
+    @Test
+    @DisplayName("예전 방식으로 저장된 로그아웃 토큰을 옮겨서 확인할 수 있다.")
+    public void migrateLegacyTokens() {
+        // given
+        String token = "legacyAccessToken";
+        logoutAccessTokenRedisRepository.save(LogoutAccessTokenFromRedis.builder()
+                .id(token)
+                .expiration(60L)
+                .build());
+        // when
+        logoutTokenCache.migrateLegacyTokens();
+        logoutTokenCache.resync();
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(logoutTokenCache.isRevoked(token)),
+                () -> Assertions.assertFalse(logoutAccessTokenRedisRepository.existsById(token))
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.weshare.api.v1.token.refresh;
+
+import com.weshare.api.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Optional;
+
+@TestPropertySource(properties = "application.security.refresh-token.store=redis")
+class RedisRefreshTokenStoreTest extends IntegrationTestSupport {
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys("refresh:*"));
+    }
+
+    @Test
+    @DisplayName("발급한 refresh 토큰으로 사용자 id 를 찾을 수 있다.")
+    public void issue() {
+        // given
+        refreshTokenStore.issue(USER_ID, "refreshToken");
+        // when
+        Optional<Long> userId = refreshTokenStore.findUserId("refreshToken");
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(refreshTokenStore instanceof RedisRefreshTokenStore),
+                () -> Assertions.assertEquals(USER_ID, userId.get())
+        );
+    }
+
+    @Test
+    @DisplayName("다시 로그인하면 이전 refresh 토큰은 사용할 수 없다.")
+    public void issueAgain() {
+        // given
+        refreshTokenStore.issue(USER_ID, "oldToken");
+        refreshTokenStore.issue(USER_ID, "newToken");
+        // when
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(USER_ID, "oldToken", "reissuedToken");
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(RefreshTokenRotation.NOT_FOUND, rotation),
+                () -> Assertions.assertTrue(refreshTokenStore.findUserId("newToken").isPresent())
+        );
+    }
+
+    @Test
+    @DisplayName("재발행하면 새 refresh 토큰만 사용할 수 있다.")
+    public void rotate() {
+        // given
+        refreshTokenStore.issue(USER_ID, "refreshToken");
+        // when
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(USER_ID, "refreshToken", "reissuedToken");
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(RefreshTokenRotation.ROTATED, rotation),
+                () -> Assertions.assertTrue(refreshTokenStore.findUserId("refreshToken").isEmpty()),
+                () -> Assertions.assertEquals(USER_ID, refreshTokenStore.findUserId("reissuedToken").get())
+        );
+    }
+
+    @Test
+    @DisplayName("재발행에 사용된 refresh 토큰을 다시 사용하면 같은 family 의 토큰을 모두 폐기한다.")
+    public void rotateReused() {
+        // given
+        refreshTokenStore.issue(USER_ID, "refreshToken");
+        refreshTokenStore.rotate(USER_ID, "refreshToken", "reissuedToken");
+        // when
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(USER_ID, "refreshToken", "otherToken");
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(RefreshTokenRotation.REUSED, rotation),
+                () -> Assertions.assertTrue(refreshTokenStore.findUserId("reissuedToken").isEmpty()),
+                () -> Assertions.assertTrue(refreshTokenStore.findUserId("otherToken").isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 refresh 토큰으로는 재발행할 수 없다.")
+    public void rotateOtherUser() {
+        // given
+        refreshTokenStore.issue(USER_ID, "refreshToken");
+        // when
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(2L, "refreshToken", "reissuedToken");
+        // then
+        Assertions.assertEquals(RefreshTokenRotation.NOT_FOUND, rotation);
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 refresh 토큰을 사용할 수 없다.")
+    public void revoke() {
+        // given
+        refreshTokenStore.issue(USER_ID, "refreshToken");
+        // when
+        refreshTokenStore.revoke(USER_ID);
+        // then
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(refreshTokenStore.findUserId("refreshToken").isEmpty()),
+                () -> Assertions.assertEquals(RefreshTokenRotation.NOT_FOUND,
+                        refreshTokenStore.rotate(USER_ID, "refreshToken", "reissuedToken"))
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.weshare.api.v1.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalBloomFilterTest {
+
+    @Test
+    public void 같은_원소는_처음_한번만_새로운_원소로_판단한다() {
+        // given
+        LocalBloomFilter filter = new LocalBloomFilter(1 << 16, 7);
+        // when
+        boolean first = filter.put("user:1#10");
+        boolean second = filter.put("user:1#10");
+        boolean other = filter.put("user:2#10");
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(other).isTrue();
+    }
+
+    @Test
+    public void 필터_크기에_맞는_원소_수에서는_오탐이_거의_없다() {
+        // given
+        LocalBloomFilter filter = new LocalBloomFilter(1 << 18, 7);
+        IntStream.range(0, 5000).forEach(i -> filter.put("user:" + i + "#1"));
+        // when
+        long falsePositives = IntStream.range(5000, 10000)
+                .filter(i -> !filter.put("user:" + i + "#1"))
+                .count();
+        // then
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    public void 넣은_원소는_항상_포함될_수_있다고_판단한다() {
+        // given
+        LocalBloomFilter filter = new LocalBloomFilter(1 << 16, 7);
+        filter.put("token-hash-1");
+        // when
+        boolean contains = filter.mightContain("token-hash-1");
+        boolean empty = new LocalBloomFilter(1 << 16, 7).mightContain("token-hash-1");
+        // then
+        assertThat(contains).isTrue();
+        assertThat(empty).isFalse();
+    }
+}